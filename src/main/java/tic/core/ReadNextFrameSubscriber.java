@@ -7,12 +7,17 @@
 
 package tic.core;
 
+import java.util.concurrent.CompletableFuture;
+
 /**
  * Subscriber implementation for receiving the next frame and error notifications.
  *
  * <p>This class listens for frame and error events, storing the latest received frame or error. It
  * provides methods to access the received data and to clear its state.
  *
+ * <p>The first frame or error received also completes the future returned by {@link
+ * #getFuture()}, so a reader can wait for it without polling.
+ *
  * <p>Common use cases include:
  *
  * <ul>
@@ -24,22 +29,30 @@ package tic.core;
  * @author Enedis Smarties team
  */
 public class ReadNextFrameSubscriber implements TICCoreSubscriber {
-  private TICCoreFrame frame;
-  private TICCoreError error;
+  private final CompletableFuture<TICCoreFrame> future;
+  private volatile TICCoreFrame frame;
+  private volatile TICCoreError error;
 
   public ReadNextFrameSubscriber() {
     super();
+    this.future = new CompletableFuture<TICCoreFrame>();
     this.clear();
   }
 
   @Override
   public void onData(TICCoreFrame frame) {
     this.frame = frame;
+    this.future.complete(frame);
   }
 
   @Override
   public void onError(TICCoreError error) {
     this.error = error;
+    int errorCode =
+        (error.getErrorCode() != null)
+            ? error.getErrorCode().intValue()
+            : TICCoreErrorCode.OTHER_REASON.getCode();
+    this.future.completeExceptionally(new TICCoreException(errorCode, error.getErrorMessage()));
   }
 
   public TICCoreFrame getData() {
@@ -50,6 +63,16 @@ public class ReadNextFrameSubscriber implements TICCoreSubscriber {
     return this.error;
   }
 
+  /**
+   * Gets the future completed by the first frame, or completed exceptionally with a {@link
+   * TICCoreException} by the first error
+   *
+   * @return the next frame future
+   */
+  public CompletableFuture<TICCoreFrame> getFuture() {
+    return this.future;
+  }
+
   public void clear() {
     this.frame = null;
     this.error = null;
@@ -7,7 +7,10 @@
 
 package tic.core;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import tic.io.modem.ModemDescriptor;
 import tic.util.task.Task;
 
@@ -61,6 +64,41 @@ public interface TICCore extends Task {
    */
   public TICCoreFrame readNextFrame(TICIdentifier identifier, int timeout) throws TICCoreException;
 
+  /**
+   * Read next frame without blocking the calling thread, with the default read timeout
+   *
+   * @param identifier the TIC identifier
+   * @return the future of the next frame read
+   * @see #readNextFrameAsync(TICIdentifier, int)
+   */
+  public CompletableFuture<TICCoreFrame> readNextFrameAsync(TICIdentifier identifier);
+
+  /**
+   * Read next frame without blocking the calling thread
+   *
+   * <p>The returned future is completed by the frame callback of the stream, or completed
+   * exceptionally with a {@link TICCoreException} if the identifier is not found, if the stream
+   * notifies an error or if no frame is read before the timeout.
+   *
+   * @param identifier the TIC identifier
+   * @param timeout the read timeout in milliseconds
+   * @return the future of the next frame read
+   */
+  public CompletableFuture<TICCoreFrame> readNextFrameAsync(TICIdentifier identifier, int timeout);
+
+  /**
+   * Read a frame not older than the given age, without blocking the calling thread
+   *
+   * <p>The future is completed immediately with the last frame received from the TIC if it was
+   * received less than maxAge milliseconds ago, otherwise it is completed like {@link
+   * #readNextFrameAsync(TICIdentifier)}.
+   *
+   * @param identifier the TIC identifier
+   * @param maxAge the maximum age of the frame in milliseconds
+   * @return the future of the frame read
+   */
+  public CompletableFuture<TICCoreFrame> readFrameAsync(TICIdentifier identifier, long maxAge);
+
   /**
    * Add a subscriber
    *
@@ -95,6 +133,29 @@ public interface TICCore extends Task {
   public void unsubscribe(TICIdentifier identifier, TICCoreSubscriber listener)
       throws TICCoreException;
 
+  /**
+   * Add a subscriber with several identifiers
+   *
+   * <p>The identifiers are resolved against the running streams together, the native ports are
+   * looked up in a single discovery pass and the missing streams are started in parallel.
+   *
+   * @param identifiers the identifiers used for subscription
+   * @param listener the subscriber reference
+   * @return the subscription failure of each identifier not subscribed, empty if all were
+   */
+  public Map<TICIdentifier, TICCoreException> subscribeAll(
+      Collection<TICIdentifier> identifiers, TICCoreSubscriber listener);
+
+  /**
+   * Remove a subscriber with several identifiers
+   *
+   * @param identifiers the identifiers used for subscription
+   * @param listener the subscriber reference
+   * @return the unsubscription failure of each identifier not unsubscribed, empty if all were
+   */
+  public Map<TICIdentifier, TICCoreException> unsubscribeAll(
+      Collection<TICIdentifier> identifiers, TICCoreSubscriber listener);
+
   /**
    * Get TICs identifier associated with a subscriber
    *
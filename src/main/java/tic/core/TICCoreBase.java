@@ -11,27 +11,42 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.function.Predicate;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.commons.lang3.SystemUtils;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import tic.core.codec.TICCoreErrorCodec;
 import tic.core.codec.TICCoreFrameCodec;
 import tic.frame.TICMode;
 import tic.io.PlugSubscriber;
+import tic.io.PortChangeMonitor;
 import tic.io.modem.ModemDescriptor;
 import tic.io.modem.ModemFinder;
 import tic.io.modem.ModemFinderBase;
 import tic.io.modem.ModemJsonCodec;
 import tic.io.modem.ModemPlugNotifier;
 import tic.io.serialport.SerialPortFinderBase;
+import tic.io.serialport.SerialPortFinderCache;
+import tic.io.serialport.UdevPortChangeMonitor;
 import tic.io.usb.UsbPortFinderBase;
-import tic.util.task.FilteredNotifier;
-import tic.util.task.FilteredNotifierBase;
-import tic.util.task.Task;
-import tic.util.task.TaskBase;
-import tic.util.time.Time;
+import tic.util.task.NotificationDispatcher;
 
 /**
  * Core implementation for managing frame reading and subscriber notifications.
@@ -52,15 +67,34 @@ import tic.util.time.Time;
 public class TICCoreBase implements TICCore, TICCoreSubscriber, PlugSubscriber<ModemDescriptor> {
   private static final int PLUG_NOTIFIER_POLLING_PERIOD = 100;
   private static final int READ_NEXT_FRAME_TIMEOUT = 30000;
-  private static final int READ_NEXT_FRAME_POLLING_PERIOD = 100;
+  private static final ScheduledExecutorService READ_TIMEOUT_SCHEDULER =
+      Executors.newSingleThreadScheduledExecutor(
+          runnable -> {
+            Thread thread = new Thread(runnable, "tic-read-timeout");
+            thread.setDaemon(true);
+            return thread;
+          });
+
+  private static final int STREAM_START_THREADS = 4;
+  private static final ExecutorService STREAM_START_EXECUTOR = createStreamStartExecutor();
 
   private ModemFinder modemFinder;
   private ModemPlugNotifier plugNotifier;
   private long plugNotifierPeriod;
+  private PortChangeMonitor plugMonitor;
   private TICMode streamMode;
   private List<String> nativePortNamesOnStart;
   private Collection<TICCoreStream> streamList;
-  private FilteredNotifier<TICIdentifier, TICCoreSubscriber> eventNotifier;
+  private TICCoreSubscriberNotifier eventNotifier;
+  private final Map<String, LastFrame> lastFramesBySerialNumber =
+      new ConcurrentHashMap<String, LastFrame>();
+  private final Map<String, LastFrame> lastFramesByPortId =
+      new ConcurrentHashMap<String, LastFrame>();
+  private final Map<String, LastFrame> lastFramesByPortName =
+      new ConcurrentHashMap<String, LastFrame>();
+  private final Map<TICCoreStream, PendingRead> pendingReads =
+      new HashMap<TICCoreStream, PendingRead>();
+  private final Map<Object, Object> streamStartLocks = new ConcurrentHashMap<Object, Object>();
   private static Logger logger = LogManager.getLogger();
 
   public TICCoreBase() {
@@ -68,9 +102,15 @@ public class TICCoreBase implements TICCore, TICCoreSubscriber, PlugSubscriber<M
   }
 
   public TICCoreBase(TICMode streamMode, List<String> nativePortNamesStart) {
+    // The serial ports are cached for a polling period, or until the next scan of the plug
+    // notifier while the port change monitor is open
     this(
-        ModemFinderBase.create(SerialPortFinderBase.getInstance(), UsbPortFinderBase.getInstance()),
+        ModemFinderBase.create(
+            new SerialPortFinderCache(
+                SerialPortFinderBase.getInstance(), PLUG_NOTIFIER_POLLING_PERIOD),
+            UsbPortFinderBase.getInstance()),
         PLUG_NOTIFIER_POLLING_PERIOD,
+        SystemUtils.IS_OS_LINUX ? new UdevPortChangeMonitor() : null,
         streamMode,
         nativePortNamesStart);
   }
@@ -80,16 +120,36 @@ public class TICCoreBase implements TICCore, TICCoreSubscriber, PlugSubscriber<M
       long plugNotifierPeriod,
       TICMode streamMode,
       List<String> nativePortNamesOnStart) {
+    this(modemFinder, plugNotifierPeriod, null, streamMode, nativePortNamesOnStart);
+  }
+
+  /**
+   * Constructs a TICCore detecting the modem plugs with the given port change monitor.
+   *
+   * @param modemFinder the finder of the modems
+   * @param plugNotifierPeriod the period (in milliseconds) of the modem scans when the monitor is
+   *     not available
+   * @param plugMonitor the monitor reporting the port changes, or null to poll the modems
+   * @param streamMode the TIC mode of the streams
+   * @param nativePortNamesOnStart the native ports whose stream is started with the TICCore
+   */
+  public TICCoreBase(
+      ModemFinder modemFinder,
+      long plugNotifierPeriod,
+      PortChangeMonitor plugMonitor,
+      TICMode streamMode,
+      List<String> nativePortNamesOnStart) {
     super();
     this.modemFinder = modemFinder;
     this.plugNotifierPeriod = plugNotifierPeriod;
+    this.plugMonitor = plugMonitor;
     if (streamMode == null) {
       throw new IllegalArgumentException("TICMode should be defined");
     }
     this.streamMode = streamMode;
     this.nativePortNamesOnStart = nativePortNamesOnStart;
     this.streamList = Collections.synchronizedSet(new HashSet<TICCoreStream>());
-    this.eventNotifier = new FilteredNotifierBase<TICIdentifier, TICCoreSubscriber>();
+    this.eventNotifier = new TICCoreSubscriberNotifier();
   }
 
   @Override
@@ -139,100 +199,175 @@ public class TICCoreBase implements TICCore, TICCoreSubscriber, PlugSubscriber<M
 
   @Override
   public TICCoreFrame readNextFrame(TICIdentifier identifier, int timeout) throws TICCoreException {
-    TICCoreFrame frame = null;
-    ModemDescriptor descriptor = null;
-    TICCoreStream stream = this.findStream(identifier);
+    try {
+      return this.readNextFrameAsync(identifier, timeout).get();
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof TICCoreException) {
+        throw (TICCoreException) e.getCause();
+      }
+      throw new TICCoreException(TICCoreErrorCode.OTHER_REASON.getCode(), e.getMessage());
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new TICCoreException(
+          TICCoreErrorCode.OTHER_REASON.getCode(), "Stream " + identifier + " read interrupted");
+    }
+  }
+
+  @Override
+  public CompletableFuture<TICCoreFrame> readNextFrameAsync(TICIdentifier identifier) {
+    return this.readNextFrameAsync(identifier, READ_NEXT_FRAME_TIMEOUT);
+  }
+
+  @Override
+  public CompletableFuture<TICCoreFrame> readFrameAsync(TICIdentifier identifier, long maxAge) {
+    TICCoreFrame frame = this.findLastFrame(identifier, maxAge);
+    if (frame != null) {
+      return CompletableFuture.completedFuture(frame);
+    }
+    return this.readNextFrameAsync(identifier);
+  }
+
+  @Override
+  public CompletableFuture<TICCoreFrame> readNextFrameAsync(TICIdentifier identifier, int timeout) {
+    CompletableFuture<TICCoreFrame> result = new CompletableFuture<TICCoreFrame>();
+    PendingRead pendingRead;
+    boolean newRead = false;
 
+    // The stream is resolved (and its port opened) outside the pending reads lock, which only
+    // guards the lookup and registration of the shared reads
+    TICCoreStream stream = this.findStream(identifier);
     if (stream == null) {
-      descriptor = this.modemFinder.findNative(identifier.getPortName());
-      if (descriptor == null) {
+      ModemDescriptor descriptor = this.modemFinder.findNative(identifier.getPortName());
+      if (descriptor != null) {
+        stream = this.startNewStream(descriptor);
+      }
+      if (stream == null) {
         TICCoreException exception =
             new TICCoreException(
                 TICCoreErrorCode.STREAM_IDENTIFIER_NOT_FOUND.getCode(),
                 "Stream " + identifier + " not found!");
         logger.error(exception.getMessage());
-        throw exception;
+        result.completeExceptionally(exception);
+        return result;
       }
-      stream = this.startNewStream(descriptor);
     }
-    ReadNextFrameSubscriber subscriber = new ReadNextFrameSubscriber();
-    stream.subscribe(subscriber);
 
-    long begin = System.nanoTime();
-    long elapsed = 0;
-    while (elapsed < timeout) {
-      if (subscriber.getError() != null) {
-        TICCoreException exception =
-            new TICCoreException(
-                subscriber.getError().getErrorCode().intValue(),
-                subscriber.getError().getErrorMessage());
-        logger.error(exception.getMessage());
-        stream.unsubscribe(subscriber);
-        this.closeNativeStream(identifier, stream, subscriber);
-        throw exception;
+    synchronized (this.pendingReads) {
+      pendingRead = this.pendingReads.get(stream);
+      if (pendingRead == null) {
+        pendingRead = new PendingRead(identifier, stream);
+        this.pendingReads.put(stream, pendingRead);
+        // Subscribed while registered, so an abandon of the read cannot precede the subscription
+        stream.subscribe(pendingRead.subscriber);
+        newRead = true;
       }
-      if (subscriber.getData() != null) {
-        frame = subscriber.getData();
-        break;
-      }
-      Time.sleep(READ_NEXT_FRAME_POLLING_PERIOD);
-      elapsed = (System.nanoTime() - begin) / 1000000;
-    }
-    stream.unsubscribe(subscriber);
-    this.closeNativeStream(identifier, stream, subscriber);
-    if (elapsed >= timeout) {
-      TICCoreException exception =
-          new TICCoreException(
-              TICCoreErrorCode.DATA_READ_TIMEOUT.getCode(),
-              "Stream " + identifier + " data read timeout !");
-      logger.error(exception.getMessage());
-      throw exception;
+      pendingRead.waiters.add(result);
+    }
+    if (newRead) {
+      PendingRead read = pendingRead;
+      read.subscriber.getFuture().whenComplete((frame, exception) -> this.completeRead(read));
     }
-    return frame;
+
+    PendingRead waitedRead = pendingRead;
+    ScheduledFuture<?> timeoutTask =
+        READ_TIMEOUT_SCHEDULER.schedule(
+            () -> this.timeoutRead(waitedRead, result, identifier), timeout, TimeUnit.MILLISECONDS);
+    result.whenComplete((frame, exception) -> timeoutTask.cancel(false));
+
+    return result;
   }
 
   @Override
   public void subscribe(TICIdentifier identifier, TICCoreSubscriber subscriber)
       throws TICCoreException {
-    TICCoreStream stream = this.findStream(identifier);
+    TICCoreException exception =
+        this.subscribeAll(Collections.singletonList(identifier), subscriber).get(identifier);
 
-    if (stream == null) {
-      ModemDescriptor descriptor = this.modemFinder.findNative(identifier.getPortName());
-      if (descriptor == null) {
-        TICCoreException exception =
-            new TICCoreException(
-                TICCoreErrorCode.STREAM_IDENTIFIER_NOT_FOUND.getCode(),
-                "Stream " + identifier + " not found!");
-        logger.error(exception.getMessage(), exception);
-        throw exception;
+    if (exception != null) {
+      throw exception;
+    }
+  }
+
+  @Override
+  public void unsubscribe(TICIdentifier identifier, TICCoreSubscriber subscriber)
+      throws TICCoreException {
+    TICCoreException exception =
+        this.unsubscribeAll(Collections.singletonList(identifier), subscriber).get(identifier);
+
+    if (exception != null) {
+      throw exception;
+    }
+  }
+
+  @Override
+  public Map<TICIdentifier, TICCoreException> subscribeAll(
+      Collection<TICIdentifier> identifiers, TICCoreSubscriber subscriber) {
+    Map<TICIdentifier, TICCoreException> failures =
+        new LinkedHashMap<TICIdentifier, TICCoreException>();
+    List<TICCoreStream> streams = this.getStreams();
+    List<TICIdentifier> missingIdentifiers = new ArrayList<TICIdentifier>();
+
+    for (TICIdentifier identifier : identifiers) {
+      if (findStream(streams, identifier) == null) {
+        missingIdentifiers.add(identifier);
       }
-      this.startNewStream(descriptor);
     }
+    if (!missingIdentifiers.isEmpty()) {
+      Map<String, ModemDescriptor> nativeDescriptors =
+          this.findNativeDescriptors(missingIdentifiers);
+      Map<String, ModemDescriptor> newStreamDescriptors =
+          new LinkedHashMap<String, ModemDescriptor>();
+      for (TICIdentifier identifier : missingIdentifiers) {
+        ModemDescriptor descriptor = nativeDescriptors.get(identifier.getPortName());
+        if (descriptor == null) {
+          TICCoreException exception =
+              new TICCoreException(
+                  TICCoreErrorCode.STREAM_IDENTIFIER_NOT_FOUND.getCode(),
+                  "Stream " + identifier + " not found!");
+          logger.error(exception.getMessage(), exception);
+          failures.put(identifier, exception);
+        } else {
+          newStreamDescriptors.put(descriptor.portName(), descriptor);
+        }
+      }
+      this.startNewStreams(newStreamDescriptors.values());
+    }
+
+    List<TICIdentifier> subscribedIdentifiers = new ArrayList<TICIdentifier>(identifiers);
+    subscribedIdentifiers.removeAll(failures.keySet());
     try {
-      this.eventNotifier.subscribe(identifier, subscriber);
+      this.eventNotifier.subscribeAll(subscribedIdentifiers, subscriber);
     } catch (Exception e) {
       logger.error(e.getMessage(), e);
     }
+
+    return failures;
   }
 
   @Override
-  public void unsubscribe(TICIdentifier identifier, TICCoreSubscriber subscriber)
-      throws TICCoreException {
-    ModemDescriptor descriptor = this.modemFinder.findNative(identifier.getPortName());
-    if (descriptor != null) {
-      if (this.nativePortNamesOnStart == null
-          || !this.nativePortNamesOnStart.contains(identifier.getPortName())) {
-        Collection<TICCoreSubscriber> subscribers = this.findSubscribers(identifier, false);
-        if (subscribers.contains(subscriber) && subscribers.size() == 1) {
-          this.stopStream(descriptor);
+  public Map<TICIdentifier, TICCoreException> unsubscribeAll(
+      Collection<TICIdentifier> identifiers, TICCoreSubscriber subscriber) {
+    Map<String, ModemDescriptor> nativeDescriptors = this.findNativeDescriptors(identifiers);
+
+    for (TICIdentifier identifier : identifiers) {
+      ModemDescriptor descriptor = nativeDescriptors.get(identifier.getPortName());
+      if (descriptor != null) {
+        if (this.nativePortNamesOnStart == null
+            || !this.nativePortNamesOnStart.contains(identifier.getPortName())) {
+          Collection<TICCoreSubscriber> subscribers = this.findSubscribers(identifier, false);
+          if (subscribers.contains(subscriber) && subscribers.size() == 1) {
+            this.stopStream(descriptor);
+          }
         }
       }
     }
     try {
-      this.eventNotifier.unsubscribe(identifier, subscriber);
+      this.eventNotifier.unsubscribeAll(identifiers, subscriber);
     } catch (Exception e) {
       logger.error(e.getMessage(), e);
     }
+
+    return Collections.emptyMap();
   }
 
   @Override
@@ -260,39 +395,42 @@ public class TICCoreBase implements TICCore, TICCoreSubscriber, PlugSubscriber<M
 
   @Override
   public void onData(TICCoreFrame frame) {
-    try {
-      logger.trace("TICCore frame:\n" + TICCoreFrameCodec.getInstance().encodeToJsonString(frame));
-    } catch (Exception e) {
-      logger.error("Error encoding TICCore frame to JSON string", e);
-    }
-    Collection<TICCoreSubscriber> subscriberList =
-        this.findSubscribers(frame.getIdentifier(), true);
-    Task task =
-        new TaskBase() {
-          @Override
-          public void process() {
-            TICCoreBase.this.notifyOnData(frame, subscriberList);
-          }
-        };
-    task.start();
+    if (logger.isTraceEnabled()) {
+      try {
+        logger.trace(
+            "TICCore frame:\n" + TICCoreFrameCodec.getInstance().encodeToJsonString(frame));
+      } catch (Exception e) {
+        logger.error("Error encoding TICCore frame to JSON string", e);
+      }
+    }
+    this.putLastFrame(frame);
+    TICCoreSubscriber[] subscribers =
+        this.eventNotifier.getMatchingSubscriberArray(frame.getIdentifier(), true);
+    if (subscribers.length > 0) {
+      NotificationDispatcher.getInstance()
+          .dispatch(
+              getLaneKey(frame.getIdentifier()), () -> this.notifyOnData(frame, subscribers));
+    }
   }
 
   @Override
   public void onError(TICCoreError error) {
-    try {
-      logger.trace("TICCore error:\n" + TICCoreErrorCodec.getInstance().encodeToJsonString(error));
-    } catch (Exception e) {
-      logger.error("Error encoding TICCore error to JSON string", e);
-    }
-    Collection<TICCoreSubscriber> subscriberList =
-        this.findSubscribers(error.getIdentifier(), true);
-    Task task =
-        new TaskBase() {
-          public void process() {
-            TICCoreBase.this.notifyOnError(error, subscriberList);
-          }
-        };
-    task.start();
+    if (logger.isTraceEnabled()) {
+      try {
+        logger.trace(
+            "TICCore error:\n" + TICCoreErrorCodec.getInstance().encodeToJsonString(error));
+      } catch (Exception e) {
+        logger.error("Error encoding TICCore error to JSON string", e);
+      }
+    }
+    TICCoreSubscriber[] subscribers =
+        this.eventNotifier.getMatchingSubscriberArray(error.getIdentifier(), true);
+    if (subscribers.length > 0) {
+      NotificationDispatcher.getInstance()
+          .dispatch(
+              getLaneKey(error.getIdentifier()),
+              () -> this.notifyOnError(error, Arrays.asList(subscribers)));
+    }
   }
 
   @Override
@@ -313,14 +451,11 @@ public class TICCoreBase implements TICCore, TICCoreSubscriber, PlugSubscriber<M
       logger.error("Error encoding ModemDescriptor to JSON string", e);
     }
     TICIdentifier identifier = this.stopStream(descriptor);
-    Task task =
-        new TaskBase() {
-          @Override
-          public void process() {
-            TICCoreBase.this.notifyOnUnpluggedAndUnsubscribe(identifier);
-          }
-        };
-    task.start();
+    if (identifier != null) {
+      this.removeLastFrames(identifier);
+    }
+    NotificationDispatcher.getInstance()
+        .dispatch(getLaneKey(identifier), () -> this.notifyOnUnpluggedAndUnsubscribe(identifier));
   }
 
   @Override
@@ -328,7 +463,8 @@ public class TICCoreBase implements TICCore, TICCoreSubscriber, PlugSubscriber<M
     if (!this.isRunning()) {
       logger.info("Starting TICCore");
       logger.debug("Starting TIC port plug notifier");
-      this.plugNotifier = new ModemPlugNotifier(this.plugNotifierPeriod, this.modemFinder);
+      this.plugNotifier =
+          new ModemPlugNotifier(this.plugNotifierPeriod, this.modemFinder, this.plugMonitor);
       this.plugNotifier.subscribe(this);
       this.plugNotifier.start();
       logger.debug("TIC port plug notifier started");
@@ -373,7 +509,17 @@ public class TICCoreBase implements TICCore, TICCoreSubscriber, PlugSubscriber<M
   }
 
   private TICCoreStream findStream(TICIdentifier identifier) {
-    for (TICCoreStream stream : this.streamList) {
+    return findStream(this.getStreams(), identifier);
+  }
+
+  private List<TICCoreStream> getStreams() {
+    synchronized (this.streamList) {
+      return new ArrayList<TICCoreStream>(this.streamList);
+    }
+  }
+
+  private static TICCoreStream findStream(List<TICCoreStream> streams, TICIdentifier identifier) {
+    for (TICCoreStream stream : streams) {
       if (stream.getIdentifier().matches(identifier)) {
         return stream;
       }
@@ -382,8 +528,24 @@ public class TICCoreBase implements TICCore, TICCoreSubscriber, PlugSubscriber<M
     return null;
   }
 
+  /** Looks up the native ports of the given identifiers with a single port enumeration. */
+  private Map<String, ModemDescriptor> findNativeDescriptors(
+      Collection<TICIdentifier> identifiers) {
+    Set<String> portNames = new HashSet<String>();
+
+    for (TICIdentifier identifier : identifiers) {
+      if (identifier.getPortName() != null) {
+        portNames.add(identifier.getPortName());
+      }
+    }
+
+    return portNames.isEmpty()
+        ? Collections.<String, ModemDescriptor>emptyMap()
+        : this.modemFinder.findNatives(portNames);
+  }
+
   private TICCoreStream findStream(ModemDescriptor descriptor) {
-    for (TICCoreStream stream : this.streamList) {
+    for (TICCoreStream stream : this.getStreams()) {
       TICIdentifier identifier = stream.getIdentifier();
       if (descriptor.portId() != null && identifier.getPortId() != null) {
         if (descriptor.portId().equals(identifier.getPortId())) {
@@ -405,6 +567,18 @@ public class TICCoreBase implements TICCore, TICCoreSubscriber, PlugSubscriber<M
       return null;
     }
 
+    // Concurrent starts of a port are serialized, so that a single stream opens it, while the
+    // ports of other meters are started in parallel
+    Object startLock =
+        this.streamStartLocks.computeIfAbsent(
+            (descriptor.portName() != null) ? descriptor.portName() : descriptor,
+            key -> new Object());
+    synchronized (startLock) {
+      return this.startStream(descriptor);
+    }
+  }
+
+  private TICCoreStream startStream(ModemDescriptor descriptor) {
     TICCoreStream existing = this.findStream(descriptor);
     if (existing != null) {
       if (existing.isRunning()) {
@@ -419,9 +593,7 @@ public class TICCoreBase implements TICCore, TICCoreSubscriber, PlugSubscriber<M
       logger.error("Error encoding ModemDescriptor to JSON string", e);
     }
     try {
-      TICCoreStream stream =
-          TICCoreStreamBase.create(
-              descriptor.portId(), descriptor.portName(), this.streamMode, this.modemFinder);
+      TICCoreStream stream = this.createStream(descriptor);
 
       stream.subscribe(this);
       stream.start();
@@ -438,6 +610,58 @@ public class TICCoreBase implements TICCore, TICCoreSubscriber, PlugSubscriber<M
     }
   }
 
+  /**
+   * Creates the stream reading the port of the given descriptor.
+   *
+   * @param descriptor the descriptor of the modem port
+   * @return the new stream, not started
+   * @throws TICCoreException if the stream cannot be created
+   */
+  protected TICCoreStream createStream(ModemDescriptor descriptor) throws TICCoreException {
+    return TICCoreStreamBase.create(
+        descriptor.portId(), descriptor.portName(), this.streamMode, this.modemFinder);
+  }
+
+  /**
+   * Starts the streams of the given descriptors, in parallel when there are several of them since
+   * opening a port may take a while. The ports are opened by the bounded stream start executor,
+   * not by the common pool, as the opening blocks.
+   */
+  private void startNewStreams(Collection<ModemDescriptor> descriptors) {
+    if (descriptors.size() == 1) {
+      this.startNewStream(descriptors.iterator().next());
+      return;
+    }
+
+    List<CompletableFuture<TICCoreStream>> starts =
+        new ArrayList<CompletableFuture<TICCoreStream>>();
+    for (ModemDescriptor descriptor : descriptors) {
+      starts.add(
+          CompletableFuture.supplyAsync(
+              () -> this.startNewStream(descriptor), STREAM_START_EXECUTOR));
+    }
+    CompletableFuture.allOf(starts.toArray(new CompletableFuture<?>[0])).join();
+  }
+
+  private static ExecutorService createStreamStartExecutor() {
+    AtomicInteger threadCount = new AtomicInteger();
+    ThreadPoolExecutor executor =
+        new ThreadPoolExecutor(
+            STREAM_START_THREADS,
+            STREAM_START_THREADS,
+            60L,
+            TimeUnit.SECONDS,
+            new LinkedBlockingQueue<Runnable>(),
+            runnable -> {
+              Thread thread =
+                  new Thread(runnable, "tic-stream-start-" + threadCount.incrementAndGet());
+              thread.setDaemon(true);
+              return thread;
+            });
+    executor.allowCoreThreadTimeOut(true);
+    return executor;
+  }
+
   private TICIdentifier stopStream(ModemDescriptor descriptor) {
     TICIdentifier identifier = null;
     TICCoreStream stream = this.findStream(descriptor);
@@ -479,17 +703,141 @@ public class TICCoreBase implements TICCore, TICCoreSubscriber, PlugSubscriber<M
     }
   }
 
+  /**
+   * Gets the notification lane of a stream: the port name is kept while the serial number of the
+   * identifier is only known once a frame has been read.
+   */
+  private static Object getLaneKey(TICIdentifier identifier) {
+    if (identifier != null && identifier.getPortName() != null) {
+      return identifier.getPortName();
+    }
+    return identifier == null ? TICCoreBase.class : identifier;
+  }
+
+  /**
+   * Ends a shared read once its subscriber got a frame or an error: the stream is released and
+   * every waiter is completed.
+   */
+  private void completeRead(PendingRead read) {
+    List<CompletableFuture<TICCoreFrame>> waiters;
+    synchronized (this.pendingReads) {
+      if (read.done) {
+        return;
+      }
+      read.done = true;
+      this.pendingReads.remove(read.stream, read);
+      waiters = new ArrayList<CompletableFuture<TICCoreFrame>>(read.waiters);
+      read.waiters.clear();
+    }
+    this.releaseRead(read);
+
+    TICCoreFrame frame = null;
+    Throwable error = null;
+    try {
+      frame = read.subscriber.getFuture().join();
+    } catch (CompletionException e) {
+      error = (e.getCause() != null) ? e.getCause() : e;
+      logger.error(error.getMessage());
+    }
+    for (CompletableFuture<TICCoreFrame> waiter : waiters) {
+      if (error != null) {
+        waiter.completeExceptionally(error);
+      } else {
+        waiter.complete(frame);
+      }
+    }
+  }
+
+  /**
+   * Fails a waiter of a shared read on timeout, the read is abandoned (and its stream released)
+   * when it has no waiter left.
+   */
+  private void timeoutRead(
+      PendingRead read, CompletableFuture<TICCoreFrame> waiter, TICIdentifier identifier) {
+    boolean abandoned = false;
+    synchronized (this.pendingReads) {
+      if (!read.waiters.remove(waiter)) {
+        return;
+      }
+      if (read.waiters.isEmpty() && !read.done) {
+        read.done = true;
+        this.pendingReads.remove(read.stream, read);
+        abandoned = true;
+      }
+    }
+    if (abandoned) {
+      this.releaseRead(read);
+    }
+    TICCoreException exception =
+        new TICCoreException(
+            TICCoreErrorCode.DATA_READ_TIMEOUT.getCode(),
+            "Stream " + identifier + " data read timeout !");
+    logger.error(exception.getMessage());
+    waiter.completeExceptionally(exception);
+  }
+
+  private void releaseRead(PendingRead read) {
+    read.stream.unsubscribe(read.subscriber);
+    this.closeNativeStream(read.identifier, read.stream, read.subscriber);
+  }
+
+  /** Keeps the frame as the last one of its serial number, port id and port name */
+  private void putLastFrame(TICCoreFrame frame) {
+    TICIdentifier identifier = frame.getIdentifier();
+    LastFrame lastFrame = new LastFrame(frame);
+
+    if (identifier.getSerialNumber() != null) {
+      this.lastFramesBySerialNumber.put(identifier.getSerialNumber(), lastFrame);
+    }
+    if (identifier.getPortId() != null) {
+      this.lastFramesByPortId.put(identifier.getPortId(), lastFrame);
+    }
+    if (identifier.getPortName() != null) {
+      this.lastFramesByPortName.put(identifier.getPortName(), lastFrame);
+    }
+  }
+
+  private void removeLastFrames(TICIdentifier identifier) {
+    if (identifier.getSerialNumber() != null) {
+      this.lastFramesBySerialNumber.remove(identifier.getSerialNumber());
+    }
+    if (identifier.getPortId() != null) {
+      this.lastFramesByPortId.remove(identifier.getPortId());
+    }
+    if (identifier.getPortName() != null) {
+      this.lastFramesByPortName.remove(identifier.getPortName());
+    }
+  }
+
+  /**
+   * Finds the last frame matching the identifier and received for less than maxAge: the frames
+   * kept under the serial number, port id and port name of the identifier are the only candidates.
+   */
+  private TICCoreFrame findLastFrame(TICIdentifier identifier, long maxAge) {
+    long now = System.nanoTime();
+    LastFrame[] candidates = {
+      getLastFrame(this.lastFramesBySerialNumber, identifier.getSerialNumber()),
+      getLastFrame(this.lastFramesByPortId, identifier.getPortId()),
+      getLastFrame(this.lastFramesByPortName, identifier.getPortName())
+    };
+
+    for (LastFrame lastFrame : candidates) {
+      if (lastFrame != null
+          && identifier.matches(lastFrame.frame.getIdentifier())
+          && now - lastFrame.receptionTime <= TimeUnit.MILLISECONDS.toNanos(maxAge)) {
+        return lastFrame.frame;
+      }
+    }
+    return null;
+  }
+
+  private static LastFrame getLastFrame(Map<String, LastFrame> lastFrames, String key) {
+    return (key != null) ? lastFrames.get(key) : null;
+  }
+
   private Collection<TICCoreSubscriber> findSubscribers(
       TICIdentifier sourceIdentifier, boolean globalSubscribers) {
-    Predicate<TICIdentifier> predicate =
-        new Predicate<TICIdentifier>() {
-          @Override
-          public boolean test(TICIdentifier identifier) {
-            return sourceIdentifier.matches(identifier);
-          }
-        };
-
-    return this.eventNotifier.getSubscribers(predicate, globalSubscribers);
+    return this.eventNotifier.getMatchingSubscribers(sourceIdentifier, globalSubscribers);
   }
 
   private void notifyOnUnpluggedAndUnsubscribe(TICIdentifier identifier) {
@@ -504,8 +852,8 @@ public class TICCoreBase implements TICCore, TICCoreSubscriber, PlugSubscriber<M
     this.unsubscribe(subscriberList);
   }
 
-  private void notifyOnData(TICCoreFrame frame, Collection<TICCoreSubscriber> subscriberList) {
-    for (TICCoreSubscriber subscriber : subscriberList) {
+  private void notifyOnData(TICCoreFrame frame, TICCoreSubscriber[] subscribers) {
+    for (TICCoreSubscriber subscriber : subscribers) {
       subscriber.onData(frame);
     }
   }
@@ -521,4 +869,29 @@ public class TICCoreBase implements TICCore, TICCoreSubscriber, PlugSubscriber<M
       this.unsubscribe(subscriber);
     }
   }
+
+  /** Read of the next frame of a stream, shared by all its concurrent readers */
+  private static class PendingRead {
+    private final TICIdentifier identifier;
+    private final TICCoreStream stream;
+    private final ReadNextFrameSubscriber subscriber = new ReadNextFrameSubscriber();
+    private final List<CompletableFuture<TICCoreFrame>> waiters =
+        new ArrayList<CompletableFuture<TICCoreFrame>>();
+    private boolean done;
+
+    private PendingRead(TICIdentifier identifier, TICCoreStream stream) {
+      this.identifier = identifier;
+      this.stream = stream;
+    }
+  }
+
+  /** Last frame received from a stream, with its reception time */
+  private static class LastFrame {
+    private final TICCoreFrame frame;
+    private final long receptionTime = System.nanoTime();
+
+    private LastFrame(TICCoreFrame frame) {
+      this.frame = frame;
+    }
+  }
 }
@@ -35,14 +35,34 @@ public class TICCoreFrame {
   private final TICMode mode;
   private final LocalDateTime captureDateTime;
   private final TICFrame frame;
+  private final long sequenceNumber;
 
   public TICCoreFrame(
       TICIdentifier identifier, TICMode mode, LocalDateTime captureDateTime, TICFrame frame) {
+    this(identifier, mode, captureDateTime, frame, 0);
+  }
+
+  /**
+   * Constructor setting parameters to specific values
+   *
+   * @param identifier the identifier of the stream the frame has been read from
+   * @param mode the mode
+   * @param captureDateTime the capture date time
+   * @param frame the content
+   * @param sequenceNumber the rank of the frame in its stream (starting at 1, 0 if not sequenced)
+   */
+  public TICCoreFrame(
+      TICIdentifier identifier,
+      TICMode mode,
+      LocalDateTime captureDateTime,
+      TICFrame frame,
+      long sequenceNumber) {
     this.identifier = Objects.requireNonNull(identifier, "identifier must not be null");
     this.mode = Objects.requireNonNull(mode, "mode must not be null");
     this.captureDateTime =
         Objects.requireNonNull(captureDateTime, "captureDateTime must not be null");
     this.frame = Objects.requireNonNull(frame, "frame must not be null");
+    this.sequenceNumber = sequenceNumber;
   }
 
   /**
@@ -81,6 +101,18 @@ public class TICCoreFrame {
     return this.frame;
   }
 
+  /**
+   * Get sequence number
+   *
+   * <p>Frames read from a stream are numbered in increasing order, and notified to subscribers in
+   * that order.
+   *
+   * @return the sequence number, 0 if the frame is not sequenced
+   */
+  public long getSequenceNumber() {
+    return this.sequenceNumber;
+  }
+
   @Override
   public String toString() {
     return "{identifier="
@@ -89,6 +121,8 @@ public class TICCoreFrame {
         + this.mode
         + ", captureDateTime="
         + this.captureDateTime
+        + ", sequenceNumber="
+        + this.sequenceNumber
         + ", frame="
         + this.frame
         + "}";
@@ -9,6 +9,7 @@ package tic.core;
 
 import java.time.LocalDateTime;
 import java.util.Collection;
+import java.util.concurrent.atomic.AtomicLong;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import tic.frame.TICFrame;
@@ -22,9 +23,8 @@ import tic.stream.configuration.TICStreamConfiguration;
 import tic.stream.identifier.SerialPortName;
 import tic.stream.identifier.TICStreamIdentifier;
 import tic.util.task.Notifier;
+import tic.util.task.NotificationDispatcher;
 import tic.util.task.NotifierBase;
-import tic.util.task.Task;
-import tic.util.task.TaskBase;
 
 /**
  * Core stream implementation for frame acquisition and subscriber notifications.
@@ -49,6 +49,7 @@ public class TICCoreStreamBase implements TICCoreStream {
   private final TICStream stream;
   private final TICStreamListener streamListener;
   private final Notifier<TICCoreSubscriber> notifier;
+  private final AtomicLong sequenceNumber = new AtomicLong();
   private static Logger logger = LogManager.getLogger();
 
   public static TICCoreStream create(
@@ -216,8 +217,15 @@ public class TICCoreStreamBase implements TICCoreStream {
       frameIdentifier = this.identifier;
     }
 
+    // Frames are notified one at a time by the stream, so they are numbered and dispatched in
+    // read order
     TICCoreFrame frame =
-        new TICCoreFrame(frameIdentifier, ticFrame.getMode(), LocalDateTime.now(), ticFrame);
+        new TICCoreFrame(
+            frameIdentifier,
+            ticFrame.getMode(),
+            LocalDateTime.now(),
+            ticFrame,
+            this.sequenceNumber.incrementAndGet());
     this.notifyOnData(frame);
   }
 
@@ -237,20 +245,18 @@ public class TICCoreStreamBase implements TICCoreStream {
     }
 
     Collection<TICCoreSubscriber> subscriberList = this.notifier.getSubscribers();
-    Task task =
-        new TaskBase() {
-          @Override
-          public void process() {
-            for (TICCoreSubscriber subscriber : subscriberList) {
-              try {
-                subscriber.onData(frame);
-              } catch (Exception exception) {
-                logger.error("TICCoreStream subscriber onData aborted", exception);
+    NotificationDispatcher.getInstance()
+        .dispatch(
+            this,
+            () -> {
+              for (TICCoreSubscriber subscriber : subscriberList) {
+                try {
+                  subscriber.onData(frame);
+                } catch (Exception exception) {
+                  logger.error("TICCoreStream subscriber onData aborted", exception);
+                }
               }
-            }
-          }
-        };
-    task.start();
+            });
   }
 
   private void notifyOnError(TICCoreError error) {
@@ -259,19 +265,17 @@ public class TICCoreStreamBase implements TICCoreStream {
     }
 
     Collection<TICCoreSubscriber> subscriberList = this.notifier.getSubscribers();
-    Task task =
-        new TaskBase() {
-          @Override
-          public void process() {
-            for (TICCoreSubscriber subscriber : subscriberList) {
-              try {
-                subscriber.onError(error);
-              } catch (Exception exception) {
-                logger.error("TICCoreStream subscriber onError aborted", exception);
+    NotificationDispatcher.getInstance()
+        .dispatch(
+            this,
+            () -> {
+              for (TICCoreSubscriber subscriber : subscriberList) {
+                try {
+                  subscriber.onError(error);
+                } catch (Exception exception) {
+                  logger.error("TICCoreStream subscriber onError aborted", exception);
+                }
               }
-            }
-          }
-        };
-    task.start();
+            });
   }
 }
@@ -0,0 +1,162 @@
+// Copyright (C) 2025 Enedis Smarties team <dt-dsi-nexus-lab-smarties@enedis.fr>
+//
+// SPDX-FileContributor: Jehan BOUSCH
+// SPDX-FileContributor: Mathieu SABARTHES
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package tic.core;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import tic.util.task.FilteredNotifierBase;
+
+/**
+ * Notifier of the TICCore subscribers, indexed by TIC identifier.
+ *
+ * <p>The subscription filters are indexed by serial number, port id and port name, so the
+ * subscribers matching a source identifier (see {@link TICIdentifier#matches(TICIdentifier)}) are
+ * found without scanning every filter. The index is rebuilt on each subscription change and
+ * published through a volatile reference.
+ *
+ * <p>The subscribers found for a source identifier (the routing key of the frames and errors of a
+ * stream) are cached in the index as an immutable array, so routing an event to its subscribers
+ * takes no lock and allocates nothing once the array has been computed.
+ *
+ * @author Enedis Smarties team
+ */
+public class TICCoreSubscriberNotifier
+    extends FilteredNotifierBase<TICIdentifier, TICCoreSubscriber> {
+  /** Maximum number of source identifiers whose subscriber lists are cached */
+  private static final int MAX_CACHED_SOURCES = 256;
+
+  private static final TICCoreSubscriber[] NO_SUBSCRIBERS = new TICCoreSubscriber[0];
+
+  private volatile Index index = new Index();
+
+  /** Default constructor */
+  public TICCoreSubscriberNotifier() {
+    super();
+  }
+
+  /**
+   * Gets the subscribers whose filter matches the given source identifier.
+   *
+   * @param source the identifier of the TIC the event comes from
+   * @param includeGlobal if true, the unfiltered subscribers are included
+   * @return an immutable list of the matching subscribers
+   */
+  public List<TICCoreSubscriber> getMatchingSubscribers(
+      TICIdentifier source, boolean includeGlobal) {
+    return Collections.unmodifiableList(
+        Arrays.asList(this.getMatchingSubscriberArray(source, includeGlobal)));
+  }
+
+  /**
+   * Gets the subscribers whose filter matches the given source identifier, as the array shared by
+   * all the lookups of this identifier until the next subscription change.
+   *
+   * @param source the identifier of the TIC the event comes from
+   * @param includeGlobal if true, the unfiltered subscribers are included
+   * @return the matching subscribers, the array must not be modified
+   */
+  public TICCoreSubscriber[] getMatchingSubscriberArray(
+      TICIdentifier source, boolean includeGlobal) {
+    Index currentIndex = this.index;
+
+    if (source == null) {
+      return includeGlobal ? currentIndex.globalSubscribers : NO_SUBSCRIBERS;
+    }
+    return currentIndex.getMatchingSubscribers(source, includeGlobal);
+  }
+
+  @Override
+  protected void onSubscriptionsChanged() {
+    Index newIndex = new Index();
+
+    for (TICIdentifier filter : this.subscribersFiltered.keySet()) {
+      newIndex.add(filter, this.subscribersFiltered.get(filter));
+    }
+    newIndex.globalSubscribers = this.subscribersUnfiltered.toArray(NO_SUBSCRIBERS);
+    this.index = newIndex;
+  }
+
+  private static class Index {
+    private final Map<String, List<TICIdentifier>> filtersBySerialNumber = new HashMap<>();
+    private final Map<String, List<TICIdentifier>> filtersByPortId = new HashMap<>();
+    private final Map<String, List<TICIdentifier>> filtersByPortName = new HashMap<>();
+    private final Map<TICIdentifier, Collection<TICCoreSubscriber>> subscribersByFilter =
+        new HashMap<>();
+    private TICCoreSubscriber[] globalSubscribers = NO_SUBSCRIBERS;
+    private final Map<TICIdentifier, TICCoreSubscriber[]> filteredCache =
+        new ConcurrentHashMap<>();
+    private final Map<TICIdentifier, TICCoreSubscriber[]> allCache = new ConcurrentHashMap<>();
+
+    private void add(TICIdentifier filter, Collection<TICCoreSubscriber> subscribers) {
+      if (subscribers == null || subscribers.isEmpty()) {
+        return;
+      }
+      this.subscribersByFilter.put(filter, new ArrayList<TICCoreSubscriber>(subscribers));
+      addFilter(this.filtersBySerialNumber, filter.getSerialNumber(), filter);
+      addFilter(this.filtersByPortId, filter.getPortId(), filter);
+      addFilter(this.filtersByPortName, filter.getPortName(), filter);
+    }
+
+    private TICCoreSubscriber[] getMatchingSubscribers(
+        TICIdentifier source, boolean includeGlobal) {
+      Map<TICIdentifier, TICCoreSubscriber[]> cache =
+          includeGlobal ? this.allCache : this.filteredCache;
+      TICCoreSubscriber[] subscribers = cache.get(source);
+
+      if (subscribers == null) {
+        subscribers = this.findMatchingSubscribers(source, includeGlobal);
+        if (cache.size() < MAX_CACHED_SOURCES) {
+          cache.put(source, subscribers);
+        }
+      }
+      return subscribers;
+    }
+
+    private TICCoreSubscriber[] findMatchingSubscribers(
+        TICIdentifier source, boolean includeGlobal) {
+      Set<TICIdentifier> candidates = new LinkedHashSet<TICIdentifier>();
+      addCandidates(this.filtersBySerialNumber, source.getSerialNumber(), candidates);
+      addCandidates(this.filtersByPortId, source.getPortId(), candidates);
+      addCandidates(this.filtersByPortName, source.getPortName(), candidates);
+
+      Set<TICCoreSubscriber> subscribers = new LinkedHashSet<TICCoreSubscriber>();
+      for (TICIdentifier filter : candidates) {
+        if (source.matches(filter)) {
+          subscribers.addAll(this.subscribersByFilter.get(filter));
+        }
+      }
+      if (includeGlobal) {
+        subscribers.addAll(Arrays.asList(this.globalSubscribers));
+      }
+      return subscribers.toArray(NO_SUBSCRIBERS);
+    }
+
+    private static void addFilter(
+        Map<String, List<TICIdentifier>> filters, String key, TICIdentifier filter) {
+      if (key != null) {
+        filters.computeIfAbsent(key, k -> new ArrayList<TICIdentifier>()).add(filter);
+      }
+    }
+
+    private static void addCandidates(
+        Map<String, List<TICIdentifier>> filters, String key, Set<TICIdentifier> candidates) {
+      List<TICIdentifier> keyFilters = (key != null) ? filters.get(key) : null;
+      if (keyFilters != null) {
+        candidates.addAll(keyFilters);
+      }
+    }
+  }
+}
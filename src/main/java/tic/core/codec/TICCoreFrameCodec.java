@@ -43,6 +43,7 @@ public final class TICCoreFrameCodec
         "identifier", TICIdentifierCodec.getInstance().encodeToJsonObject(frame.getIdentifier()));
     json.put("mode", frame.getMode().name());
     json.put("captureDateTime", frame.getCaptureDateTime().toString());
+    json.put("sequenceNumber", frame.getSequenceNumber());
     json.put("frame", TICFrameSummarizedCodec.getInstance().encodeToJsonObject(frame.getFrame()));
 
     return json;
@@ -8,7 +8,10 @@
 package tic.frame;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import tic.frame.group.TICGroup;
 
 /**
@@ -22,6 +25,7 @@ public class TICFrame {
 
   private TICMode mode = null;
   private List<TICGroup> groupList = new ArrayList<>();
+  private Map<String, TICGroup> groupIndex = new HashMap<>();
 
   /**
    * Constructs a TIC frame with the specified mode.
@@ -45,6 +49,7 @@ public class TICFrame {
    */
   public void addGroup(TICGroup group) {
     this.groupList.add(group);
+    this.groupIndex.putIfAbsent(group.getLabel(), group);
   }
 
   /**
@@ -57,27 +62,24 @@ public class TICFrame {
   }
 
   /**
-   * Returns the list of info groups in this TIC frame.
+   * Returns the list of info groups in this TIC frame, in insertion order.
    *
-   * @return the list of info groups
+   * @return the unmodifiable list of info groups (use {@link #addGroup(TICGroup)} to add a group)
    */
   public List<TICGroup> getGroupList() {
-    return this.groupList;
+    return Collections.unmodifiableList(this.groupList);
   }
 
   /**
    * Retrieves the TIC group with the specified label.
    *
+   * <p>When several groups share the same label, the first added one is returned.
+   *
    * @param label the label of the group to retrieve
    * @return the TIC group with the specified label, or null if not found
    */
   public TICGroup getGroup(String label) {
-    for (TICGroup group : this.groupList) {
-      if (group.getLabel().equals(label)) {
-        return group;
-      }
-    }
-    return null;
+    return this.groupIndex.get(label);
   }
 
   /**
@@ -94,6 +96,15 @@ public class TICFrame {
     return false;
   }
 
+  /**
+   * Checks if several groups of the TIC frame share the same label.
+   *
+   * @return true if at least one label is used by several groups, false otherwise
+   */
+  public boolean hasDuplicateLabels() {
+    return this.groupIndex.size() != this.groupList.size();
+  }
+
   /**
    * Checks if the TIC frame contains a group with the specified label.
    *
@@ -101,7 +112,7 @@ public class TICFrame {
    * @return true if a group with the specified label exists, false otherwise
    */
   public boolean containsGroupLabel(String label) {
-    return (this.getGroup(label) != null) ? true : false;
+    return this.groupIndex.containsKey(label);
   }
 
   @Override
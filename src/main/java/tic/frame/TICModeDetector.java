@@ -7,7 +7,6 @@
 
 package tic.frame;
 
-import java.util.Arrays;
 import tic.frame.delimiter.TICSeparator;
 import tic.frame.delimiter.TICStartPattern;
 
@@ -33,16 +32,31 @@ public class TICModeDetector {
     if (frameBuffer == null) {
       throw new IllegalArgumentException("Tic frame buffer is null, unable to determine TIC Mode!");
     }
-    byte[] frameBufferStart = new byte[TICStartPattern.length()];
-    if (frameBuffer.length < frameBufferStart.length) {
+    return findModeFromFrameBuffer(frameBuffer, 0, frameBuffer.length);
+  }
+
+  /**
+   * Detects the TIC mode from the frame starting at the given offset, without copying it.
+   *
+   * @param frameBuffer the byte array containing the frame start
+   * @param offset the offset of the frame start delimiter
+   * @param length the frame length
+   * @return the detected {@link TICMode}, or null if not recognized
+   */
+  public static TICMode findModeFromFrameBuffer(byte[] frameBuffer, int offset, int length) {
+    if (frameBuffer == null) {
+      throw new IllegalArgumentException("Tic frame buffer is null, unable to determine TIC Mode!");
+    }
+    if (length < TICStartPattern.length()) {
       throw new IllegalArgumentException(
-          "Tic frame buffer 0x" + bytesToHex(frameBuffer) + " too short to determine TIC Mode!");
+          "Tic frame buffer 0x"
+              + bytesToHex(frameBuffer, offset, length)
+              + " too short to determine TIC Mode!");
     }
-    System.arraycopy(frameBuffer, 0, frameBufferStart, 0, frameBufferStart.length);
-    if (Arrays.equals(frameBufferStart, TICStartPattern.HISTORIC.getValue())) {
+    if (startsWith(frameBuffer, offset, TICStartPattern.HISTORIC.getValue())) {
       return TICMode.HISTORIC;
     } else {
-      if (Arrays.equals(frameBufferStart, TICStartPattern.STANDARD.getValue())) {
+      if (startsWith(frameBuffer, offset, TICStartPattern.STANDARD.getValue())) {
         return TICMode.STANDARD;
       }
       return null;
@@ -70,16 +84,35 @@ public class TICModeDetector {
   }
 
   /**
-   * Converts a byte array to a hexadecimal string (replacement for
+   * Checks if the buffer contains the given pattern at the given offset.
+   *
+   * @param buffer the byte array to check
+   * @param offset the offset of the pattern in the buffer
+   * @param pattern the expected pattern
+   * @return true if the pattern is found at offset
+   */
+  private static boolean startsWith(byte[] buffer, int offset, byte[] pattern) {
+    for (int i = 0; i < pattern.length; i++) {
+      if (buffer[offset + i] != pattern[i]) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Converts a byte array range to a hexadecimal string (replacement for
    * DatatypeConverter.printHexBinary).
    *
    * @param bytes the byte array to convert
+   * @param offset the offset of the first byte to convert
+   * @param length the number of bytes to convert
    * @return the hexadecimal string representation
    */
-  private static String bytesToHex(byte[] bytes) {
+  private static String bytesToHex(byte[] bytes, int offset, int length) {
     StringBuilder result = new StringBuilder();
-    for (byte b : bytes) {
-      result.append(String.format("%02X", b));
+    for (int i = offset; i < offset + length; i++) {
+      result.append(String.format("%02X", bytes[i]));
     }
     return result.toString();
   }
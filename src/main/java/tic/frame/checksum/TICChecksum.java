@@ -90,7 +90,7 @@ public class TICChecksum {
    * @param octet current byte of the TIC group
    * @return checksum updated
    */
-  private static int computeUpdate(int crc, byte octet) {
+  public static int computeUpdate(int crc, byte octet) {
     return crc + (octet & 0xff);
   }
 
@@ -100,7 +100,7 @@ public class TICChecksum {
    * @param crc current checksum value
    * @return checksum computed
    */
-  private static int computeEnd(int crc) {
+  public static int computeEnd(int crc) {
     return (crc & 0x3F) + 0x20;
   }
 }
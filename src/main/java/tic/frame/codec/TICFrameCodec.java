@@ -7,6 +7,7 @@
 
 package tic.frame.codec;
 
+import java.nio.charset.StandardCharsets;
 import tic.frame.TICFrame;
 import tic.frame.TICMode;
 import tic.frame.TICModeDetector;
@@ -16,28 +17,45 @@ import tic.frame.delimiter.TICFrameDelimiter;
 import tic.frame.delimiter.TICGroupDelimiter;
 import tic.frame.delimiter.TICSeparator;
 import tic.frame.group.TICGroup;
+import tic.frame.group.TICLabelDictionary;
 
 public class TICFrameCodec {
 
   private TICFrameCodec() {}
 
   public static TICFrame decode(byte[] frameBuffer) {
-    TICMode mode = checkFrameBuffer(frameBuffer);
+    if (frameBuffer == null) {
+      throw new IllegalArgumentException("frameBuffer cannot be null");
+    }
+    return decode(frameBuffer, 0, frameBuffer.length);
+  }
+
+  /**
+   * Decodes the frame stored in the given buffer range.
+   *
+   * <p>Groups are parsed in place: label, value and checksum are computed in a single pass over the
+   * original buffer, and the label and value strings are only created once per group.
+   *
+   * @param frameBuffer the buffer containing the frame
+   * @param offset the offset of the frame start delimiter
+   * @param length the frame length, end delimiter included
+   * @return the decoded frame
+   */
+  public static TICFrame decode(byte[] frameBuffer, int offset, int length) {
+    TICMode mode = checkFrameBuffer(frameBuffer, offset, length);
     TICFrame frame = new TICFrame(mode);
-    StringBuffer groupBuffer = new StringBuffer();
+    byte separator = TICSeparator.getValueFromMode(mode);
+    int groupBeginOffset = -1;
 
-    for (int i = 1; i < frameBuffer.length; i++) {
-      if (groupBuffer.length() == 0) {
+    for (int i = offset + 1; i < offset + length; i++) {
+      if (groupBeginOffset < 0) {
         if (frameBuffer[i] == TICGroupDelimiter.BEGIN.getValue()) {
-          groupBuffer.append((char) frameBuffer[i]);
-        }
-      } else {
-        groupBuffer.append((char) frameBuffer[i]);
-        if (frameBuffer[i] == TICGroupDelimiter.END.getValue()) {
-          TICGroup group = decodeGroup(groupBuffer.toString().getBytes(), mode);
-          frame.addGroup(group);
-          groupBuffer.setLength(0);
+          groupBeginOffset = i;
         }
+      } else if (frameBuffer[i] == TICGroupDelimiter.END.getValue()) {
+        TICGroup group = decodeGroup(frameBuffer, groupBeginOffset, i, mode, separator);
+        frame.addGroup(group);
+        groupBeginOffset = -1;
       }
     }
 
@@ -58,30 +76,63 @@ public class TICFrameCodec {
     return frameBuffer.toString().getBytes();
   }
 
-  private static TICGroup decodeGroup(byte[] groupBuffer, TICMode mode) {
-    boolean endLabelFound = false;
-    StringBuffer label = new StringBuffer();
-    StringBuffer value = new StringBuffer();
-    byte separator = TICSeparator.getValueFromMode(mode);
-    int beginChecksumOffset = TICChecksumOffset.getOffsetBegin();
-    int checksumOffset = TICChecksumOffset.getOffsetChecksum(groupBuffer);
+  /**
+   * Decodes the group stored between the given offsets of the frame buffer.
+   *
+   * @param buffer the frame buffer
+   * @param groupBeginOffset the offset of the group begin delimiter
+   * @param groupEndOffset the offset of the group end delimiter
+   * @param mode the TIC mode
+   * @param separator the separator of the TIC mode
+   * @return the decoded group
+   */
+  private static TICGroup decodeGroup(
+      byte[] buffer, int groupBeginOffset, int groupEndOffset, TICMode mode, byte separator) {
+    int beginOffset = groupBeginOffset + TICChecksumOffset.getOffsetBegin();
+    int checksumOffset = TICChecksumOffset.getOffsetChecksum(buffer, groupEndOffset);
     int endValueOffset = checksumOffset - 1; // excluding separator before checksum
+    int endChecksumOffset =
+        TICChecksumOffset.getOffsetEnd(buffer, mode, groupBeginOffset, groupEndOffset);
+    if (beginOffset >= endChecksumOffset) {
+      throw new IllegalArgumentException(
+          "Invalid offset range for checksum computation (offsetBegin must be lower than"
+              + " offsetEnd)");
+    }
+    int endLabelOffset = -1;
+    int crc = 0;
 
-    for (int i = beginChecksumOffset; i < endValueOffset; i++) {
-      if (!endLabelFound) {
-        if (groupBuffer[i] == separator) {
-          endLabelFound = true;
-          continue;
-        }
-        label.append((char) groupBuffer[i]);
-      } else {
-        value.append((char) groupBuffer[i]);
+    for (int i = beginOffset; i < endChecksumOffset; i++) {
+      crc = TICChecksum.computeUpdate(crc, buffer[i]);
+      if (endLabelOffset < 0 && i < endValueOffset && buffer[i] == separator) {
+        endLabelOffset = i;
       }
     }
-    boolean isValid = TICChecksum.verifyChecksum(groupBuffer, mode);
-    TICGroup group = new TICGroup(label.toString(), value.toString(), isValid);
+    boolean isValid = TICChecksum.computeEnd(crc) == (buffer[checksumOffset] & 0xFF);
+    String label;
+    String value;
+    if (endLabelOffset < 0) {
+      label = newLabel(buffer, beginOffset, endValueOffset);
+      value = "";
+    } else {
+      label = newLabel(buffer, beginOffset, endLabelOffset);
+      value = newString(buffer, endLabelOffset + 1, endValueOffset);
+    }
+
+    return new TICGroup(label, value, isValid);
+  }
+
+  private static String newLabel(byte[] buffer, int beginOffset, int endOffset) {
+    if (endOffset <= beginOffset) {
+      return "";
+    }
+    return TICLabelDictionary.resolve(buffer, beginOffset, endOffset - beginOffset);
+  }
 
-    return group;
+  private static String newString(byte[] buffer, int beginOffset, int endOffset) {
+    if (endOffset <= beginOffset) {
+      return "";
+    }
+    return new String(buffer, beginOffset, endOffset - beginOffset, StandardCharsets.ISO_8859_1);
   }
 
   private static byte[] encodeGroup(TICGroup group, TICMode mode) {
@@ -107,26 +158,28 @@ public class TICFrameCodec {
     return groupBuffer.toString().getBytes();
   }
 
-  private static TICMode checkFrameBuffer(byte[] frameBuffer) {
+  private static TICMode checkFrameBuffer(byte[] frameBuffer, int offset, int length) {
     if (frameBuffer == null) {
       throw new IllegalArgumentException("frameBuffer cannot be null");
     }
-    if (frameBuffer.length
-        < TICFrameDelimiter.values().length + TICGroupDelimiter.values().length) {
+    if (offset < 0 || length < 0 || offset + length > frameBuffer.length) {
+      throw new IllegalArgumentException("Invalid offset or length for frameBuffer");
+    }
+    if (length < TICFrameDelimiter.values().length + TICGroupDelimiter.values().length) {
       throw new IllegalArgumentException(
           "frameBuffer length must be >= "
               + (TICFrameDelimiter.values().length + TICGroupDelimiter.values().length)
               + " bytes");
     }
-    if (frameBuffer[0] != TICFrameDelimiter.BEGIN.getValue()) {
+    if (frameBuffer[offset] != TICFrameDelimiter.BEGIN.getValue()) {
       throw new IllegalArgumentException(
           "frameBuffer begin must be " + TICFrameDelimiter.BEGIN.getValue());
     }
-    if (frameBuffer[frameBuffer.length - 1] != TICFrameDelimiter.END.getValue()) {
+    if (frameBuffer[offset + length - 1] != TICFrameDelimiter.END.getValue()) {
       throw new IllegalArgumentException(
           "frameBuffer end must be " + TICFrameDelimiter.END.getValue());
     }
-    TICMode mode = TICModeDetector.findModeFromFrameBuffer(frameBuffer);
+    TICMode mode = TICModeDetector.findModeFromFrameBuffer(frameBuffer, offset, length);
     if (mode == null) {
       throw new IllegalArgumentException("Unable to determine TIC Mode from frame buffer!");
     }
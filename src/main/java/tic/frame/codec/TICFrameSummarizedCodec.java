@@ -7,7 +7,11 @@
 
 package tic.frame.codec;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import org.json.JSONObject;
 import tic.frame.TICFrame;
 import tic.frame.group.TICGroup;
@@ -17,6 +21,17 @@ import tic.util.codec.JsonStringCodec;
 public class TICFrameSummarizedCodec
     implements JsonStringCodec<TICFrame>, JsonObjectCodec<TICFrame> {
 
+  /**
+   * Labels whose digit-only values are identifiers, codes or status words rather than quantities:
+   * their leading zeros are significant, so they are always encoded as strings
+   */
+  private static final Set<String> TEXT_LABELS =
+      Collections.unmodifiableSet(
+          new HashSet<String>(
+              Arrays.asList(
+                  "ADCO", "ADSC", "PRM", "MOTDETAT", "PPOT", "STGE", "VTIC", "RELAIS", "NTARF",
+                  "NJOURF", "NJOURF+1")));
+
   public static TICFrameSummarizedCodec instance = null;
 
   private TICFrameSummarizedCodec() {}
@@ -41,14 +56,31 @@ public class TICFrameSummarizedCodec
 
   @Override
   public Object encodeToJsonObject(TICFrame frame) throws Exception {
+    return this.encodeToJsonObject(frame, false);
+  }
+
+  /**
+   * Encodes the frame to a JSON object.
+   *
+   * @param frame the frame to encode
+   * @param numericValues true to encode numeric group values as JSON numbers instead of strings
+   *     (except the values of the meter identifiers, codes and status words)
+   * @return the JSON object
+   * @throws Exception if encoding fails
+   */
+  public Object encodeToJsonObject(TICFrame frame, boolean numericValues) throws Exception {
     List<TICGroup> groups = frame.getGroupList();
     JSONObject jsonFrame = new JSONObject();
     groups.forEach(
         group -> {
+          Object value =
+              (numericValues && group.isNumeric() && !TEXT_LABELS.contains(group.getLabel()))
+                  ? group.getLong()
+                  : group.getValue();
           if (group.isValid()) {
-            jsonFrame.put(group.getLabel(), group.getValue());
+            jsonFrame.put(group.getLabel(), value);
           } else {
-            jsonFrame.put("!" + group.getLabel(), group.getValue());
+            jsonFrame.put("!" + group.getLabel(), value);
           }
         });
     return jsonFrame;
@@ -8,9 +8,18 @@
 package tic.frame.group;
 
 public class TICGroup {
+  /** Maximum number of digits of a numeric value (fits in a long) */
+  public static final int NUMERIC_MAX_DIGITS = 18;
+
+  private static final byte NUMERIC_UNKNOWN = 0;
+  private static final byte NUMERIC_TRUE = 1;
+  private static final byte NUMERIC_FALSE = 2;
+
   private String label;
   private String value;
   private boolean isValid;
+  private volatile byte numericState = NUMERIC_UNKNOWN;
+  private long numericValue;
 
   /**
    * Constructs a TIC group with the specified label and value.
@@ -83,6 +92,81 @@ public class TICGroup {
     return this.value;
   }
 
+  /**
+   * Checks if the value of the TIC group is a decimal integer (digits with an optional sign, such
+   * as index counters, currents or powers).
+   *
+   * @return true if the value can be read with {@link #getLong()}
+   */
+  public boolean isNumeric() {
+    return this.parseNumericValue() == NUMERIC_TRUE;
+  }
+
+  /**
+   * Returns the value of the TIC group as a long. The value is parsed once and cached.
+   *
+   * @return the numeric value of the group
+   * @throws NumberFormatException if the value is not numeric
+   */
+  public long getLong() {
+    if (this.parseNumericValue() != NUMERIC_TRUE) {
+      throw new NumberFormatException(
+          "Value of group " + this.label + " is not numeric: " + this.value);
+    }
+    return this.numericValue;
+  }
+
+  /**
+   * Returns the value of the TIC group as an int. The value is parsed once and cached.
+   *
+   * @return the numeric value of the group
+   * @throws NumberFormatException if the value is not numeric or out of int range
+   */
+  public int getInt() {
+    long longValue = this.getLong();
+    if (longValue < Integer.MIN_VALUE || longValue > Integer.MAX_VALUE) {
+      throw new NumberFormatException(
+          "Value of group " + this.label + " is out of int range: " + this.value);
+    }
+    return (int) longValue;
+  }
+
+  /**
+   * Parses the value characters directly (no intermediate string) on first call.
+   *
+   * @return the numeric state of the value
+   */
+  private byte parseNumericValue() {
+    byte state = this.numericState;
+    if (state != NUMERIC_UNKNOWN) {
+      return state;
+    }
+    state = NUMERIC_FALSE;
+    int length = (this.value != null) ? this.value.length() : 0;
+    int index = 0;
+    boolean negative = false;
+    if (length > 0 && (this.value.charAt(0) == '-' || this.value.charAt(0) == '+')) {
+      negative = this.value.charAt(0) == '-';
+      index++;
+    }
+    if (index < length && length - index <= NUMERIC_MAX_DIGITS) {
+      long result = 0;
+      for (; index < length; index++) {
+        char digit = this.value.charAt(index);
+        if (digit < '0' || digit > '9') {
+          break;
+        }
+        result = result * 10 + (digit - '0');
+      }
+      if (index == length) {
+        this.numericValue = negative ? -result : result;
+        state = NUMERIC_TRUE;
+      }
+    }
+    this.numericState = state;
+    return state;
+  }
+
   @Override
   public String toString() {
     return "(label=" + this.label + ", value=" + this.value + ", isValid=" + this.isValid + ")";
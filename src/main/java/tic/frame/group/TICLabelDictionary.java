@@ -0,0 +1,260 @@
+// Copyright (C) 2025 Enedis Smarties team <dt-dsi-nexus-lab-smarties@enedis.fr>
+//
+// SPDX-FileContributor: Jehan BOUSCH
+// SPDX-FileContributor: Mathieu SABARTHES
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package tic.frame.group;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Dictionary resolving TIC group label bytes to canonical shared strings.
+ *
+ * <p>The dictionary is seeded with the historic and standard Linky label sets, so that decoding a
+ * known label never allocates. Unknown labels are kept in a bounded cache, where a new label
+ * replaces the previous one sharing the same slot.
+ *
+ * <p>All methods are thread-safe.
+ *
+ * @author Enedis Smarties team
+ */
+public class TICLabelDictionary {
+  /** Labels of historic TIC frames */
+  public static final List<String> HISTORIC_LABELS =
+      Collections.unmodifiableList(
+          Arrays.asList(
+              "ADCO",
+              "OPTARIF",
+              "ISOUSC",
+              "BASE",
+              "HCHC",
+              "HCHP",
+              "EJPHN",
+              "EJPHPM",
+              "BBRHCJB",
+              "BBRHPJB",
+              "BBRHCJW",
+              "BBRHPJW",
+              "BBRHCJR",
+              "BBRHPJR",
+              "PEJP",
+              "PTEC",
+              "DEMAIN",
+              "IINST",
+              "IINST1",
+              "IINST2",
+              "IINST3",
+              "ADPS",
+              "ADIR1",
+              "ADIR2",
+              "ADIR3",
+              "IMAX",
+              "IMAX1",
+              "IMAX2",
+              "IMAX3",
+              "PMAX",
+              "PAPP",
+              "HHPHC",
+              "MOTDETAT",
+              "PPOT"));
+
+  /** Labels of standard TIC frames */
+  public static final List<String> STANDARD_LABELS =
+      Collections.unmodifiableList(
+          Arrays.asList(
+              "ADSC",
+              "VTIC",
+              "DATE",
+              "NGTF",
+              "LTARF",
+              "EAST",
+              "EASF01",
+              "EASF02",
+              "EASF03",
+              "EASF04",
+              "EASF05",
+              "EASF06",
+              "EASF07",
+              "EASF08",
+              "EASF09",
+              "EASF10",
+              "EASD01",
+              "EASD02",
+              "EASD03",
+              "EASD04",
+              "EAIT",
+              "ERQ1",
+              "ERQ2",
+              "ERQ3",
+              "ERQ4",
+              "IRMS1",
+              "IRMS2",
+              "IRMS3",
+              "URMS1",
+              "URMS2",
+              "URMS3",
+              "PREF",
+              "PCOUP",
+              "SINSTS",
+              "SINSTS1",
+              "SINSTS2",
+              "SINSTS3",
+              "SMAXSN",
+              "SMAXSN1",
+              "SMAXSN2",
+              "SMAXSN3",
+              "SMAXSN-1",
+              "SMAXSN1-1",
+              "SMAXSN2-1",
+              "SMAXSN3-1",
+              "SINSTI",
+              "SMAXIN",
+              "SMAXIN-1",
+              "CCASN",
+              "CCASN-1",
+              "CCAIN",
+              "CCAIN-1",
+              "UMOY1",
+              "UMOY2",
+              "UMOY3",
+              "STGE",
+              "DPM1",
+              "FPM1",
+              "DPM2",
+              "FPM2",
+              "DPM3",
+              "FPM3",
+              "MSG1",
+              "MSG2",
+              "PRM",
+              "RELAIS",
+              "NTARF",
+              "NJOURF",
+              "NJOURF+1",
+              "PJOURF+1",
+              "PPOINTE"));
+
+  /** Number of slots of the unknown labels cache */
+  public static final int CACHE_SIZE = 256;
+
+  private static final int DICTIONARY_SIZE = 512;
+
+  private static final String[] dictionary = createDictionary();
+  private static final String[] cache = new String[CACHE_SIZE];
+
+  private TICLabelDictionary() {}
+
+  /**
+   * Resolves the label stored in the given buffer range.
+   *
+   * @param buffer the buffer containing the label bytes
+   * @param offset the offset of the first label byte
+   * @param length the label length
+   * @return the canonical label string
+   */
+  public static String resolve(byte[] buffer, int offset, int length) {
+    int hash = hash(buffer, offset, length);
+    String label = lookup(dictionary, hash, buffer, offset, length);
+    if (label != null) {
+      return label;
+    }
+
+    int slot = hash & (CACHE_SIZE - 1);
+    label = cache[slot];
+    if (label != null && matches(label, buffer, offset, length)) {
+      return label;
+    }
+    label = newString(buffer, offset, length);
+    cache[slot] = label;
+    return label;
+  }
+
+  /**
+   * Checks if the label belongs to the historic or standard label sets.
+   *
+   * @param label the label to check
+   * @return true if the label is known
+   */
+  public static boolean isKnown(String label) {
+    if (label == null) {
+      return false;
+    }
+    int hash = hash(label);
+    for (int i = 0; i < DICTIONARY_SIZE; i++) {
+      String entry = dictionary[(hash + i) & (DICTIONARY_SIZE - 1)];
+      if (entry == null) {
+        return false;
+      }
+      if (entry.equals(label)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static String[] createDictionary() {
+    String[] table = new String[DICTIONARY_SIZE];
+    for (List<String> labels : Arrays.asList(HISTORIC_LABELS, STANDARD_LABELS)) {
+      for (String label : labels) {
+        int hash = hash(label);
+        int i = 0;
+        while (table[(hash + i) & (DICTIONARY_SIZE - 1)] != null
+            && !table[(hash + i) & (DICTIONARY_SIZE - 1)].equals(label)) {
+          i++;
+        }
+        table[(hash + i) & (DICTIONARY_SIZE - 1)] = label.intern();
+      }
+    }
+    return table;
+  }
+
+  private static String lookup(String[] table, int hash, byte[] buffer, int offset, int length) {
+    for (int i = 0; i < table.length; i++) {
+      String entry = table[(hash + i) & (table.length - 1)];
+      if (entry == null) {
+        return null;
+      }
+      if (matches(entry, buffer, offset, length)) {
+        return entry;
+      }
+    }
+    return null;
+  }
+
+  private static boolean matches(String label, byte[] buffer, int offset, int length) {
+    if (label.length() != length) {
+      return false;
+    }
+    for (int i = 0; i < length; i++) {
+      if (label.charAt(i) != (char) (buffer[offset + i] & 0xFF)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static int hash(byte[] buffer, int offset, int length) {
+    int hash = 0;
+    for (int i = offset; i < offset + length; i++) {
+      hash = 31 * hash + (buffer[i] & 0xFF);
+    }
+    return spread(hash);
+  }
+
+  private static int hash(String label) {
+    return spread(label.hashCode());
+  }
+
+  private static int spread(int hash) {
+    return hash ^ (hash >>> 16);
+  }
+
+  private static String newString(byte[] buffer, int offset, int length) {
+    return new String(buffer, offset, length, StandardCharsets.ISO_8859_1);
+  }
+}
@@ -0,0 +1,46 @@
+// Copyright (C) 2025 Enedis Smarties team <dt-dsi-nexus-lab-smarties@enedis.fr>
+//
+// SPDX-FileContributor: Jehan BOUSCH
+// SPDX-FileContributor: Mathieu SABARTHES
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package tic.io;
+
+/**
+ * Source of the port add and remove events reported by the operating system.
+ *
+ * <p>A {@link PortPlugNotifier} given a monitor scans the ports when the monitor reports a change
+ * instead of polling them periodically. The monitor only wakes the notifier up: the plugged and
+ * unplugged ports are still found by comparing two scans.
+ *
+ * @author Enedis Smarties team
+ * @see PortPlugNotifier
+ */
+public interface PortChangeMonitor {
+  /**
+   * Starts receiving the port events.
+   *
+   * @return true if the events are received, false if the monitor is not available on this system
+   */
+  public boolean open();
+
+  /**
+   * Waits for a port event.
+   *
+   * @param timeout the maximum waiting time in milliseconds
+   * @return true if a port has been added or removed (or if events may have been lost), false if
+   *     the timeout expired without event
+   */
+  public boolean awaitChange(long timeout);
+
+  /**
+   * Wakes up the thread waiting in {@link #awaitChange(long)}, which returns false.
+   *
+   * <p>Can be called from any thread. A wake up made while no thread waits ends the next wait.
+   */
+  public void wakeUp();
+
+  /** Stops receiving the port events and releases the monitor resources. */
+  public void close();
+}
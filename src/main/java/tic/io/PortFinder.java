@@ -35,4 +35,25 @@ public interface PortFinder<T> {
    * @return a list of port descriptors representing all discovered ports
    */
   public List<T> findAll();
+
+  /**
+   * Discovers all available ports again, discarding any result cached by the finder.
+   *
+   * @return a list of port descriptors representing all discovered ports
+   */
+  public default List<T> refresh() {
+    return this.findAll();
+  }
+
+  /**
+   * Tells the finder that {@link #refresh()} is called on each port change, and at least once per
+   * given period.
+   *
+   * <p>A finder caching its results can then serve them for that period instead of renewing them
+   * by itself. The default implementation does nothing.
+   *
+   * @param refreshPeriod the maximum time (in milliseconds) between two refreshes, or 0 when the
+   *     refreshes no longer follow the port changes
+   */
+  public default void setRefreshPeriod(long refreshPeriod) {}
 }
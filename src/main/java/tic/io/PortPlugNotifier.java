@@ -9,9 +9,14 @@ package tic.io;
 
 import tic.util.time.Time;
 import java.util.ArrayList;
-import java.util.Iterator;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
 import tic.util.task.TaskPeriodicWithSubscribers;
 
 /**
@@ -22,16 +27,21 @@ import tic.util.task.TaskPeriodicWithSubscribers;
  * to discover available ports, compares the results with the previous state, and notifies
  * registered {@link PlugSubscriber} instances of any changes.
  *
- * <p>The notifier maintains a cached list of known port descriptors and performs delta detection to
- * identify:
+ * <p>The notifier maintains an immutable snapshot of the known port descriptors, indexed by a
+ * stable port key, and performs delta detection to identify:
  *
  * <ul>
  *   <li>Newly plugged ports (present in current scan but not in previous)
  *   <li>Unplugged ports (present in previous scan but not in current)
  * </ul>
  *
- * <p>The class is thread-safe and uses atomic references for the finder and synchronized access for
- * the descriptor list to ensure consistency during concurrent access.
+ * <p>Given a {@link PortChangeMonitor}, the notifier sleeps until the operating system reports a
+ * port change instead of scanning the ports at each period, and lets the finder serve its cached
+ * ports between two scans (see {@link PortFinder#setRefreshPeriod(long)}). Without monitor, the
+ * polling period grows while the ports do not change.
+ *
+ * <p>The class is thread-safe: the finder is held by an atomic reference and each scan publishes a
+ * new descriptor snapshot through a volatile reference, so readers never see a partial update.
  *
  * @param <F> the port finder type that extends PortFinder
  * @param <T> the port descriptor type
@@ -42,8 +52,19 @@ import tic.util.task.TaskPeriodicWithSubscribers;
  */
 public class PortPlugNotifier<F extends PortFinder<T>, T>
     extends TaskPeriodicWithSubscribers<PlugSubscriber<T>> {
+  /** Maximum factor applied to the period between two scans while no port changes */
+  public static final int MAX_POLLING_FACTOR = 10;
+
+  /** Period (in milliseconds) of the scans made while the port change monitor reports nothing */
+  public static final long MONITOR_RESCAN_PERIOD = 60000;
+
   private AtomicReference<F> finder = new AtomicReference<F>();
-  private List<T> descriptors = new ArrayList<T>();
+  private volatile Map<Object, T> descriptors = Collections.emptyMap();
+  private final Function<T, Object> portKey;
+  private final PortChangeMonitor monitor;
+  private boolean monitorOpened = false;
+  private boolean portsChanged = false;
+  private long pollingPeriod = 0;
 
   /**
    * Main utility method that runs a port plug monitoring loop.
@@ -92,8 +113,43 @@ public class PortPlugNotifier<F extends PortFinder<T>, T>
    * @param finder the port finder used to discover available ports
    */
   public PortPlugNotifier(long period, F finder) {
+    this(period, finder, null);
+  }
+
+  /**
+   * Constructs a PortPlugNotifier scanning the ports when the given monitor reports a change.
+   *
+   * <p>When the monitor is null or cannot be opened, the notifier polls the ports: the period
+   * between two scans doubles while no port changes, up to {@link #MAX_POLLING_FACTOR} times the
+   * given period, and is reset on a change.
+   *
+   * @param period the polling period in milliseconds
+   * @param finder the port finder used to discover available ports
+   * @param monitor the port change monitor, or null to poll the ports
+   */
+  public PortPlugNotifier(long period, F finder, PortChangeMonitor monitor) {
+    this(period, finder, monitor, null);
+  }
+
+  /**
+   * Constructs a PortPlugNotifier identifying the ports by the given key.
+   *
+   * <p>The key must be stable for a given port (e.g. its port ID, then its port name): the ports of
+   * two scans are matched by key, and a matched port whose descriptor has changed is notified as
+   * unplugged then plugged again.
+   *
+   * @param period the polling period in milliseconds
+   * @param finder the port finder used to discover available ports
+   * @param monitor the port change monitor, or null to poll the ports
+   * @param portKey the function returning the key of a port descriptor, or null to key the ports
+   *     by descriptor
+   */
+  public PortPlugNotifier(
+      long period, F finder, PortChangeMonitor monitor, Function<T, Object> portKey) {
     super(period);
     this.setFinder(finder);
+    this.monitor = monitor;
+    this.portKey = portKey;
   }
 
   /**
@@ -112,79 +168,165 @@ public class PortPlugNotifier<F extends PortFinder<T>, T>
     this.finder.set(finder);
   }
 
+  /**
+   * Gets the ports found by the last scan.
+   *
+   * <p>The returned collection is an immutable snapshot, replaced as a whole after each scan, so it
+   * can be read from any thread.
+   *
+   * @return the port descriptors of the last scan
+   */
+  public Collection<T> getDescriptors() {
+    return this.descriptors.values();
+  }
+
   /**
    * Periodically executed process that detects port changes and notifies subscribers.
    *
    * <p>This method is called at each polling interval and performs the following steps:
    *
    * <ol>
-   *   <li>Discovers currently available ports using the finder
-   *   <li>Checks for unplugged ports (in old list but not in new list)
-   *   <li>Checks for newly plugged ports (in new list but not in old list)
-   *   <li>Updates the internal descriptor cache with the new state
+   *   <li>Discovers currently available ports using the finder, bypassing its cache
+   *   <li>Indexes the discovered ports by port key
+   *   <li>Matches each discovered port with the port of the same key in the old snapshot, their
+   *       descriptors being compared once
+   *   <li>Notifies the unplugged ports (key in old snapshot but not in new one, or descriptor
+   *       changed)
+   *   <li>Notifies the newly plugged ports (key in new snapshot but not in old one, or descriptor
+   *       changed)
+   *   <li>Replaces the port snapshot with the new one
    * </ol>
+   *
+   * <p>The delta is computed with hashed lookups, in time proportional to the number of ports. The
+   * old snapshot is only walked again when some of its ports have not been matched.
    */
   @Override
   protected void process() {
-    List<T> newDescriptors = this.finder.get().findAll();
+    Map<Object, T> oldDescriptors = this.descriptors;
+    Map<Object, T> newDescriptors = this.indexDescriptors(this.finder.get().refresh());
+    List<T> unpluggedDescriptors = new ArrayList<T>();
+    List<T> pluggedDescriptors = new ArrayList<T>();
+    int matchedCount = 0;
+
+    for (Map.Entry<Object, T> entry : newDescriptors.entrySet()) {
+      T oldDescriptor = oldDescriptors.get(entry.getKey());
+      if (oldDescriptor == null) {
+        pluggedDescriptors.add(entry.getValue());
+      } else {
+        matchedCount++;
+        if (!oldDescriptor.equals(entry.getValue())) {
+          unpluggedDescriptors.add(oldDescriptor);
+          pluggedDescriptors.add(entry.getValue());
+        }
+      }
+    }
+    if (matchedCount < oldDescriptors.size()) {
+      for (Map.Entry<Object, T> entry : oldDescriptors.entrySet()) {
+        if (!newDescriptors.containsKey(entry.getKey())) {
+          unpluggedDescriptors.add(entry.getValue());
+        }
+      }
+    }
 
-    this.checkAndNotifyIfUnplugged(newDescriptors);
-    this.checkAndNotifyIfPlugged(newDescriptors);
-    this.updateDescriptors(newDescriptors);
+    for (T descriptor : unpluggedDescriptors) {
+      this.notifyOnUnplugged(descriptor);
+    }
+    for (T descriptor : pluggedDescriptors) {
+      this.notifyOnPlugged(descriptor);
+    }
+    this.portsChanged = !unpluggedDescriptors.isEmpty() || !pluggedDescriptors.isEmpty();
+    this.descriptors = newDescriptors;
   }
 
-  /**
-   * Checks for unplugged ports and notifies subscribers.
-   *
-   * <p>This method compares the current descriptor list with the new list to identify ports that
-   * were present before but are no longer available. For each unplugged port, it notifies all
-   * subscribers.
-   *
-   * @param newDescriptors the newly discovered list of port descriptors
-   */
-  private void checkAndNotifyIfUnplugged(List<T> newDescriptors) {
-    Iterator<T> it = this.descriptors.iterator();
+  @Override
+  protected void onStart() {
+    this.pollingPeriod = this.getPeriod();
+    this.monitorOpened = (this.monitor != null) && this.monitor.open();
+    if (this.monitor != null && !this.monitorOpened) {
+      logger.info("Port change monitor not available, polling the ports");
+    }
+    if (this.monitorOpened) {
+      // The ports are refreshed on each change: the finder can serve its cached ports until then
+      this.finder.get().setRefreshPeriod(MONITOR_RESCAN_PERIOD);
+    }
+  }
 
-    while (it.hasNext()) {
-      T descriptor = it.next();
-      if (!newDescriptors.contains(descriptor)) {
-        this.notifyOnUnplugged(descriptor);
-      }
+  @Override
+  protected void onTerminate() {
+    if (this.monitorOpened) {
+      this.finder.get().setRefreshPeriod(0);
+      this.monitor.close();
+      this.monitorOpened = false;
+    }
+  }
+
+  @Override
+  protected void onStopRequired() {
+    if (this.monitor != null) {
+      this.monitor.wakeUp();
     }
   }
 
   /**
-   * Checks for newly plugged ports and notifies subscribers.
-   *
-   * <p>This method compares the new descriptor list with the current list to identify ports that
-   * are newly available. For each newly plugged port, it notifies all subscribers.
-   *
-   * @param newDescriptors the newly discovered list of port descriptors
+   * Waits for the next scan: until the monitor reports a port change (or for {@link
+   * #MONITOR_RESCAN_PERIOD} in case an event was lost), or for the adaptive polling period when no
+   * monitor is available. The monitor wait lasts until the event or the rescan, a stop request
+   * waking it up; the polling wait is split in periods so that a stop request is handled within a
+   * period.
    */
-  private void checkAndNotifyIfPlugged(List<T> newDescriptors) {
-    Iterator<T> it = newDescriptors.iterator();
+  @Override
+  protected void waitPeriod() {
+    long period = this.getPeriod();
+    long waitTime;
+
+    if (this.monitorOpened) {
+      waitTime = MONITOR_RESCAN_PERIOD;
+    } else {
+      this.pollingPeriod =
+          this.portsChanged
+              ? period
+              : Math.min(Math.max(this.pollingPeriod, period) * 2, period * MAX_POLLING_FACTOR);
+      waitTime = this.pollingPeriod;
+    }
 
-    while (it.hasNext()) {
-      T newDescriptor = it.next();
-      if (!this.descriptors.contains(newDescriptor)) {
-        this.notifyOnPlugged(newDescriptor);
+    long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(waitTime);
+    while (!this.isStopRequired()) {
+      long remaining = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+      if (remaining <= 0) {
+        return;
+      }
+      if (this.monitorOpened) {
+        if (this.monitor.awaitChange(remaining)) {
+          return;
+        }
+      } else {
+        Time.sleep(Math.min(remaining, period));
       }
     }
   }
 
   /**
-   * Updates the internal descriptor cache with the new list of ports.
-   *
-   * <p>This method clears the current descriptor list and replaces it with the newly discovered
-   * ports. The operation is synchronized to ensure thread-safe access.
+   * Indexes the discovered ports by port key.
    *
-   * @param newDescriptors the new list of port descriptors to cache
+   * @param newDescriptors the newly discovered list of port descriptors
+   * @return an immutable map of the descriptors by port key, in discovery order (the first
+   *     descriptor of a key is kept)
    */
-  private void updateDescriptors(List<T> newDescriptors) {
-    synchronized (this.descriptors) {
-      this.descriptors.clear();
-      this.descriptors.addAll(newDescriptors);
+  private Map<Object, T> indexDescriptors(List<T> newDescriptors) {
+    Map<Object, T> index = new LinkedHashMap<Object, T>();
+
+    if (newDescriptors == null) {
+      return Collections.emptyMap();
     }
+    for (T descriptor : newDescriptors) {
+      if (descriptor == null) {
+        continue;
+      }
+      Object key = (this.portKey != null) ? this.portKey.apply(descriptor) : null;
+      index.putIfAbsent((key != null) ? key : descriptor, descriptor);
+    }
+
+    return Collections.unmodifiableMap(index);
   }
 
   /**
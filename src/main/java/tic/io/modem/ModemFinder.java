@@ -7,7 +7,10 @@
 
 package tic.io.modem;
 
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import tic.io.PortFinder;
 
 /** Interface used to find all modem descriptors */
@@ -47,6 +50,25 @@ public interface ModemFinder extends PortFinder<ModemDescriptor> {
    */
   public ModemDescriptor findNative(String portName);
 
+  /**
+   * Find native modem (not USB) descriptors matching with several port names.
+   *
+   * <p>Implementations should enumerate the ports once for all the port names.
+   *
+   * @param portNames the port names desired
+   * @return modem descriptors found by port name, port names matching nothing are absent
+   */
+  public default Map<String, ModemDescriptor> findNatives(Collection<String> portNames) {
+    Map<String, ModemDescriptor> descriptors = new HashMap<String, ModemDescriptor>();
+    for (String portName : portNames) {
+      ModemDescriptor descriptor = this.findNative(portName);
+      if (descriptor != null) {
+        descriptors.put(portName, descriptor);
+      }
+    }
+    return descriptors;
+  }
+
   /**
    * Find modem descriptor matching with port id or port name.
    *
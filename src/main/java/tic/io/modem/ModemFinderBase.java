@@ -8,7 +8,10 @@
 package tic.io.modem;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import tic.io.serialport.SerialPortDescriptor;
 import tic.io.serialport.SerialPortFinder;
 import tic.io.usb.UsbPortDescriptor;
@@ -96,6 +99,17 @@ public class ModemFinderBase implements ModemFinder {
     return descriptors;
   }
 
+  @Override
+  public List<ModemDescriptor> refresh() {
+    this.serialPortFinder.refresh();
+    return this.findAll();
+  }
+
+  @Override
+  public void setRefreshPeriod(long refreshPeriod) {
+    this.serialPortFinder.setRefreshPeriod(refreshPeriod);
+  }
+
   @Override
   public ModemDescriptor findNative(String portName) {
     ModemDescriptor modemDescriptor = null;
@@ -111,4 +125,25 @@ public class ModemFinderBase implements ModemFinder {
 
     return modemDescriptor;
   }
+
+  @Override
+  public Map<String, ModemDescriptor> findNatives(Collection<String> portNames) {
+    Map<String, ModemDescriptor> descriptors = new HashMap<String, ModemDescriptor>();
+
+    for (SerialPortDescriptor serialPortDescriptor : this.serialPortFinder.findAll()) {
+      if (serialPortDescriptor.isNative()
+          && portNames.contains(serialPortDescriptor.portName())
+          && !descriptors.containsKey(serialPortDescriptor.portName())) {
+        try {
+          descriptors.put(
+              serialPortDescriptor.portName(),
+              new ModemDescriptor.Builder<>().copy(serialPortDescriptor).build());
+        } catch (IllegalArgumentException e) {
+          // Ignore descriptors that fail validation
+        }
+      }
+    }
+
+    return descriptors;
+  }
 }
@@ -7,18 +7,41 @@
 
 package tic.io.modem;
 
+import tic.io.PortChangeMonitor;
 import tic.io.PortPlugNotifier;
 
 /** Class used to notify when a modem has been plugged or unplugged */
 public class ModemPlugNotifier extends PortPlugNotifier<ModemFinder, ModemDescriptor> {
 
   /**
-   * Constructor with all parameters
+   * Constructor polling the modems
    *
    * @param period the period (in milliseconds) used to look for plugged or unplugged modems
    * @param finder the modem finder interface used to find all modem descriptors
    */
   public ModemPlugNotifier(long period, ModemFinder finder) {
-    super(period, finder);
+    this(period, finder, null);
+  }
+
+  /**
+   * Constructor with a port change monitor
+   *
+   * @param period the period (in milliseconds) used to look for plugged or unplugged modems when
+   *     the monitor is not available
+   * @param finder the modem finder interface used to find all modem descriptors
+   * @param monitor the monitor reporting the port changes, or null to poll the modems
+   */
+  public ModemPlugNotifier(long period, ModemFinder finder, PortChangeMonitor monitor) {
+    super(period, finder, monitor, ModemPlugNotifier::getPortKey);
+  }
+
+  /**
+   * Gets the stable key of a modem: its port ID, or its port name for the native ports
+   *
+   * @param descriptor the modem descriptor
+   * @return the port key, or null if the modem has neither port ID nor port name
+   */
+  private static Object getPortKey(ModemDescriptor descriptor) {
+    return (descriptor.portId() != null) ? descriptor.portId() : descriptor.portName();
   }
 }
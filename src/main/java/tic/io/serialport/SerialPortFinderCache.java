@@ -0,0 +1,200 @@
+// Copyright (C) 2025 Enedis Smarties team <dt-dsi-nexus-lab-smarties@enedis.fr>
+//
+// SPDX-FileContributor: Jehan BOUSCH
+// SPDX-FileContributor: Mathieu SABARTHES
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package tic.io.serialport;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serial port finder serving the lookups from a cached enumeration of another finder.
+ *
+ * <p>Enumerating the serial ports is costly (on Linux, a udev enumeration with several native calls
+ * per tty), while the finder is queried many times per second: by the plug notifier, then by each
+ * stream start or subscription looking a port up by id, name or USB product/vendor identifiers.
+ * This finder keeps the result of the last enumeration as an immutable snapshot, indexed by port
+ * id, port name and product/vendor identifiers, and serves every lookup from memory.
+ *
+ * <p>The snapshot is renewed by {@link #refresh()}, which the plug notifier calls on each scan, or
+ * by the first lookup made after its time to live, so the lookups made between two scans see the
+ * ports of the last scan. While the plug notifier refreshes the snapshot on each port change (see
+ * {@link #setRefreshPeriod(long)}), the snapshot is served until the next refresh instead.
+ * {@link #invalidate()} forces the next lookup to enumerate the ports again.
+ *
+ * @author Enedis Smarties team
+ * @see SerialPortFinder
+ */
+public class SerialPortFinderCache implements SerialPortFinder {
+  private final SerialPortFinder finder;
+  private final long timeToLive;
+  private volatile long refreshPeriod = 0;
+  private final Object refreshLock = new Object();
+  private volatile Snapshot snapshot = null;
+
+  /**
+   * Constructs a cache of the given finder.
+   *
+   * @param finder the finder enumerating the serial ports
+   * @param timeToLive the time (in milliseconds) an enumeration is served before being renewed
+   * @throws IllegalArgumentException if finder is null or timeToLive is negative
+   */
+  public SerialPortFinderCache(SerialPortFinder finder, long timeToLive) {
+    if (finder == null) {
+      throw new IllegalArgumentException("Cannot set null finder");
+    }
+    if (timeToLive < 0) {
+      throw new IllegalArgumentException("timeToLive must be positive");
+    }
+    this.finder = finder;
+    this.timeToLive = TimeUnit.MILLISECONDS.toNanos(timeToLive);
+  }
+
+  /**
+   * Returns the serial ports of the last enumeration, enumerating them again if it has expired.
+   *
+   * @return an immutable list of the serial port descriptors
+   */
+  @Override
+  public List<SerialPortDescriptor> findAll() {
+    return this.getSnapshot().descriptors;
+  }
+
+  @Override
+  public SerialPortDescriptor findByPortId(String portId) {
+    if (portId == null) {
+      return SerialPortFinder.super.findByPortId(portId);
+    }
+    return this.getSnapshot().descriptorsByPortId.get(portId);
+  }
+
+  @Override
+  public SerialPortDescriptor findByPortName(String portName) {
+    if (portName == null) {
+      return SerialPortFinder.super.findByPortName(portName);
+    }
+    return this.getSnapshot().descriptorsByPortName.get(portName);
+  }
+
+  @Override
+  public SerialPortDescriptor findNative(String portName) {
+    return this.getSnapshot().nativeDescriptorsByPortName.get(portName);
+  }
+
+  @Override
+  public List<SerialPortDescriptor> findByProductIdAndVendorId(Short productId, Short vendorId) {
+    if (productId == null || vendorId == null) {
+      return SerialPortFinder.super.findByProductIdAndVendorId(productId, vendorId);
+    }
+    List<SerialPortDescriptor> descriptors =
+        this.getSnapshot().descriptorsByProductAndVendor.get(Arrays.asList(productId, vendorId));
+
+    return (descriptors != null)
+        ? new ArrayList<SerialPortDescriptor>(descriptors)
+        : new ArrayList<SerialPortDescriptor>();
+  }
+
+  /**
+   * Enumerates the serial ports now, the new snapshot serving the next lookups.
+   *
+   * @return an immutable list of the serial port descriptors
+   */
+  @Override
+  public List<SerialPortDescriptor> refresh() {
+    synchronized (this.refreshLock) {
+      Snapshot newSnapshot = new Snapshot(this.finder.findAll());
+      this.snapshot = newSnapshot;
+      return newSnapshot.descriptors;
+    }
+  }
+
+  /**
+   * Serves the snapshot for the given period instead of the time to live, {@link #refresh()} being
+   * called on each port change.
+   *
+   * @param refreshPeriod the maximum time (in milliseconds) between two refreshes, or 0 to renew
+   *     the snapshot after the time to live again
+   */
+  @Override
+  public void setRefreshPeriod(long refreshPeriod) {
+    this.refreshPeriod = TimeUnit.MILLISECONDS.toNanos(Math.max(refreshPeriod, 0));
+  }
+
+  /** Discards the current snapshot, the next lookup enumerates the serial ports again. */
+  public void invalidate() {
+    this.snapshot = null;
+  }
+
+  private Snapshot getSnapshot() {
+    Snapshot currentSnapshot = this.snapshot;
+    long maxAge = Math.max(this.timeToLive, this.refreshPeriod);
+
+    if (currentSnapshot == null || currentSnapshot.isExpired(maxAge)) {
+      synchronized (this.refreshLock) {
+        currentSnapshot = this.snapshot;
+        if (currentSnapshot == null || currentSnapshot.isExpired(maxAge)) {
+          currentSnapshot = new Snapshot(this.finder.findAll());
+          this.snapshot = currentSnapshot;
+        }
+      }
+    }
+    return currentSnapshot;
+  }
+
+  /** Immutable result of an enumeration, with its lookup indexes */
+  private static class Snapshot {
+    private final long creationTime = System.nanoTime();
+    private final List<SerialPortDescriptor> descriptors;
+    private final Map<String, SerialPortDescriptor> descriptorsByPortId = new HashMap<>();
+    private final Map<String, SerialPortDescriptor> descriptorsByPortName = new HashMap<>();
+    private final Map<String, SerialPortDescriptor> nativeDescriptorsByPortName = new HashMap<>();
+    private final Map<List<Short>, List<SerialPortDescriptor>> descriptorsByProductAndVendor =
+        new HashMap<>();
+
+    private Snapshot(List<SerialPortDescriptor> descriptors) {
+      List<SerialPortDescriptor> descriptorList = new ArrayList<SerialPortDescriptor>();
+
+      if (descriptors != null) {
+        for (SerialPortDescriptor descriptor : descriptors) {
+          if (descriptor != null) {
+            descriptorList.add(descriptor);
+            this.index(descriptor);
+          }
+        }
+      }
+      this.descriptors = Collections.unmodifiableList(descriptorList);
+    }
+
+    private void index(SerialPortDescriptor descriptor) {
+      // The first descriptor of a key is kept, as the sequential lookups of SerialPortFinder do
+      if (descriptor.portId() != null) {
+        this.descriptorsByPortId.putIfAbsent(descriptor.portId(), descriptor);
+      }
+      if (descriptor.portName() != null) {
+        this.descriptorsByPortName.putIfAbsent(descriptor.portName(), descriptor);
+        if (descriptor.isNative()) {
+          this.nativeDescriptorsByPortName.putIfAbsent(descriptor.portName(), descriptor);
+        }
+      }
+      if (descriptor.productId() != null && descriptor.vendorId() != null) {
+        this.descriptorsByProductAndVendor
+            .computeIfAbsent(
+                Arrays.asList(descriptor.productId(), descriptor.vendorId()),
+                key -> new ArrayList<SerialPortDescriptor>())
+            .add(descriptor);
+      }
+    }
+
+    private boolean isExpired(long timeToLive) {
+      return System.nanoTime() - this.creationTime >= timeToLive;
+    }
+  }
+}
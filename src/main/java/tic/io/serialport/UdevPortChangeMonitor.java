@@ -0,0 +1,212 @@
+// Copyright (C) 2025 Enedis Smarties team <dt-dsi-nexus-lab-smarties@enedis.fr>
+//
+// SPDX-FileContributor: Jehan BOUSCH
+// SPDX-FileContributor: Mathieu SABARTHES
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package tic.io.serialport;
+
+import com.sun.jna.Library;
+import com.sun.jna.Native;
+import com.sun.jna.NativeLong;
+import com.sun.jna.PointerType;
+import com.sun.jna.Structure;
+import com.sun.jna.Structure.FieldOrder;
+import com.sun.jna.platform.linux.Udev;
+import com.sun.jna.platform.linux.Udev.UdevContext;
+import com.sun.jna.platform.linux.Udev.UdevDevice;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import tic.io.PortChangeMonitor;
+
+/**
+ * Linux port change monitor listening to the udev events through a netlink socket.
+ *
+ * <p>The monitor receives the add and remove events of the tty devices (serial ports) and of the
+ * USB devices (modems without serial driver) once udev has processed them, so a scan made after an
+ * event finds the device complete. Waiting for an event is a single {@code poll} on the monitor
+ * socket and on an {@code eventfd} written by {@link #wakeUp()}: the thread sleeps until the kernel
+ * reports a device change, the timeout expires or the wait is woken up.
+ *
+ * <p>The {@code udev_monitor_*} functions are not part of the JNA platform {@link Udev} binding and
+ * are declared here; {@link #open()} returns false when libudev or netlink is not available.
+ *
+ * @author Enedis Smarties team
+ * @see PortChangeMonitor
+ */
+public class UdevPortChangeMonitor implements PortChangeMonitor {
+  private static final short POLLIN = 0x0001;
+  private static final int EFD_CLOEXEC = 02000000;
+  private static final int EFD_NONBLOCK = 04000;
+
+  private static Logger logger = LogManager.getLogger();
+
+  private UdevContext udev;
+  private UdevMonitor monitor;
+  private int fileDescriptor = -1;
+  private int wakeUpDescriptor = -1;
+
+  /** Default constructor */
+  public UdevPortChangeMonitor() {
+    super();
+  }
+
+  @Override
+  public synchronized boolean open() {
+    if (this.monitor != null) {
+      return true;
+    }
+    try {
+      this.udev = Udev.INSTANCE.udev_new();
+      if (this.udev == null) {
+        return false;
+      }
+      this.monitor = UdevMonitorLibrary.INSTANCE.udev_monitor_new_from_netlink(this.udev, "udev");
+      if (this.monitor == null) {
+        this.close();
+        return false;
+      }
+      UdevMonitorLibrary.INSTANCE.udev_monitor_filter_add_match_subsystem_devtype(
+          this.monitor, "tty", null);
+      UdevMonitorLibrary.INSTANCE.udev_monitor_filter_add_match_subsystem_devtype(
+          this.monitor, "usb", "usb_device");
+      if (UdevMonitorLibrary.INSTANCE.udev_monitor_enable_receiving(this.monitor) < 0) {
+        this.close();
+        return false;
+      }
+      this.fileDescriptor = UdevMonitorLibrary.INSTANCE.udev_monitor_get_fd(this.monitor);
+      this.wakeUpDescriptor = CLibrary.INSTANCE.eventfd(0, EFD_CLOEXEC | EFD_NONBLOCK);
+      if (this.fileDescriptor < 0 || this.wakeUpDescriptor < 0) {
+        this.close();
+        return false;
+      }
+      return true;
+    } catch (LinkageError e) {
+      logger.warn("udev monitor not available: " + e.getMessage());
+      this.close();
+      return false;
+    }
+  }
+
+  @Override
+  public boolean awaitChange(long timeout) {
+    UdevMonitor currentMonitor;
+    PollFd[] pollFds = (PollFd[]) new PollFd().toArray(2);
+
+    synchronized (this) {
+      if (this.monitor == null) {
+        return false;
+      }
+      currentMonitor = this.monitor;
+      pollFds[0].fd = this.fileDescriptor;
+      pollFds[1].fd = this.wakeUpDescriptor;
+    }
+    pollFds[0].events = POLLIN;
+    pollFds[1].events = POLLIN;
+
+    int ready = CLibrary.INSTANCE.poll(pollFds, 2, (int) Math.min(timeout, Integer.MAX_VALUE));
+    if (ready < 0) {
+      // Interrupted or failed poll: the caller scans the ports rather than missing an event
+      return true;
+    }
+    if (ready == 0) {
+      return false;
+    }
+
+    boolean changed = false;
+    synchronized (this) {
+      if (this.monitor != currentMonitor) {
+        return false;
+      }
+      if ((pollFds[1].revents & POLLIN) != 0) {
+        // Resets the eventfd counter, the pending wake ups being handled by this return
+        CLibrary.INSTANCE.read(this.wakeUpDescriptor, new long[1], new NativeLong(8));
+        return false;
+      }
+      if ((pollFds[0].revents & POLLIN) == 0) {
+        return false;
+      }
+      UdevDevice device;
+      while ((device = UdevMonitorLibrary.INSTANCE.udev_monitor_receive_device(currentMonitor))
+          != null) {
+        String action = UdevMonitorLibrary.INSTANCE.udev_device_get_action(device);
+        if ("add".equals(action) || "remove".equals(action)) {
+          changed = true;
+        }
+        Udev.INSTANCE.udev_device_unref(device);
+      }
+    }
+    return changed;
+  }
+
+  @Override
+  public synchronized void wakeUp() {
+    if (this.wakeUpDescriptor >= 0) {
+      CLibrary.INSTANCE.write(this.wakeUpDescriptor, new long[] {1}, new NativeLong(8));
+    }
+  }
+
+  @Override
+  public synchronized void close() {
+    if (this.monitor != null) {
+      UdevMonitorLibrary.INSTANCE.udev_monitor_unref(this.monitor);
+      this.monitor = null;
+    }
+    if (this.udev != null) {
+      Udev.INSTANCE.udev_unref(this.udev);
+      this.udev = null;
+    }
+    this.fileDescriptor = -1;
+    if (this.wakeUpDescriptor >= 0) {
+      CLibrary.INSTANCE.close(this.wakeUpDescriptor);
+      this.wakeUpDescriptor = -1;
+    }
+  }
+
+  /** Handle of a udev monitor */
+  public static class UdevMonitor extends PointerType {}
+
+  /** libudev monitor functions missing from the JNA platform binding */
+  interface UdevMonitorLibrary extends Library {
+    UdevMonitorLibrary INSTANCE = Native.load("udev", UdevMonitorLibrary.class);
+
+    UdevMonitor udev_monitor_new_from_netlink(UdevContext udev, String name);
+
+    int udev_monitor_filter_add_match_subsystem_devtype(
+        UdevMonitor monitor, String subsystem, String devtype);
+
+    int udev_monitor_enable_receiving(UdevMonitor monitor);
+
+    int udev_monitor_get_fd(UdevMonitor monitor);
+
+    UdevDevice udev_monitor_receive_device(UdevMonitor monitor);
+
+    UdevMonitor udev_monitor_unref(UdevMonitor monitor);
+
+    String udev_device_get_action(UdevDevice device);
+  }
+
+  /** C library poll and eventfd functions */
+  interface CLibrary extends Library {
+    CLibrary INSTANCE = Native.load("c", CLibrary.class);
+
+    int poll(PollFd[] fds, int nfds, int timeout);
+
+    int eventfd(int initval, int flags);
+
+    NativeLong read(int fd, long[] buffer, NativeLong count);
+
+    NativeLong write(int fd, long[] buffer, NativeLong count);
+
+    int close(int fd);
+  }
+
+  /** struct pollfd */
+  @FieldOrder({"fd", "events", "revents"})
+  public static class PollFd extends Structure {
+    public int fd;
+    public short events;
+    public short revents;
+  }
+}
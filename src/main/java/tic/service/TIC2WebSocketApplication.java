@@ -16,6 +16,8 @@ import tic.service.config.TIC2WebSocketConfigurationLoader;
 import tic.service.netty.TIC2WebSocketServer;
 import tic.service.requesthandler.TIC2WebSocketRequestHandler;
 import tic.service.requesthandler.TIC2WebSocketRequestHandlerBase;
+import tic.util.codec.JsonStringCodec;
+import tic.util.task.NotificationDispatcher;
 import java.io.File;
 import java.io.InputStream;
 import java.util.Properties;
@@ -205,6 +207,9 @@ public class TIC2WebSocketApplication {
 
     this.logger.info(TIC2WebSocketApplication.NAME + " initialized");
 
+    NotificationDispatcher.setInstance(
+        new NotificationDispatcher(this.configuration.getNotifierThreads()));
+
     this.ticCore =
         new TICCoreBase(this.configuration.getTicMode(), this.configuration.getTicPortNames());
     this.clientPool = new TIC2WebSocketClientPoolBase();
@@ -215,7 +220,11 @@ public class TIC2WebSocketApplication {
             "localhost",
         this.configuration.getServerPort(),
             this.clientPool,
-            this.requestHandler);
+            this.requestHandler,
+            this.configuration.isPrettyJson()
+                ? JsonStringCodec.DEFAULT_INDENT
+                : JsonStringCodec.COMPACT_INDENT,
+            this.configuration.getOutbound());
 
     return TIC2WebSocketApplicationErrorCode.NO_ERROR.code();
   }
@@ -8,14 +8,17 @@
 package tic.service.client;
 
 import io.netty.channel.Channel;
-import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import tic.core.TICCoreError;
 import tic.core.TICCoreFrame;
 import tic.core.TICCoreSubscriber;
+import tic.core.TICIdentifier;
 import tic.service.endpoint.EventSender;
 import tic.service.message.EventOnError;
 import tic.service.message.EventOnTICData;
-import tic.util.message.Event;
+import tic.service.message.SubscriptionDelivery;
 
 /**
  * WebSocket client for TIC2WebSocket service.
@@ -29,6 +32,7 @@ import tic.util.message.Event;
  *   <li>Receives TIC data frames and error notifications
  *   <li>Forwards events to the associated Netty WebSocket channel
  *   <li>Handles event serialization and transmission
+ *   <li>Keeps the delivery mode of its subscriptions
  * </ul>
  *
  * @author Enedis Smarties team
@@ -44,6 +48,12 @@ public class TIC2WebSocketClient implements TICCoreSubscriber {
   /** Event sender for dispatching TIC events to the channel. */
   private final EventSender eventSender;
 
+  /** Identifiers subscribed with {@link SubscriptionDelivery#LATEST}. */
+  private final Set<TICIdentifier> latestDeliveryIdentifiers = ConcurrentHashMap.newKeySet();
+
+  /** True if the subscription to all TICs uses {@link SubscriptionDelivery#LATEST}. */
+  private volatile boolean latestDeliveryForAll = false;
+
   /**
    * Constructs a new TIC2WebSocketClient instance.
    *
@@ -61,29 +71,81 @@ public class TIC2WebSocketClient implements TICCoreSubscriber {
   /**
    * Handles incoming TIC data frames.
    *
-   * <p>This method is called when a new TIC data frame is received. It creates an {@link
-   * EventOnTICData} event and sends it to the WebSocket channel.
+   * <p>This method is called when a new TIC data frame is received. It sends the corresponding
+   * {@link EventOnTICData} event to the WebSocket channel.
    *
    * @param frame the TIC data frame received
    */
   @Override
   public void onData(TICCoreFrame frame) {
-    Event event = new EventOnTICData(LocalDateTime.now(), frame);
-    this.eventSender.sendEvent(this.channel, event);
+    this.eventSender.sendOnData(
+        this.channel, frame, this.isLatestDelivery(frame.getIdentifier()));
+  }
+
+  /**
+   * Sets the delivery mode of subscribed identifiers.
+   *
+   * @param identifiers the subscribed identifiers, null for the subscription to all TICs
+   * @param delivery the delivery mode of their data events
+   */
+  public void setDelivery(List<TICIdentifier> identifiers, SubscriptionDelivery delivery) {
+    boolean latest = delivery == SubscriptionDelivery.LATEST;
+    if (identifiers == null) {
+      this.latestDeliveryForAll = latest;
+      return;
+    }
+    for (TICIdentifier identifier : identifiers) {
+      if (latest) {
+        this.latestDeliveryIdentifiers.add(identifier);
+      } else {
+        this.latestDeliveryIdentifiers.remove(identifier);
+      }
+    }
+  }
+
+  /**
+   * Forgets the delivery mode of unsubscribed identifiers.
+   *
+   * @param identifiers the unsubscribed identifiers, null for all subscriptions
+   */
+  public void clearDelivery(List<TICIdentifier> identifiers) {
+    if (identifiers == null) {
+      this.latestDeliveryForAll = false;
+      this.latestDeliveryIdentifiers.clear();
+      return;
+    }
+    this.latestDeliveryIdentifiers.removeAll(identifiers);
+  }
+
+  /**
+   * Checks if only the latest frame of the given meter must be delivered.
+   *
+   * @param identifier the identifier of the frame
+   * @return true if the frame matches a subscription with {@link SubscriptionDelivery#LATEST}
+   */
+  public boolean isLatestDelivery(TICIdentifier identifier) {
+    if (this.latestDeliveryForAll) {
+      return true;
+    }
+    for (TICIdentifier subscribed : this.latestDeliveryIdentifiers) {
+      if (identifier.matches(subscribed)) {
+        return true;
+      }
+    }
+    return false;
   }
 
   /**
    * Handles TIC error notifications.
    *
-   * <p>This method is called when a TIC error occurs. It creates an {@link EventOnError} event and
-   * sends it to the WebSocket channel.
+   * <p>This method is called when a TIC error occurs. It sends the corresponding {@link
+   * EventOnError} event to the WebSocket channel.
    *
    * @param error the TIC error detected
    */
   @Override
   public void onError(TICCoreError error) {
-    Event event = new EventOnError(LocalDateTime.now(), error);
-    this.eventSender.sendEvent(this.channel, event);
+    this.eventSender.sendOnError(this.channel, error);
   }
 
   /**
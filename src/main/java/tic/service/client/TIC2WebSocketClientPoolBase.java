@@ -9,22 +9,27 @@ package tic.service.client;
 
 import tic.service.endpoint.EventSender;
 import io.netty.channel.Channel;
+import io.netty.channel.ChannelId;
+import java.util.Map;
 import java.util.Optional;
-import java.util.Set;
-import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Default implementation of the TIC2WebSocket client pool.
  *
- * <p>This class manages a thread-safe set of {@link TIC2WebSocketClient} instances, providing
- * creation, lookup, existence checks, and removal by channel ID. It implements the {@link
- * TIC2WebSocketClientPool} interface for centralized client management in the WebSocket service.
+ * <p>This class manages a thread-safe map of {@link TIC2WebSocketClient} instances keyed by channel
+ * ID, providing creation, lookup, existence checks, and removal in constant time. It implements the
+ * {@link TIC2WebSocketClientPool} interface for centralized client management in the WebSocket
+ * service.
+ *
+ * <p>The key of a client is the long text of its {@link ChannelId}, which Netty computes once per
+ * channel: the lookup made on every inbound message neither scans the clients nor builds a string.
  *
  * <p>Key features include:
  *
  * <ul>
- *   <li>Thread-safe client storage using {@link CopyOnWriteArraySet}
- *   <li>Efficient lookup and registration by channel ID
+ *   <li>Thread-safe client storage using {@link ConcurrentHashMap}
+ *   <li>Constant time lookup, registration and removal by channel ID
  *   <li>Argument validation for client creation
  * </ul>
  *
@@ -35,28 +40,27 @@ import java.util.concurrent.CopyOnWriteArraySet;
  * @see EventSender
  */
 public class TIC2WebSocketClientPoolBase implements TIC2WebSocketClientPool {
-  /** Thread-safe set of registered clients. */
-  private final Set<TIC2WebSocketClient> clients;
+  /** Thread-safe map of registered clients, keyed by channel ID. */
+  private final Map<String, TIC2WebSocketClient> clients;
 
-  /** Constructs a new client pool with an empty set of clients. */
+  /** Constructs a new client pool with an empty map of clients. */
   public TIC2WebSocketClientPoolBase() {
     super();
-    this.clients = new CopyOnWriteArraySet<>();
+    this.clients = new ConcurrentHashMap<>();
   }
 
   /**
    * Retrieves the client associated with the specified channel ID.
    *
-   * <p>Searches the pool for a client whose channel matches the given ID.
-   *
    * @param channelId the unique identifier of the WebSocket channel
    * @return an Optional containing the client, or empty if not found
    */
   @Override
   public Optional<TIC2WebSocketClient> getClient(String channelId) {
-    return this.clients.stream()
-        .filter(c -> c.getChannel().id().asLongText().equals(channelId))
-        .findAny();
+    if (channelId == null) {
+      return Optional.empty();
+    }
+    return Optional.ofNullable(this.clients.get(channelId));
   }
 
   /**
@@ -67,14 +71,15 @@ public class TIC2WebSocketClientPoolBase implements TIC2WebSocketClientPool {
    */
   @Override
   public boolean exists(String channelId) {
-    return this.getClient(channelId).isPresent();
+    return channelId != null && this.clients.containsKey(channelId);
   }
 
   /**
    * Creates and registers a new client for the specified channel and event sender.
    *
    * <p>If a client for the channel already exists, returns the existing client. Otherwise, creates
-   * a new client, registers it, and returns it.
+   * a new client, registers it, and returns it. The check and the registration are atomic, so
+   * concurrent calls for the same channel return the same client.
    *
    * @param channel the Netty WebSocket channel for communication
    * @param sender the event sender responsible for dispatching events
@@ -85,15 +90,8 @@ public class TIC2WebSocketClientPoolBase implements TIC2WebSocketClientPool {
   public TIC2WebSocketClient createClient(Channel channel, EventSender sender) {
     this.checkArguments(channel, sender);
 
-    String channelId = channel.id().asLongText();
-    Optional<TIC2WebSocketClient> client = this.getClient(channelId);
-    if (!client.isPresent()) {
-      TIC2WebSocketClient newClient = new TIC2WebSocketClient(channel, sender);
-      this.clients.add(newClient);
-      return newClient;
-    } else {
-      return client.get();
-    }
+    return this.clients.computeIfAbsent(
+        channel.id().asLongText(), channelId -> new TIC2WebSocketClient(channel, sender));
   }
 
   /**
@@ -105,9 +103,8 @@ public class TIC2WebSocketClientPoolBase implements TIC2WebSocketClientPool {
    */
   @Override
   public void remove(String channelId) {
-    Optional<TIC2WebSocketClient> client = this.getClient(channelId);
-    if (client.isPresent()) {
-      this.clients.remove(client.get());
+    if (channelId != null) {
+      this.clients.remove(channelId);
     }
   }
 
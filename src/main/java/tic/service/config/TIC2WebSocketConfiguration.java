@@ -13,13 +13,16 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import tic.frame.TICMode;
+import tic.service.netty.TIC2WebSocketOutboundConfiguration;
+import tic.util.task.NotificationDispatcher;
 
 /**
  * Configuration class for TIC2WebSocket service.
  *
  * <p>This class manages configuration parameters for the TIC2WebSocket server, including server
- * port, TIC mode, and the list of TIC port names. It provides validation and conversion logic for
- * each parameter, ensuring correct types and values.
+ * port, TIC mode, the list of TIC port names, the JSON format of the messages sent to clients, the
+ * number of notification threads, and the outbound flow control of the clients. It provides
+ * validation and conversion logic for each parameter, ensuring correct types and values.
  *
  * <p>Key features include:
  *
@@ -38,15 +41,25 @@ public class TIC2WebSocketConfiguration {
   public static final String KEY_SERVER_PORT = "serverPort";
   public static final String KEY_TIC_MODE = "ticMode";
   public static final String KEY_TIC_PORT_NAMES = "ticPortNames";
+  public static final String KEY_PRETTY_JSON = "prettyJson";
+  public static final String KEY_NOTIFIER_THREADS = "notifierThreads";
+  public static final String KEY_OUTBOUND_POLICY = "outboundPolicy";
+  public static final String KEY_WRITE_BUFFER_HIGH_WATER_MARK = "writeBufferHighWaterMark";
+  public static final String KEY_OUTBOUND_QUEUE_SIZE = "outboundQueueSize";
 
   public static final int SERVER_PORT_MIN = 1;
   public static final int SERVER_PORT_MAX = 65535;
 
   public static final TICMode DEFAULT_TIC_MODE = TICMode.AUTO;
+  public static final boolean DEFAULT_PRETTY_JSON = false;
+  public static final int DEFAULT_NOTIFIER_THREADS = NotificationDispatcher.DEFAULT_THREAD_COUNT;
 
   private int serverPort;
   private TICMode ticMode;
   private List<String> ticPortNames;
+  private boolean prettyJson;
+  private int notifierThreads;
+  private TIC2WebSocketOutboundConfiguration outbound;
 
   /**
    * Constructs a configuration with a mandatory server port.
@@ -65,9 +78,76 @@ public class TIC2WebSocketConfiguration {
    * @param ticPortNames list of TIC native port names (optional, null/empty means not set)
    */
   public TIC2WebSocketConfiguration(int serverPort, TICMode ticMode, List<String> ticPortNames) {
+    this(serverPort, ticMode, ticPortNames, DEFAULT_PRETTY_JSON);
+  }
+
+  /**
+   * Constructs a configuration with a mandatory server port, optional TIC mode and port names, and
+   * the JSON format of the messages sent to clients.
+   *
+   * @param serverPort the server port number
+   * @param ticMode the TIC mode (optional, defaults to {@link #DEFAULT_TIC_MODE} when null)
+   * @param ticPortNames list of TIC native port names (optional, null/empty means not set)
+   * @param prettyJson true to send indented JSON messages, false to send compact ones
+   */
+  public TIC2WebSocketConfiguration(
+      int serverPort, TICMode ticMode, List<String> ticPortNames, boolean prettyJson) {
+    this(serverPort, ticMode, ticPortNames, prettyJson, DEFAULT_NOTIFIER_THREADS);
+  }
+
+  /**
+   * Constructs a configuration with a mandatory server port, optional TIC mode and port names, the
+   * JSON format of the messages sent to clients, and the number of notification threads.
+   *
+   * @param serverPort the server port number
+   * @param ticMode the TIC mode (optional, defaults to {@link #DEFAULT_TIC_MODE} when null)
+   * @param ticPortNames list of TIC native port names (optional, null/empty means not set)
+   * @param prettyJson true to send indented JSON messages, false to send compact ones
+   * @param notifierThreads the number of threads notifying subscribers ({@link
+   *     NotificationDispatcher#VIRTUAL_THREADS} for virtual threads)
+   */
+  public TIC2WebSocketConfiguration(
+      int serverPort,
+      TICMode ticMode,
+      List<String> ticPortNames,
+      boolean prettyJson,
+      int notifierThreads) {
+    this(
+        serverPort,
+        ticMode,
+        ticPortNames,
+        prettyJson,
+        notifierThreads,
+        TIC2WebSocketOutboundConfiguration.DEFAULT);
+  }
+
+  /**
+   * Constructs a configuration with a mandatory server port, optional TIC mode and port names, the
+   * JSON format of the messages sent to clients, the number of notification threads, and the
+   * outbound flow control of the clients.
+   *
+   * @param serverPort the server port number
+   * @param ticMode the TIC mode (optional, defaults to {@link #DEFAULT_TIC_MODE} when null)
+   * @param ticPortNames list of TIC native port names (optional, null/empty means not set)
+   * @param prettyJson true to send indented JSON messages, false to send compact ones
+   * @param notifierThreads the number of threads notifying subscribers ({@link
+   *     NotificationDispatcher#VIRTUAL_THREADS} for virtual threads)
+   * @param outbound the outbound flow control of the clients (optional, defaults to {@link
+   *     TIC2WebSocketOutboundConfiguration#DEFAULT} when null)
+   */
+  public TIC2WebSocketConfiguration(
+      int serverPort,
+      TICMode ticMode,
+      List<String> ticPortNames,
+      boolean prettyJson,
+      int notifierThreads,
+      TIC2WebSocketOutboundConfiguration outbound) {
     this.setServerPort(serverPort);
     this.setTicMode(ticMode);
     this.setTicPortNames(ticPortNames);
+    this.prettyJson = prettyJson;
+    this.setNotifierThreads(notifierThreads);
+    this.outbound = (outbound == null) ? TIC2WebSocketOutboundConfiguration.DEFAULT : outbound;
   }
 
   public int getServerPort() {
@@ -87,6 +167,40 @@ public class TIC2WebSocketConfiguration {
     return this.ticPortNames;
   }
 
+  /**
+   * Indicates whether the messages sent to clients are indented JSON.
+   *
+   * @return true for indented JSON, false for compact JSON (default)
+   */
+  public boolean isPrettyJson() {
+    return this.prettyJson;
+  }
+
+  /**
+   * Returns the number of threads notifying subscribers.
+   *
+   * @return the thread count, {@link NotificationDispatcher#VIRTUAL_THREADS} for virtual threads
+   */
+  public int getNotifierThreads() {
+    return this.notifierThreads;
+  }
+
+  /**
+   * Returns the outbound flow control of the clients.
+   *
+   * @return the write buffer water marks and the policy applied to slow clients
+   */
+  public TIC2WebSocketOutboundConfiguration getOutbound() {
+    return this.outbound;
+  }
+
+  private void setNotifierThreads(int notifierThreads) {
+    if (notifierThreads < 0) {
+      throw new IllegalArgumentException("Notifier threads must be positive");
+    }
+    this.notifierThreads = notifierThreads;
+  }
+
   private void setServerPort(int serverPort) {
     checkServerPort(serverPort);
     this.serverPort = serverPort;
@@ -13,6 +13,8 @@ import org.json.JSONArray;
 import org.json.JSONObject;
 import org.json.JSONTokener;
 import tic.frame.TICMode;
+import tic.service.netty.TIC2WebSocketOutboundConfiguration;
+import tic.service.netty.TIC2WebSocketOutboundPolicy;
 import tic.util.codec.JsonObjectCodec;
 import tic.util.codec.JsonStringCodec;
 
@@ -57,8 +59,12 @@ public class TIC2WebSocketConfigurationCodec
     int serverPort = parseServerPort(root);
     TICMode ticMode = parseTicMode(root);
     List<String> ticPortNames = parseTicPortNames(root);
+    boolean prettyJson = parsePrettyJson(root);
+    int notifierThreads = parseNotifierThreads(root);
+    TIC2WebSocketOutboundConfiguration outbound = parseOutbound(root);
 
-    return new TIC2WebSocketConfiguration(serverPort, ticMode, ticPortNames);
+    return new TIC2WebSocketConfiguration(
+        serverPort, ticMode, ticPortNames, prettyJson, notifierThreads, outbound);
   }
 
   private int parseServerPort(JSONObject root) {
@@ -90,6 +96,43 @@ public class TIC2WebSocketConfigurationCodec
     return TICMode.valueOf(modeValue.toUpperCase());
   }
 
+  private static boolean parsePrettyJson(JSONObject root) {
+    if (!root.has(TIC2WebSocketConfiguration.KEY_PRETTY_JSON)) {
+      return TIC2WebSocketConfiguration.DEFAULT_PRETTY_JSON;
+    }
+    return root.getBoolean(TIC2WebSocketConfiguration.KEY_PRETTY_JSON);
+  }
+
+  private static int parseNotifierThreads(JSONObject root) {
+    if (!root.has(TIC2WebSocketConfiguration.KEY_NOTIFIER_THREADS)) {
+      return TIC2WebSocketConfiguration.DEFAULT_NOTIFIER_THREADS;
+    }
+    int notifierThreads = root.getInt(TIC2WebSocketConfiguration.KEY_NOTIFIER_THREADS);
+    if (notifierThreads < 0) {
+      throw new IllegalArgumentException(
+          "Key '" + TIC2WebSocketConfiguration.KEY_NOTIFIER_THREADS + "' must be positive");
+    }
+    return notifierThreads;
+  }
+
+  private static TIC2WebSocketOutboundConfiguration parseOutbound(JSONObject root) {
+    String policyValue =
+        root.optString(
+            TIC2WebSocketConfiguration.KEY_OUTBOUND_POLICY,
+            TIC2WebSocketOutboundConfiguration.DEFAULT_POLICY.name());
+    TIC2WebSocketOutboundPolicy policy =
+        TIC2WebSocketOutboundPolicy.valueOf(policyValue.toUpperCase());
+    int highWaterMark =
+        root.optInt(
+            TIC2WebSocketConfiguration.KEY_WRITE_BUFFER_HIGH_WATER_MARK,
+            TIC2WebSocketOutboundConfiguration.DEFAULT_HIGH_WATER_MARK);
+    int queueSize =
+        root.optInt(
+            TIC2WebSocketConfiguration.KEY_OUTBOUND_QUEUE_SIZE,
+            TIC2WebSocketOutboundConfiguration.DEFAULT_QUEUE_SIZE);
+    return new TIC2WebSocketOutboundConfiguration(policy, highWaterMark, queueSize);
+  }
+
   private static List<String> parseTicPortNames(JSONObject root) {
     JSONArray array = root.optJSONArray(TIC2WebSocketConfiguration.KEY_TIC_PORT_NAMES);
     if (array == null || array.length() == 0) {
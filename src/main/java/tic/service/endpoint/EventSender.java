@@ -9,6 +9,11 @@ package tic.service.endpoint;
 
 import tic.util.message.Event;
 import io.netty.channel.Channel;
+import java.time.LocalDateTime;
+import tic.core.TICCoreError;
+import tic.core.TICCoreFrame;
+import tic.service.message.EventOnError;
+import tic.service.message.EventOnTICData;
 
 /**
  * Interface for sending event messages to a WebSocket channel.
@@ -39,4 +44,44 @@ public interface EventSender {
    * @param event the event message to be sent
    */
   void sendEvent(Channel channel, Event event);
+
+  /**
+   * Sends the {@link EventOnTICData} event of the given frame to the specified WebSocket channel.
+   *
+   * <p>The same frame instance is sent to every subscribed client: implementations may encode the
+   * event once and share the encoded bytes between channels.
+   *
+   * @param channel the Netty WebSocket channel to send the event to
+   * @param frame the TIC frame received
+   */
+  default void sendOnData(Channel channel, TICCoreFrame frame) {
+    this.sendEvent(channel, new EventOnTICData(LocalDateTime.now(), frame));
+  }
+
+  /**
+   * Sends the {@link EventOnTICData} event of the given frame to the specified WebSocket channel.
+   *
+   * <p>With latest only delivery, implementations may replace the event of the same meter not yet
+   * drained by the client instead of queuing the new one behind it.
+   *
+   * @param channel the Netty WebSocket channel to send the event to
+   * @param frame the TIC frame received
+   * @param latestOnly true if only the latest frame of each meter must be delivered
+   */
+  default void sendOnData(Channel channel, TICCoreFrame frame, boolean latestOnly) {
+    this.sendOnData(channel, frame);
+  }
+
+  /**
+   * Sends the {@link EventOnError} event of the given error to the specified WebSocket channel.
+   *
+   * <p>The same error instance is sent to every subscribed client: implementations may encode the
+   * event once and share the encoded bytes between channels.
+   *
+   * @param channel the Netty WebSocket channel to send the event to
+   * @param error the TIC error detected
+   */
+  default void sendOnError(Channel channel, TICCoreError error) {
+    this.sendEvent(channel, new EventOnError(LocalDateTime.now(), error));
+  }
 }
@@ -23,6 +23,7 @@ import tic.util.message.Request;
  *   <li>Encapsulates request for reading TIC data
  *   <li>Supports construction from map, DataDictionary, or explicit identifier
  *   <li>Validates and manages request parameters using key descriptors
+ *   <li>Optional maximum age allowing an answer from the last frame read
  * </ul>
  *
  * @author Enedis Smarties team
@@ -34,6 +35,7 @@ public class RequestReadTIC extends Request {
   public static final String NAME = "ReadTIC";
 
   private TICIdentifier data;
+  private Long maxAgeMs;
 
   /**
    * Constructs a request for reading TIC data with a specific identifier.
@@ -41,8 +43,21 @@ public class RequestReadTIC extends Request {
    * @param data the TIC identifier
    */
   public RequestReadTIC(TICIdentifier data) {
+    this(data, null);
+  }
+
+  /**
+   * Constructs a request for reading TIC data with a specific identifier, accepting a frame read
+   * before the request.
+   *
+   * @param data the TIC identifier
+   * @param maxAgeMs the maximum age in milliseconds of the frame answered, null to wait for the
+   *     next frame
+   */
+  public RequestReadTIC(TICIdentifier data, Long maxAgeMs) {
     super(NAME);
     this.setData(data);
+    this.setMaxAgeMs(maxAgeMs);
   }
 
   /**
@@ -62,4 +77,26 @@ public class RequestReadTIC extends Request {
   public void setData(TICIdentifier data) {
     this.data = data;
   }
+
+  /**
+   * Returns the maximum age of the frame answered.
+   *
+   * @return the maximum age in milliseconds, null if the next frame is awaited
+   */
+  public Long getMaxAgeMs() {
+    return this.maxAgeMs;
+  }
+
+  /**
+   * Sets the maximum age of the frame answered.
+   *
+   * @param maxAgeMs the maximum age in milliseconds, null to wait for the next frame
+   * @throws IllegalArgumentException if maxAgeMs is negative
+   */
+  public void setMaxAgeMs(Long maxAgeMs) {
+    if (maxAgeMs != null && maxAgeMs.longValue() < 0) {
+      throw new IllegalArgumentException("maxAgeMs cannot be negative");
+    }
+    this.maxAgeMs = maxAgeMs;
+  }
 }
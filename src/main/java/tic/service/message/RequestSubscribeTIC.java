@@ -35,6 +35,7 @@ public class RequestSubscribeTIC extends Request {
   public static final String NAME = "SubscribeTIC";
 
   private List<TICIdentifier> data;
+  private SubscriptionDelivery delivery;
 
   /**
    * Constructs a request for subscribing to TIC data with a specific list of identifiers.
@@ -42,8 +43,21 @@ public class RequestSubscribeTIC extends Request {
    * @param data the list of TIC identifiers
    */
   public RequestSubscribeTIC(List<TICIdentifier> data) {
+    this(data, SubscriptionDelivery.ALL);
+  }
+
+  /**
+   * Constructs a request for subscribing to TIC data with a specific list of identifiers and
+   * delivery mode.
+   *
+   * @param data the list of TIC identifiers
+   * @param delivery the delivery mode of the data events ({@link SubscriptionDelivery#ALL} when
+   *     null)
+   */
+  public RequestSubscribeTIC(List<TICIdentifier> data, SubscriptionDelivery delivery) {
     super(NAME);
     this.setData(data);
+    this.setDelivery(delivery);
   }
 
   /**
@@ -63,4 +77,22 @@ public class RequestSubscribeTIC extends Request {
   public void setData(List<TICIdentifier> data) {
     this.data = data;
   }
+
+  /**
+   * Returns the delivery mode of the data events.
+   *
+   * @return the delivery mode
+   */
+  public SubscriptionDelivery getDelivery() {
+    return this.delivery;
+  }
+
+  /**
+   * Sets the delivery mode of the data events.
+   *
+   * @param delivery the delivery mode ({@link SubscriptionDelivery#ALL} when null)
+   */
+  public void setDelivery(SubscriptionDelivery delivery) {
+    this.delivery = (delivery == null) ? SubscriptionDelivery.ALL : delivery;
+  }
 }
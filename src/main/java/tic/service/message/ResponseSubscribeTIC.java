@@ -7,8 +7,10 @@
 
 package tic.service.message;
 
-import tic.util.message.Response;
 import java.time.LocalDateTime;
+import java.util.List;
+import tic.util.message.Response;
+import tic.util.message.ResponseWithData;
 
 /**
  * Response message for TIC subscription.
@@ -24,13 +26,19 @@ import java.time.LocalDateTime;
  *   <li>Validates and manages response parameters using key descriptors
  * </ul>
  *
+ * <p>The optional data lists the outcome of each requested TIC identifier, so a request for
+ * several identifiers is answered once.
+ *
  * @author Enedis Smarties team
  * @see Response
+ * @see SubscriptionResult
  */
-public class ResponseSubscribeTIC extends Response {
+public class ResponseSubscribeTIC extends ResponseWithData<List<SubscriptionResult>> {
   /** Message name for this response. */
   public static final String NAME = "SubscribeTIC";
 
+  private List<SubscriptionResult> results;
+
   /**
    * Constructs a response for TIC subscription with explicit parameters.
    *
@@ -39,6 +47,42 @@ public class ResponseSubscribeTIC extends Response {
    * @param errorMessage the error message, if any
    */
   public ResponseSubscribeTIC(LocalDateTime dateTime, Number errorCode, String errorMessage) {
-    super(NAME, dateTime, errorCode, errorMessage);
+    this(dateTime, errorCode, errorMessage, null);
+  }
+
+  /**
+   * Constructs a response for TIC subscription with the outcome of each requested identifier.
+   *
+   * @param dateTime the response date and time
+   * @param errorCode the error code, if any
+   * @param errorMessage the error message, if any
+   * @param data the outcome of each requested identifier, or null
+   */
+  public ResponseSubscribeTIC(
+      LocalDateTime dateTime,
+      Number errorCode,
+      String errorMessage,
+      List<SubscriptionResult> data) {
+    super(NAME, dateTime, errorCode, errorMessage, data);
+  }
+
+  /**
+   * Returns the outcome of each requested identifier.
+   *
+   * @return the identifier outcomes, or null
+   */
+  @Override
+  public List<SubscriptionResult> getData() {
+    return this.results;
+  }
+
+  /**
+   * Sets the outcome of each requested identifier.
+   *
+   * @param data the identifier outcomes, or null
+   */
+  @Override
+  public void setData(List<SubscriptionResult> data) {
+    this.results = data;
   }
 }
@@ -0,0 +1,46 @@
+// Copyright (C) 2025 Enedis Smarties team <dt-dsi-nexus-lab-smarties@enedis.fr>
+//
+// SPDX-FileContributor: Jehan BOUSCH
+// SPDX-FileContributor: Mathieu SABARTHES
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package tic.service.message;
+
+/**
+ * Delivery mode of the data events of a TIC subscription.
+ *
+ * <p>Encoded in lower case by the optional {@code "delivery"} key of a {@link RequestSubscribeTIC}.
+ *
+ * @author Enedis Smarties team
+ * @see RequestSubscribeTIC
+ */
+public enum SubscriptionDelivery {
+  /** Every frame is delivered */
+  ALL,
+  /**
+   * Only the latest frame of each meter is delivered: a data event not yet drained by the client is
+   * replaced by the newer one
+   */
+  LATEST;
+
+  /**
+   * Gets the delivery mode of the given JSON value.
+   *
+   * @param value the JSON value, case insensitive
+   * @return the delivery mode
+   * @throws IllegalArgumentException if the value is not a delivery mode
+   */
+  public static SubscriptionDelivery fromJsonValue(String value) {
+    return SubscriptionDelivery.valueOf(value.toUpperCase());
+  }
+
+  /**
+   * Gets the JSON value of this delivery mode.
+   *
+   * @return the lower case name
+   */
+  public String toJsonValue() {
+    return this.name().toLowerCase();
+  }
+}
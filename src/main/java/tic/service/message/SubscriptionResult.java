@@ -0,0 +1,72 @@
+// Copyright (C) 2025 Enedis Smarties team <dt-dsi-nexus-lab-smarties@enedis.fr>
+//
+// SPDX-FileContributor: Jehan BOUSCH
+// SPDX-FileContributor: Mathieu SABARTHES
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package tic.service.message;
+
+import tic.core.TICIdentifier;
+
+/**
+ * Outcome of the subscription (or unsubscription) of one TIC identifier of a request.
+ *
+ * <p>Listed by the {@code "data"} key of {@link ResponseSubscribeTIC} and {@link
+ * ResponseUnsubscribeTIC}, in the order of the requested identifiers.
+ *
+ * @author Enedis Smarties team
+ * @see ResponseSubscribeTIC
+ * @see ResponseUnsubscribeTIC
+ */
+public class SubscriptionResult {
+  private final TICIdentifier identifier;
+  private final Number errorCode;
+  private final String errorMessage;
+
+  /**
+   * Constructs the outcome of an identifier subscription.
+   *
+   * @param identifier the requested TIC identifier
+   * @param errorCode the error code, 0 on success
+   * @param errorMessage the error message, null on success
+   */
+  public SubscriptionResult(TICIdentifier identifier, Number errorCode, String errorMessage) {
+    if (identifier == null) {
+      throw new IllegalArgumentException("identifier cannot be null");
+    }
+    if (errorCode == null) {
+      throw new IllegalArgumentException("errorCode cannot be null");
+    }
+    this.identifier = identifier;
+    this.errorCode = errorCode;
+    this.errorMessage = errorMessage;
+  }
+
+  /**
+   * Returns the requested TIC identifier.
+   *
+   * @return the identifier
+   */
+  public TICIdentifier getIdentifier() {
+    return this.identifier;
+  }
+
+  /**
+   * Returns the error code of the identifier subscription.
+   *
+   * @return the error code, 0 on success
+   */
+  public Number getErrorCode() {
+    return this.errorCode;
+  }
+
+  /**
+   * Returns the error message of the identifier subscription.
+   *
+   * @return the error message, null on success
+   */
+  public String getErrorMessage() {
+    return this.errorMessage;
+  }
+}
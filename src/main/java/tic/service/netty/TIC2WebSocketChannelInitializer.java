@@ -17,6 +17,7 @@ import io.netty.handler.codec.http.HttpServerCodec;
 import io.netty.handler.codec.http.websocketx.WebSocketServerProtocolHandler;
 import io.netty.handler.codec.http.websocketx.extensions.compression.WebSocketServerCompressionHandler;
 import io.netty.handler.stream.ChunkedWriteHandler;
+import tic.util.codec.JsonStringCodec;
 
 /**
  * Netty channel initializer for configuring the WebSocket server pipeline.
@@ -46,17 +47,54 @@ public class TIC2WebSocketChannelInitializer extends ChannelInitializer<SocketCh
 
   private final TIC2WebSocketClientPool clientPool;
   private final TIC2WebSocketRequestHandler requestHandler;
+  private final TIC2WebSocketEventEncoder eventEncoder;
+  private final TIC2WebSocketOutboundConfiguration outboundConfiguration;
 
   /**
-   * Constructor
+   * Constructor, sending compact JSON messages
    *
    * @param clientPool the client pool
    * @param requestHandler the request handler
    */
   public TIC2WebSocketChannelInitializer(
       TIC2WebSocketClientPool clientPool, TIC2WebSocketRequestHandler requestHandler) {
+    this(clientPool, requestHandler, JsonStringCodec.COMPACT_INDENT);
+  }
+
+  /**
+   * Constructor
+   *
+   * @param clientPool the client pool
+   * @param requestHandler the request handler
+   * @param jsonIndentFactor the JSON indentation of the messages sent to clients
+   */
+  public TIC2WebSocketChannelInitializer(
+      TIC2WebSocketClientPool clientPool,
+      TIC2WebSocketRequestHandler requestHandler,
+      int jsonIndentFactor) {
+    this(
+        clientPool, requestHandler, jsonIndentFactor, TIC2WebSocketOutboundConfiguration.DEFAULT);
+  }
+
+  /**
+   * Constructor
+   *
+   * @param clientPool the client pool
+   * @param requestHandler the request handler
+   * @param jsonIndentFactor the JSON indentation of the messages sent to clients
+   * @param outboundConfiguration the policy applied while a client channel is not writable
+   */
+  public TIC2WebSocketChannelInitializer(
+      TIC2WebSocketClientPool clientPool,
+      TIC2WebSocketRequestHandler requestHandler,
+      int jsonIndentFactor,
+      TIC2WebSocketOutboundConfiguration outboundConfiguration) {
     this.clientPool = clientPool;
     this.requestHandler = requestHandler;
+    this.eventEncoder =
+        new TIC2WebSocketEventEncoder(
+            TIC2WebSocketEventEncoder.DEFAULT_CACHE_SIZE, jsonIndentFactor);
+    this.outboundConfiguration = outboundConfiguration;
   }
 
   @Override
@@ -79,6 +117,7 @@ public class TIC2WebSocketChannelInitializer extends ChannelInitializer<SocketCh
     pipeline.addLast(new WebSocketServerProtocolHandler(WEBSOCKET_PATH, null, true));
 
     // Custom TIC2WebSocket handler
-    pipeline.addLast(new TIC2WebSocketHandler(clientPool, requestHandler));
+    pipeline.addLast(
+        new TIC2WebSocketHandler(clientPool, requestHandler, eventEncoder, outboundConfiguration));
   }
 }
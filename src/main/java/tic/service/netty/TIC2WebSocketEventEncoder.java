@@ -0,0 +1,164 @@
+// Copyright (C) 2025 Enedis Smarties team <dt-dsi-nexus-lab-smarties@enedis.fr>
+//
+// SPDX-FileContributor: Jehan BOUSCH
+// SPDX-FileContributor: Mathieu SABARTHES
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package tic.service.netty;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
+import io.netty.buffer.UnpooledByteBufAllocator;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import tic.core.TICCoreError;
+import tic.core.TICCoreFrame;
+import tic.service.message.EventOnError;
+import tic.service.message.EventOnTICData;
+import tic.util.codec.JsonStringCodec;
+import tic.util.message.Event;
+import tic.util.message.codec.MessageJsonCodec;
+
+/**
+ * Shared encoder of the events broadcast to several WebSocket clients.
+ *
+ * <p>The same {@link TICCoreFrame} or {@link TICCoreError} instance is notified to every subscribed
+ * client. This encoder serializes the corresponding event once, keeps the bytes in a buffer shared
+ * by all channels, and returns a retained duplicate for each write: broadcasting to N clients costs
+ * one encoding and N reference counted writes.
+ *
+ * <p>Compact events are streamed into a reused {@link StringBuilder} then written as UTF-8 into the
+ * shared buffer, no JSON object tree is built on this path.
+ *
+ * <p>The most recently encoded events are kept in a bounded cache, the cache reference of an
+ * evicted buffer is released.
+ *
+ * <p>All methods are thread-safe.
+ *
+ * @author Enedis Smarties team
+ * @see TIC2WebSocketHandler
+ */
+public class TIC2WebSocketEventEncoder {
+  /** Default number of encoded events kept in cache */
+  public static final int DEFAULT_CACHE_SIZE = 64;
+
+  private final MessageJsonCodec messageJsonCodec = MessageJsonCodec.getInstance();
+  private final Map<Object, ByteBuf> cache;
+  private final StringBuilder builder = new StringBuilder(1024);
+  private final int indentFactor;
+
+  /** Constructs a compact JSON encoder with {@link #DEFAULT_CACHE_SIZE} */
+  public TIC2WebSocketEventEncoder() {
+    this(DEFAULT_CACHE_SIZE, JsonStringCodec.COMPACT_INDENT);
+  }
+
+  /**
+   * Constructs a compact JSON encoder with the given cache size.
+   *
+   * @param cacheSize the number of encoded events kept in cache
+   * @throws IllegalArgumentException if cacheSize is not strictly positive
+   */
+  public TIC2WebSocketEventEncoder(int cacheSize) {
+    this(cacheSize, JsonStringCodec.COMPACT_INDENT);
+  }
+
+  /**
+   * Constructs an encoder with the given cache size and JSON indentation.
+   *
+   * @param cacheSize the number of encoded events kept in cache
+   * @param indentFactor the JSON indentation ({@link JsonStringCodec#COMPACT_INDENT} for compact
+   *     JSON)
+   * @throws IllegalArgumentException if cacheSize is not strictly positive
+   */
+  public TIC2WebSocketEventEncoder(int cacheSize, int indentFactor) {
+    if (cacheSize <= 0) {
+      throw new IllegalArgumentException("cacheSize must be strictly positive");
+    }
+    this.indentFactor = indentFactor;
+    this.cache =
+        new LinkedHashMap<Object, ByteBuf>(cacheSize, 0.75f, true) {
+          private static final long serialVersionUID = 1L;
+
+          @Override
+          protected boolean removeEldestEntry(Map.Entry<Object, ByteBuf> eldest) {
+            if (size() > cacheSize) {
+              eldest.getValue().release();
+              return true;
+            }
+            return false;
+          }
+        };
+  }
+
+  /**
+   * Gets the encoded {@link EventOnTICData} of the given frame.
+   *
+   * <p>The caller owns the returned buffer (it is released when written to a channel).
+   *
+   * @param frame the frame notified to the clients
+   * @return a retained duplicate of the shared encoded event
+   * @throws Exception if encoding fails
+   */
+  public ByteBuf encodeOnData(TICCoreFrame frame) throws Exception {
+    synchronized (this.cache) {
+      ByteBuf buffer = this.cache.get(frame);
+      if (buffer == null) {
+        buffer = this.encode(new EventOnTICData(LocalDateTime.now(), frame));
+        this.cache.put(frame, buffer);
+      }
+      return buffer.retainedDuplicate();
+    }
+  }
+
+  /**
+   * Gets the encoded {@link EventOnError} of the given error.
+   *
+   * <p>The caller owns the returned buffer (it is released when written to a channel).
+   *
+   * @param error the error notified to the clients
+   * @return a retained duplicate of the shared encoded event
+   * @throws Exception if encoding fails
+   */
+  public ByteBuf encodeOnError(TICCoreError error) throws Exception {
+    synchronized (this.cache) {
+      ByteBuf buffer = this.cache.get(error);
+      if (buffer == null) {
+        buffer = this.encode(new EventOnError(LocalDateTime.now(), error));
+        this.cache.put(error, buffer);
+      }
+      return buffer.retainedDuplicate();
+    }
+  }
+
+  /**
+   * Gets the JSON indentation of the messages sent to clients.
+   *
+   * @return the indent factor, {@link JsonStringCodec#COMPACT_INDENT} for compact JSON
+   */
+  public int getIndentFactor() {
+    return this.indentFactor;
+  }
+
+  /** Releases all the cached events */
+  public void clear() {
+    synchronized (this.cache) {
+      this.cache.values().forEach(ByteBuf::release);
+      this.cache.clear();
+    }
+  }
+
+  private ByteBuf encode(Event event) throws Exception {
+    if (this.indentFactor == JsonStringCodec.COMPACT_INDENT) {
+      // Called with the cache lock held, the builder is never shared between threads
+      this.builder.setLength(0);
+      this.messageJsonCodec.encodeToJsonString(event, this.builder);
+      return ByteBufUtil.writeUtf8(UnpooledByteBufAllocator.DEFAULT, this.builder);
+    }
+    String json = this.messageJsonCodec.encodeToJsonString(event, this.indentFactor);
+    return Unpooled.wrappedBuffer(json.getBytes(StandardCharsets.UTF_8));
+  }
+}
@@ -7,16 +7,24 @@
 
 package tic.service.netty;
 
+import io.netty.buffer.ByteBuf;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.EventLoop;
 import io.netty.channel.SimpleChannelInboundHandler;
 import io.netty.handler.codec.http.websocketx.TextWebSocketFrame;
 import io.netty.handler.codec.http.websocketx.WebSocketFrame;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletionStage;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.json.JSONException;
+import org.json.JSONObject;
+import tic.core.TICCoreError;
+import tic.core.TICCoreFrame;
 import tic.core.TICIdentifier;
 import tic.service.client.TIC2WebSocketClient;
 import tic.service.client.TIC2WebSocketClientPool;
@@ -52,6 +60,7 @@ import tic.util.message.exception.UnsupportedMessageException;
  *   <li>Parsing and validating incoming WebSocket messages
  *   <li>Handling requests and generating responses
  *   <li>Sending events and messages to clients
+ *   <li>Applying the outbound policy to the events of a client whose channel is not writable
  *   <li>Logging and error handling for channel operations
  * </ul>
  *
@@ -74,6 +83,15 @@ public class TIC2WebSocketHandler extends SimpleChannelInboundHandler<WebSocketF
   /** Handler for processing incoming requests. */
   private final TIC2WebSocketRequestHandler requestHandler;
 
+  /** Encoder of the events broadcast to several clients, shared by all handlers. */
+  private final TIC2WebSocketEventEncoder eventEncoder;
+
+  /** Outbound flow control configuration. */
+  private final TIC2WebSocketOutboundConfiguration outboundConfiguration;
+
+  /** Events waiting for the channel to become writable. */
+  private final TIC2WebSocketOutboundQueue outboundQueue;
+
   private MessageJsonCodec messageJsonCodec = MessageJsonCodec.getInstance();
 
   /**
@@ -84,8 +102,54 @@ public class TIC2WebSocketHandler extends SimpleChannelInboundHandler<WebSocketF
    */
   public TIC2WebSocketHandler(
       TIC2WebSocketClientPool clientPool, TIC2WebSocketRequestHandler requestHandler) {
+    this(clientPool, requestHandler, new TIC2WebSocketEventEncoder());
+  }
+
+  /**
+   * Constructs a new TIC2WebSocketHandler.
+   *
+   * @param clientPool the pool managing WebSocket clients
+   * @param requestHandler the handler for processing requests
+   * @param eventEncoder the encoder of broadcast events, shared by the handlers of all channels;
+   *     its indentation is also used for responses
+   */
+  public TIC2WebSocketHandler(
+      TIC2WebSocketClientPool clientPool,
+      TIC2WebSocketRequestHandler requestHandler,
+      TIC2WebSocketEventEncoder eventEncoder) {
+    this(clientPool, requestHandler, eventEncoder, TIC2WebSocketOutboundConfiguration.DEFAULT);
+  }
+
+  /**
+   * Constructs a new TIC2WebSocketHandler.
+   *
+   * @param clientPool the pool managing WebSocket clients
+   * @param requestHandler the handler for processing requests
+   * @param eventEncoder the encoder of broadcast events, shared by the handlers of all channels;
+   *     its indentation is also used for responses
+   * @param outboundConfiguration the policy applied while the channel is not writable
+   */
+  public TIC2WebSocketHandler(
+      TIC2WebSocketClientPool clientPool,
+      TIC2WebSocketRequestHandler requestHandler,
+      TIC2WebSocketEventEncoder eventEncoder,
+      TIC2WebSocketOutboundConfiguration outboundConfiguration) {
     this.clientPool = clientPool;
     this.requestHandler = requestHandler;
+    this.eventEncoder = eventEncoder;
+    this.outboundConfiguration = outboundConfiguration;
+    this.outboundQueue = new TIC2WebSocketOutboundQueue(outboundConfiguration.getQueueSize());
+  }
+
+  /**
+   * Gets the queue of the events waiting for the channel to become writable.
+   *
+   * <p>Its depth, dropped and conflated event counters can be read from any thread.
+   *
+   * @return the outbound queue
+   */
+  public TIC2WebSocketOutboundQueue getOutboundQueue() {
+    return this.outboundQueue;
   }
 
   /**
@@ -99,6 +163,52 @@ public class TIC2WebSocketHandler extends SimpleChannelInboundHandler<WebSocketF
     this.sendMessage(channel, event);
   }
 
+  /**
+   * Sends the data event of the given frame, encoded once for all the channels.
+   *
+   * @param channel the Netty channel to send the event to
+   * @param frame the TIC frame received
+   */
+  @Override
+  public void sendOnData(Channel channel, TICCoreFrame frame) {
+    this.sendOnData(channel, frame, false);
+  }
+
+  /**
+   * Sends the data event of the given frame, encoded once for all the channels.
+   *
+   * <p>With latest only delivery, a queued data event of the same meter is replaced whatever the
+   * outbound policy.
+   *
+   * @param channel the Netty channel to send the event to
+   * @param frame the TIC frame received
+   * @param latestOnly true if only the latest frame of each meter must be delivered
+   */
+  @Override
+  public void sendOnData(Channel channel, TICCoreFrame frame, boolean latestOnly) {
+    try {
+      this.sendEncodedEvent(
+          channel, this.eventEncoder.encodeOnData(frame), frame.getIdentifier(), latestOnly);
+    } catch (Exception e) {
+      logger.error("Error sending data event to channel " + channel.id().asLongText(), e);
+    }
+  }
+
+  /**
+   * Sends the error event of the given error, encoded once for all the channels.
+   *
+   * @param channel the Netty channel to send the event to
+   * @param error the TIC error detected
+   */
+  @Override
+  public void sendOnError(Channel channel, TICCoreError error) {
+    try {
+      this.sendEncodedEvent(channel, this.eventEncoder.encodeOnError(error), null, false);
+    } catch (Exception e) {
+      logger.error("Error sending error event to channel " + channel.id().asLongText(), e);
+    }
+  }
+
   /**
    * Invoked when a new channel becomes active.
    *
@@ -127,7 +237,8 @@ public class TIC2WebSocketHandler extends SimpleChannelInboundHandler<WebSocketF
   /**
    * Invoked when a channel becomes inactive.
    *
-   * <p>Handles client removal and sends an unsubscribe request if necessary.
+   * <p>Sends an unsubscribe request for the client of the channel, then removes the client from
+   * the pool when the request has been handled.
    *
    * @param ctx the channel handler context
    * @throws Exception if an error occurs during deactivation
@@ -139,17 +250,22 @@ public class TIC2WebSocketHandler extends SimpleChannelInboundHandler<WebSocketF
 
     logger.debug("Close channel " + channelId);
 
-    if (clientPool.exists(channelId)) {
-      try {
-        logger.debug("Generate unsubscribe request");
-        Request request = new RequestUnsubscribeTIC((List<TICIdentifier>) null);
-        this.handleRequest(clientPool.getClient(channelId).get(), request);
-
-        logger.debug("Remove client with channel id : " + channelId);
-        clientPool.remove(channelId);
-      } catch (Exception e) {
-        logger.error("Error during channel close", e);
-      }
+    this.outboundQueue.clear();
+
+    Optional<TIC2WebSocketClient> client = clientPool.getClient(channelId);
+    if (client.isPresent()) {
+      logger.debug("Generate unsubscribe request");
+      Request request = new RequestUnsubscribeTIC((List<TICIdentifier>) null);
+      // The client is removed once unsubscribed, whether the unsubscription succeeded or not
+      this.handleRequest(client.get(), request)
+          .whenComplete(
+              (response, exception) -> {
+                if (exception != null) {
+                  logger.error("Error during channel close", exception);
+                }
+                logger.debug("Remove client with channel id : " + channelId);
+                clientPool.remove(channelId);
+              });
     } else {
       logger.error("Client with channel id : " + channelId + " doesn't exist ! ");
     }
@@ -157,6 +273,28 @@ public class TIC2WebSocketHandler extends SimpleChannelInboundHandler<WebSocketF
     super.channelInactive(ctx);
   }
 
+  /**
+   * Invoked when the channel writability changes.
+   *
+   * <p>Writes the queued events while the channel stays writable.
+   *
+   * @param ctx the channel handler context
+   * @throws Exception if an error occurs
+   */
+  @Override
+  public void channelWritabilityChanged(ChannelHandlerContext ctx) throws Exception {
+    Channel channel = ctx.channel();
+    if (channel.isWritable() && !this.outboundQueue.isEmpty()) {
+      ByteBuf content;
+      while (channel.isWritable() && (content = this.outboundQueue.poll()) != null) {
+        channel.write(new TextWebSocketFrame(content));
+      }
+      channel.flush();
+    }
+
+    super.channelWritabilityChanged(ctx);
+  }
+
   /**
    * Handles exceptions caught during channel operations.
    *
@@ -198,19 +336,40 @@ public class TIC2WebSocketHandler extends SimpleChannelInboundHandler<WebSocketF
 
       TIC2WebSocketClient client = this.getClient(channel);
 
-      Optional<Message> message = this.getMessage(channel, text);
+      // The id is read before the message is decoded, so that the error responses carry it too
+      JSONObject jsonObject = this.parseJsonObject(text);
+      Object requestId = this.getRequestId(jsonObject);
+
+      Optional<Message> message = this.getMessage(channel, text, jsonObject, requestId);
       if (!message.isPresent()) {
         return;
       }
 
-      Optional<Request> request = this.getRequest(channel, message.get());
+      Optional<Request> request = this.getRequest(channel, message.get(), requestId);
       if (!request.isPresent()) {
         return;
       }
 
-      Response response = this.handleRequest(client, request.get());
-
-      this.sendMessage(channel, response);
+      // Requests are not awaited: the next ones of the channel are read while this one is
+      // pending, the responses carry the request id to be matched by the client
+      this.handleRequest(client, request.get())
+          .whenCompleteAsync(
+              (response, exception) -> {
+                if (exception != null) {
+                  logger.error("Error handling request on channel " + channelId, exception);
+                  response =
+                      new ResponseError(
+                          "ErrorResponse",
+                          LocalDateTime.now(),
+                          TIC2WebSocketEndPointErrorCode.INTERNAL_ERROR.value(),
+                          "Error handling request " + request.get().getName());
+                }
+                if (response != null) {
+                  response.setId(requestId);
+                }
+                this.sendMessage(channel, response);
+              },
+              channel.eventLoop());
     } else {
       // Handle other frame types if needed
       logger.warn("Unsupported frame type: " + frame.getClass().getSimpleName());
@@ -234,6 +393,37 @@ public class TIC2WebSocketHandler extends SimpleChannelInboundHandler<WebSocketF
     return clientOpt.get();
   }
 
+  /**
+   * Parses the given text as a JSON object.
+   *
+   * @param text the raw message text
+   * @return the JSON object, or null if the text is not a valid JSON object
+   */
+  private JSONObject parseJsonObject(String text) {
+    if (text == null || text.isEmpty()) {
+      return null;
+    }
+    try {
+      return new JSONObject(text);
+    } catch (JSONException e) {
+      return null;
+    }
+  }
+
+  /**
+   * Reads the request id from the raw JSON message, whether the message is valid or not.
+   *
+   * @param jsonObject the raw JSON message, or null if the text is not a JSON object
+   * @return the id if it is a string or a number, null otherwise
+   */
+  private Object getRequestId(JSONObject jsonObject) {
+    if (jsonObject == null) {
+      return null;
+    }
+    Object id = jsonObject.opt("id");
+    return (id instanceof String || id instanceof Number) ? id : null;
+  }
+
   /**
    * Parses and validates a message from the given text.
    *
@@ -241,15 +431,22 @@ public class TIC2WebSocketHandler extends SimpleChannelInboundHandler<WebSocketF
    *
    * @param channel the Netty channel
    * @param text the raw message text
+   * @param jsonObject the text parsed as a JSON object, or null if it is not a JSON object
+   * @param requestId the id read from the raw message, set on the error response
    * @return an Optional containing the parsed Message, or empty if invalid
    */
-  private Optional<Message> getMessage(Channel channel, String text) {
+  private Optional<Message> getMessage(
+      Channel channel, String text, JSONObject jsonObject, Object requestId) {
     Message message = null;
     TIC2WebSocketEndPointErrorCode errorCode = TIC2WebSocketEndPointErrorCode.NO_ERROR;
     String errorMessage = "";
 
     try {
-      message = messageJsonCodec.decodeFromJsonString(text);
+      // The text is decoded again only to report why it is not a JSON object
+      message =
+          (jsonObject != null)
+              ? messageJsonCodec.decodeFromJsonObject(jsonObject)
+              : messageJsonCodec.decodeFromJsonString(text);
     } catch (MessageException e) {
       if (e instanceof MessageInvalidFormatException) {
         errorCode = TIC2WebSocketEndPointErrorCode.INVALID_MESSAGE_FORMAT;
@@ -277,7 +474,7 @@ public class TIC2WebSocketHandler extends SimpleChannelInboundHandler<WebSocketF
 
     if (errorCode != TIC2WebSocketEndPointErrorCode.NO_ERROR) {
       logger.error("Error parsing message: " + errorMessage);
-      this.sendErrorMessage(channel, errorCode, errorMessage);
+      this.sendErrorMessage(channel, errorCode, errorMessage, requestId);
       return Optional.empty();
     }
 
@@ -291,13 +488,17 @@ public class TIC2WebSocketHandler extends SimpleChannelInboundHandler<WebSocketF
    *
    * @param channel the Netty channel
    * @param message the parsed Message
+   * @param requestId the id read from the raw message, set on the error response
    * @return an Optional containing the Request, or empty if not applicable
    */
-  private Optional<Request> getRequest(Channel channel, Message message) {
+  private Optional<Request> getRequest(Channel channel, Message message, Object requestId) {
     if (!(message instanceof Request)) {
       logger.error("Message is not a request");
       this.sendErrorMessage(
-          channel, TIC2WebSocketEndPointErrorCode.MESSAGE_TYPE_INVALID, "Message is not a request");
+          channel,
+          TIC2WebSocketEndPointErrorCode.MESSAGE_TYPE_INVALID,
+          "Message is not a request",
+          requestId);
       return Optional.empty();
     }
 
@@ -307,21 +508,93 @@ public class TIC2WebSocketHandler extends SimpleChannelInboundHandler<WebSocketF
   /**
    * Handles the given request using the request handler and client.
    *
+   * <p>The request handler does not block the event loop: the response is written from the
+   * channel event loop when the returned stage completes, while the event loop keeps serving the
+   * other channels.
+   *
    * @param client the TIC2WebSocketClient
    * @param request the request to handle
-   * @return the generated Response
+   * @return the stage completed with the generated Response
    */
-  private Response handleRequest(TIC2WebSocketClient client, Request request) {
+  private CompletionStage<Response> handleRequest(TIC2WebSocketClient client, Request request) {
     return requestHandler.handle(request, client);
   }
 
   private void sendErrorMessage(
-      Channel channel, TIC2WebSocketEndPointErrorCode errorCode, String errorMessage) {
+      Channel channel,
+      TIC2WebSocketEndPointErrorCode errorCode,
+      String errorMessage,
+      Object requestId) {
     ResponseError responseError =
         new ResponseError("ErrorResponse", LocalDateTime.now(), errorCode.value(), errorMessage);
+    responseError.setId(requestId);
     this.sendMessage(channel, responseError);
   }
 
+  /**
+   * Sends an already encoded event to the specified channel as a JSON WebSocket frame.
+   *
+   * <p>The event is written from the channel event loop, according to the outbound policy when the
+   * channel is not writable.
+   *
+   * @param channel the Netty channel to send the event to
+   * @param content the encoded event, released once written or dropped
+   * @param meterKey the meter of a data event (used for conflation), null for other events
+   * @param latestOnly true to replace the queued event of the same meter whatever the policy
+   */
+  private void sendEncodedEvent(
+      Channel channel, ByteBuf content, Object meterKey, boolean latestOnly) {
+    EventLoop eventLoop = channel.eventLoop();
+    if (eventLoop.inEventLoop()) {
+      this.writeEncodedEvent(channel, content, meterKey, latestOnly);
+      return;
+    }
+    try {
+      eventLoop.execute(() -> this.writeEncodedEvent(channel, content, meterKey, latestOnly));
+    } catch (Exception e) {
+      content.release();
+      logger.error("Error sending event to channel " + channel.id().asLongText(), e);
+    }
+  }
+
+  private void writeEncodedEvent(
+      Channel channel, ByteBuf content, Object meterKey, boolean latestOnly) {
+    if (!channel.isActive()) {
+      content.release();
+      return;
+    }
+    if (channel.isWritable() && this.outboundQueue.isEmpty()) {
+      if (logger.isDebugEnabled()) {
+        logger.debug(
+            "Sent message to channel {}: {}",
+            channel.id().asLongText(),
+            content.toString(StandardCharsets.UTF_8));
+      }
+      channel.writeAndFlush(new TextWebSocketFrame(content));
+      return;
+    }
+    if (latestOnly && meterKey != null) {
+      this.outboundQueue.offer(content, meterKey);
+      return;
+    }
+    switch (this.outboundConfiguration.getPolicy()) {
+      case DISCONNECT:
+        content.release();
+        this.outboundQueue.countDropped();
+        logger.warn(
+            "Channel " + channel.id().asLongText() + " over its high water mark, disconnecting");
+        channel.close();
+        break;
+      case LATEST:
+        this.outboundQueue.offer(content, meterKey);
+        break;
+      case DROP_OLDEST:
+      default:
+        this.outboundQueue.offer(content, null);
+        break;
+    }
+  }
+
   /**
    * Sends a message to the specified channel as a JSON WebSocket frame.
    *
@@ -332,7 +605,8 @@ public class TIC2WebSocketHandler extends SimpleChannelInboundHandler<WebSocketF
    */
   private void sendMessage(Channel channel, Message message) {
     try {
-      String json = messageJsonCodec.encodeToJsonString(message);
+      String json =
+          messageJsonCodec.encodeToJsonString(message, this.eventEncoder.getIndentFactor());
       TextWebSocketFrame frame = new TextWebSocketFrame(json);
       channel.writeAndFlush(frame);
 
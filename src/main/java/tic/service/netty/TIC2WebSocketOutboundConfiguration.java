@@ -0,0 +1,83 @@
+// Copyright (C) 2025 Enedis Smarties team <dt-dsi-nexus-lab-smarties@enedis.fr>
+//
+// SPDX-FileContributor: Jehan BOUSCH
+// SPDX-FileContributor: Mathieu SABARTHES
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package tic.service.netty;
+
+import io.netty.channel.WriteBufferWaterMark;
+
+/**
+ * Outbound flow control configuration of the WebSocket clients.
+ *
+ * <p>Defines the Netty write buffer water marks of the client channels and the policy applied to
+ * the events sent while a channel is not writable.
+ *
+ * @author Enedis Smarties team
+ * @see TIC2WebSocketOutboundPolicy
+ */
+public class TIC2WebSocketOutboundConfiguration {
+  /** Default outbound policy */
+  public static final TIC2WebSocketOutboundPolicy DEFAULT_POLICY =
+      TIC2WebSocketOutboundPolicy.DROP_OLDEST;
+
+  /** Default write buffer high water mark in bytes (Netty default) */
+  public static final int DEFAULT_HIGH_WATER_MARK = 64 * 1024;
+
+  /** Default maximum number of events queued per client */
+  public static final int DEFAULT_QUEUE_SIZE = 256;
+
+  /** Default configuration */
+  public static final TIC2WebSocketOutboundConfiguration DEFAULT =
+      new TIC2WebSocketOutboundConfiguration(
+          DEFAULT_POLICY, DEFAULT_HIGH_WATER_MARK, DEFAULT_QUEUE_SIZE);
+
+  private final TIC2WebSocketOutboundPolicy policy;
+  private final int highWaterMark;
+  private final int queueSize;
+
+  /**
+   * Constructor
+   *
+   * @param policy the policy applied while a channel is not writable (default policy when null)
+   * @param highWaterMark the write buffer high water mark in bytes (the low water mark is half of
+   *     it)
+   * @param queueSize the maximum number of events queued per client
+   * @throws IllegalArgumentException if highWaterMark or queueSize is not strictly positive
+   */
+  public TIC2WebSocketOutboundConfiguration(
+      TIC2WebSocketOutboundPolicy policy, int highWaterMark, int queueSize) {
+    if (highWaterMark <= 0) {
+      throw new IllegalArgumentException("highWaterMark must be strictly positive");
+    }
+    if (queueSize <= 0) {
+      throw new IllegalArgumentException("queueSize must be strictly positive");
+    }
+    this.policy = policy == null ? DEFAULT_POLICY : policy;
+    this.highWaterMark = highWaterMark;
+    this.queueSize = queueSize;
+  }
+
+  public TIC2WebSocketOutboundPolicy getPolicy() {
+    return this.policy;
+  }
+
+  public int getHighWaterMark() {
+    return this.highWaterMark;
+  }
+
+  public int getQueueSize() {
+    return this.queueSize;
+  }
+
+  /**
+   * Gets the Netty write buffer water marks of the client channels.
+   *
+   * @return the water marks
+   */
+  public WriteBufferWaterMark getWriteBufferWaterMark() {
+    return new WriteBufferWaterMark(this.highWaterMark / 2, this.highWaterMark);
+  }
+}
@@ -0,0 +1,26 @@
+// Copyright (C) 2025 Enedis Smarties team <dt-dsi-nexus-lab-smarties@enedis.fr>
+//
+// SPDX-FileContributor: Jehan BOUSCH
+// SPDX-FileContributor: Mathieu SABARTHES
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package tic.service.netty;
+
+/**
+ * Policy applied to the events of a client whose channel is not writable.
+ *
+ * <p>A channel stops being writable when its outbound buffer exceeds the high water mark (slow
+ * client or bad link), and becomes writable again below the low water mark.
+ *
+ * @author Enedis Smarties team
+ * @see TIC2WebSocketOutboundQueue
+ */
+public enum TIC2WebSocketOutboundPolicy {
+  /** Events are queued, the oldest one is dropped when the queue is full */
+  DROP_OLDEST,
+  /** Only the latest data event of each meter is queued, older ones are replaced (conflation) */
+  LATEST,
+  /** The client is disconnected */
+  DISCONNECT
+}
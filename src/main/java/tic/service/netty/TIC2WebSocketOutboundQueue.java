@@ -0,0 +1,129 @@
+// Copyright (C) 2025 Enedis Smarties team <dt-dsi-nexus-lab-smarties@enedis.fr>
+//
+// SPDX-FileContributor: Jehan BOUSCH
+// SPDX-FileContributor: Mathieu SABARTHES
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package tic.service.netty;
+
+import io.netty.buffer.ByteBuf;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounded queue of the encoded events waiting for a client channel to become writable.
+ *
+ * <p>Events are kept in arrival order. When the queue is full, the oldest event is dropped. An
+ * event offered with a conflation key replaces the pending event of the same key (it is moved to
+ * the end of the queue), so that only the latest event of each meter is kept.
+ *
+ * <p>The queue is confined to the event loop of its channel, only the counters can be read from
+ * other threads. Dropped and replaced buffers are released.
+ *
+ * @author Enedis Smarties team
+ * @see TIC2WebSocketOutboundPolicy
+ */
+public class TIC2WebSocketOutboundQueue {
+  private final int capacity;
+  private final Map<Object, ByteBuf> pendingEvents = new LinkedHashMap<>();
+  private volatile int depth;
+  private final AtomicLong droppedEvents = new AtomicLong();
+  private final AtomicLong conflatedEvents = new AtomicLong();
+
+  /**
+   * Constructor
+   *
+   * @param capacity the maximum number of queued events
+   * @throws IllegalArgumentException if capacity is not strictly positive
+   */
+  public TIC2WebSocketOutboundQueue(int capacity) {
+    if (capacity <= 0) {
+      throw new IllegalArgumentException("capacity must be strictly positive");
+    }
+    this.capacity = capacity;
+  }
+
+  /**
+   * Queues an encoded event.
+   *
+   * @param content the encoded event, owned by the queue
+   * @param conflationKey the key of the events replaced by this one, or null to never replace
+   */
+  public void offer(ByteBuf content, Object conflationKey) {
+    Object key = conflationKey == null ? new Object() : conflationKey;
+    ByteBuf replaced = this.pendingEvents.remove(key);
+    if (replaced != null) {
+      replaced.release();
+      this.conflatedEvents.incrementAndGet();
+    } else if (this.pendingEvents.size() >= this.capacity) {
+      Iterator<ByteBuf> iterator = this.pendingEvents.values().iterator();
+      iterator.next().release();
+      iterator.remove();
+      this.droppedEvents.incrementAndGet();
+    }
+    this.pendingEvents.put(key, content);
+    this.depth = this.pendingEvents.size();
+  }
+
+  /**
+   * Removes the oldest queued event.
+   *
+   * @return the encoded event, owned by the caller, or null if the queue is empty
+   */
+  public ByteBuf poll() {
+    Iterator<ByteBuf> iterator = this.pendingEvents.values().iterator();
+    if (!iterator.hasNext()) {
+      return null;
+    }
+    ByteBuf content = iterator.next();
+    iterator.remove();
+    this.depth = this.pendingEvents.size();
+    return content;
+  }
+
+  public boolean isEmpty() {
+    return this.pendingEvents.isEmpty();
+  }
+
+  /** Counts an event dropped without being queued */
+  public void countDropped() {
+    this.droppedEvents.incrementAndGet();
+  }
+
+  /** Releases all the queued events */
+  public void clear() {
+    this.pendingEvents.values().forEach(ByteBuf::release);
+    this.pendingEvents.clear();
+    this.depth = 0;
+  }
+
+  /**
+   * Gets the number of queued events.
+   *
+   * @return the queue depth
+   */
+  public int getDepth() {
+    return this.depth;
+  }
+
+  /**
+   * Gets the number of events dropped since the queue creation.
+   *
+   * @return the dropped event count
+   */
+  public long getDroppedEvents() {
+    return this.droppedEvents.get();
+  }
+
+  /**
+   * Gets the number of events replaced by a newer event of the same meter.
+   *
+   * @return the conflated event count
+   */
+  public long getConflatedEvents() {
+    return this.conflatedEvents.get();
+  }
+}
@@ -12,6 +12,7 @@ import tic.service.requesthandler.TIC2WebSocketRequestHandler;
 import io.netty.bootstrap.ServerBootstrap;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelFuture;
+import io.netty.channel.ChannelOption;
 import io.netty.channel.EventLoopGroup;
 import io.netty.channel.nio.NioEventLoopGroup;
 import io.netty.channel.socket.nio.NioServerSocketChannel;
@@ -19,6 +20,7 @@ import io.netty.handler.logging.LogLevel;
 import io.netty.handler.logging.LoggingHandler;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import tic.util.codec.JsonStringCodec;
 
 /**
  * TIC2WebSocket Netty WebSocket Server.
@@ -55,6 +57,10 @@ public class TIC2WebSocketServer {
   private final TIC2WebSocketClientPool clientPool;
   /** Handler for processing incoming requests. */
   private final TIC2WebSocketRequestHandler requestHandler;
+  /** JSON indentation of the messages sent to clients. */
+  private final int jsonIndentFactor;
+  /** Outbound flow control of the client channels. */
+  private final TIC2WebSocketOutboundConfiguration outboundConfiguration;
 
   /** Netty boss event loop group (accepts connections). */
   private EventLoopGroup bossGroup;
@@ -76,10 +82,59 @@ public class TIC2WebSocketServer {
       int port,
       TIC2WebSocketClientPool clientPool,
       TIC2WebSocketRequestHandler requestHandler) {
+    this(host, port, clientPool, requestHandler, JsonStringCodec.COMPACT_INDENT);
+  }
+
+  /**
+   * Constructs a new TIC2WebSocketServer.
+   *
+   * @param host the host address to bind the server
+   * @param port the port to bind the server
+   * @param clientPool the pool managing WebSocket clients
+   * @param requestHandler the handler for processing requests
+   * @param jsonIndentFactor the JSON indentation of the messages sent to clients ({@link
+   *     JsonStringCodec#COMPACT_INDENT} for compact JSON)
+   */
+  public TIC2WebSocketServer(
+      String host,
+      int port,
+      TIC2WebSocketClientPool clientPool,
+      TIC2WebSocketRequestHandler requestHandler,
+      int jsonIndentFactor) {
+    this(
+        host,
+        port,
+        clientPool,
+        requestHandler,
+        jsonIndentFactor,
+        TIC2WebSocketOutboundConfiguration.DEFAULT);
+  }
+
+  /**
+   * Constructs a new TIC2WebSocketServer.
+   *
+   * @param host the host address to bind the server
+   * @param port the port to bind the server
+   * @param clientPool the pool managing WebSocket clients
+   * @param requestHandler the handler for processing requests
+   * @param jsonIndentFactor the JSON indentation of the messages sent to clients ({@link
+   *     JsonStringCodec#COMPACT_INDENT} for compact JSON)
+   * @param outboundConfiguration the write buffer water marks of the client channels and the
+   *     policy applied while a client channel is not writable
+   */
+  public TIC2WebSocketServer(
+      String host,
+      int port,
+      TIC2WebSocketClientPool clientPool,
+      TIC2WebSocketRequestHandler requestHandler,
+      int jsonIndentFactor,
+      TIC2WebSocketOutboundConfiguration outboundConfiguration) {
     this.host = host;
     this.port = port;
     this.clientPool = clientPool;
     this.requestHandler = requestHandler;
+    this.jsonIndentFactor = jsonIndentFactor;
+    this.outboundConfiguration = outboundConfiguration;
   }
 
   /**
@@ -102,7 +157,12 @@ public class TIC2WebSocketServer {
           .group(bossGroup, workerGroup)
           .channel(NioServerSocketChannel.class)
           .handler(new LoggingHandler(LogLevel.INFO))
-          .childHandler(new TIC2WebSocketChannelInitializer(clientPool, requestHandler));
+          .childOption(
+              ChannelOption.WRITE_BUFFER_WATER_MARK,
+              outboundConfiguration.getWriteBufferWaterMark())
+          .childHandler(
+              new TIC2WebSocketChannelInitializer(
+                  clientPool, requestHandler, jsonIndentFactor, outboundConfiguration));
 
       ChannelFuture future = bootstrap.bind(host, port).sync();
       serverChannel = future.channel();
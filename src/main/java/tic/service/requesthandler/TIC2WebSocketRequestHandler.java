@@ -7,6 +7,7 @@
 
 package tic.service.requesthandler;
 
+import java.util.concurrent.CompletionStage;
 import tic.util.message.Request;
 import tic.util.message.Response;
 import tic.service.client.TIC2WebSocketClient;
@@ -33,14 +34,17 @@ import tic.service.client.TIC2WebSocketClient;
  */
 public interface TIC2WebSocketRequestHandler {
   /**
-   * Handles a TIC2WebSocket request and returns a response.
+   * Handles a TIC2WebSocket request and returns the stage of its response.
    *
    * <p>Processes the given request for the specified client, performing any necessary operations
-   * and returning the corresponding response.
+   * and completing the returned stage with the corresponding response. The calling thread
+   * (typically a Netty event loop) is not blocked: blocking operations are run by the
+   * implementation on its own threads, and the requests waiting for TIC data are completed from
+   * the TICCore callbacks.
    *
    * @param request the TIC2WebSocket request to handle
    * @param client the client associated with the request
-   * @return the response generated for the request
+   * @return the stage completed with the response generated for the request
    */
-  public Response handle(Request request, TIC2WebSocketClient client);
+  public CompletionStage<Response> handle(Request request, TIC2WebSocketClient client);
 }
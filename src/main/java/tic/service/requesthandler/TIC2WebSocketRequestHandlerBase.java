@@ -9,8 +9,12 @@ package tic.service.requesthandler;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import tic.core.TICCore;
@@ -32,8 +36,10 @@ import tic.service.message.ResponseGetModemsInfo;
 import tic.service.message.ResponseReadTIC;
 import tic.service.message.ResponseSubscribeTIC;
 import tic.service.message.ResponseUnsubscribeTIC;
+import tic.service.message.SubscriptionResult;
 import tic.util.message.Request;
 import tic.util.message.Response;
+import tic.util.task.NotificationDispatcher;
 
 /**
  * Base implementation of the TIC2WebSocket request handler.
@@ -59,35 +65,87 @@ import tic.util.message.Response;
  * @see TICCore
  */
 public class TIC2WebSocketRequestHandlerBase implements TIC2WebSocketRequestHandler {
+  /** Default number of threads running the requests */
+  public static final int DEFAULT_REQUEST_THREADS = 4;
+
   /** Logger for request handling and errors. */
   private Logger logger;
 
   /** TICCore instance for data operations. */
   private TICCore ticCore;
 
+  /** Runs the requests, in order for each client, off the network threads. */
+  private NotificationDispatcher requestDispatcher;
+
   /**
    * Constructs a new TIC2WebSocketRequestHandlerBase.
    *
    * @param ticCore the TICCore instance for data operations
    */
   public TIC2WebSocketRequestHandlerBase(TICCore ticCore) {
+    this(ticCore, new NotificationDispatcher(DEFAULT_REQUEST_THREADS, "tic-request-"));
+  }
+
+  /**
+   * Constructs a new TIC2WebSocketRequestHandlerBase running the requests with the given
+   * dispatcher.
+   *
+   * @param ticCore the TICCore instance for data operations
+   * @param requestDispatcher the dispatcher running the requests, one lane per client
+   */
+  public TIC2WebSocketRequestHandlerBase(
+      TICCore ticCore, NotificationDispatcher requestDispatcher) {
     super();
     this.logger = LogManager.getLogger(this.getClass());
     this.ticCore = ticCore;
+    this.requestDispatcher = requestDispatcher;
   }
 
   /**
-   * Handles a TIC2WebSocket request and returns a response.
+   * Handles a TIC2WebSocket request and returns the stage of its response.
    *
-   * <p>Dispatches the request to the appropriate handler method based on its type. Generates error
-   * responses for unsupported requests.
+   * <p>The request is run by the request dispatcher, after the previous requests of the same
+   * client, so that subscriptions and modem lookups never block the calling network thread. A
+   * ReadTIC request then completes from the frame callback of TICCore.
    *
    * @param request the TIC2WebSocket request to handle
    * @param client the client associated with the request
-   * @return the response generated for the request
+   * @return the stage completed with the response generated for the request
    */
   @Override
-  public Response handle(Request request, TIC2WebSocketClient client) {
+  public CompletionStage<Response> handle(Request request, TIC2WebSocketClient client) {
+    CompletableFuture<Response> response = new CompletableFuture<Response>();
+
+    this.requestDispatcher.dispatch(
+        (client != null) ? client : this,
+        () -> {
+          try {
+            this.handleRequest(request, client)
+                .whenComplete(
+                    (result, exception) -> {
+                      if (exception != null) {
+                        response.completeExceptionally(exception);
+                      } else {
+                        response.complete(result);
+                      }
+                    });
+          } catch (RuntimeException e) {
+            response.completeExceptionally(e);
+          }
+        });
+
+    return response;
+  }
+
+  /**
+   * Dispatches the request to the appropriate handler method based on its type. Generates error
+   * responses for unsupported requests.
+   *
+   * @param request the TIC2WebSocket request to handle
+   * @param client the client associated with the request
+   * @return the future of the response generated for the request
+   */
+  private CompletableFuture<Response> handleRequest(Request request, TIC2WebSocketClient client) {
     Response response = null;
 
     logger.info("Handling request: " + request.getName());
@@ -99,8 +157,7 @@ public class TIC2WebSocketRequestHandlerBase implements TIC2WebSocketRequestHand
         response = this.handleGetModemsInfoRequest(request);
         break;
       case RequestReadTIC.NAME:
-        response = this.handleReadTICRequest(request);
-        break;
+        return this.handleReadTICRequest(request);
       case RequestSubscribeTIC.NAME:
         response = this.handleSubscribeTICRequest(request, client);
         break;
@@ -117,7 +174,7 @@ public class TIC2WebSocketRequestHandlerBase implements TIC2WebSocketRequestHand
         break;
     }
 
-    return response;
+    return CompletableFuture.completedFuture(response);
   }
 
   /**
@@ -176,46 +233,66 @@ public class TIC2WebSocketRequestHandlerBase implements TIC2WebSocketRequestHand
   }
 
   /**
-   * Handles a request to read a TIC frame.
+   * Handles a request to read a TIC frame, completed when the next frame is read (or at once from
+   * the last frame read when the request accepts its age).
    *
    * @param request the request to process
-   * @return the response containing the TIC frame or an error
+   * @return the future of the response containing the TIC frame or an error, never completed
+   *     exceptionally
    */
-  private Response handleReadTICRequest(Request request) {
-    Response response = null;
-    try {
-      if (!(request instanceof RequestReadTIC)) {
-        return this.createErrorResponse(
-            request.getName(),
-            TIC2WebSocketEndPointErrorCode.INTERNAL_ERROR,
-            "Invalid request type for " + request.getName());
-      }
-
-      TICIdentifier identifier = ((RequestReadTIC) request).getData();
+  private CompletableFuture<Response> handleReadTICRequest(Request request) {
+    if (!(request instanceof RequestReadTIC)) {
+      return CompletableFuture.completedFuture(
+          this.createErrorResponse(
+              request.getName(),
+              TIC2WebSocketEndPointErrorCode.INTERNAL_ERROR,
+              "Invalid request type for " + request.getName()));
+    }
 
-      TICCoreFrame frame = this.ticCore.readNextFrame(identifier);
-      response =
-          new ResponseReadTIC(
+    TICIdentifier identifier = ((RequestReadTIC) request).getData();
+    Long maxAgeMs = ((RequestReadTIC) request).getMaxAgeMs();
+    CompletableFuture<TICCoreFrame> frameFuture =
+        (maxAgeMs != null)
+            ? this.ticCore.readFrameAsync(identifier, maxAgeMs.longValue())
+            : this.ticCore.readNextFrameAsync(identifier);
+
+    return frameFuture.handle(
+        (frame, exception) -> {
+          if (exception != null) {
+            return this.createReadTICErrorResponse(request, exception);
+          }
+          return new ResponseReadTIC(
               LocalDateTime.now(), TIC2WebSocketEndPointErrorCode.NO_ERROR.value(), null, frame);
-    } catch (TICCoreException e) {
-      if (e.getErrorCode() == TICCoreErrorCode.STREAM_IDENTIFIER_NOT_FOUND.getCode()) {
-        response =
-            this.createErrorResponse(
-                request.getName(),
-                TIC2WebSocketEndPointErrorCode.IDENTIFIER_NOT_FOUND,
-                e.getMessage());
-      } else if (e.getErrorCode() == TICCoreErrorCode.DATA_READ_TIMEOUT.getCode()) {
-        response =
-            this.createErrorResponse(
-                request.getName(), TIC2WebSocketEndPointErrorCode.READ_TIMEOUT, e.getMessage());
-      } else {
-        response =
-            this.createErrorResponse(
-                request.getName(), TIC2WebSocketEndPointErrorCode.INTERNAL_ERROR, e.getMessage());
-      }
-    }
+        });
+  }
 
-    return response;
+  /**
+   * Creates the error response of a failed ReadTIC request.
+   *
+   * @param request the request processed
+   * @param exception the read failure
+   * @return the error response
+   */
+  private Response createReadTICErrorResponse(Request request, Throwable exception) {
+    Throwable cause =
+        (exception instanceof CompletionException && exception.getCause() != null)
+            ? exception.getCause()
+            : exception;
+    if (!(cause instanceof TICCoreException)) {
+      this.logger.error(cause.getMessage(), cause);
+      return this.createErrorResponse(
+          request.getName(), TIC2WebSocketEndPointErrorCode.INTERNAL_ERROR, cause.getMessage());
+    }
+    TICCoreException e = (TICCoreException) cause;
+    if (e.getErrorCode() == TICCoreErrorCode.STREAM_IDENTIFIER_NOT_FOUND.getCode()) {
+      return this.createErrorResponse(
+          request.getName(), TIC2WebSocketEndPointErrorCode.IDENTIFIER_NOT_FOUND, e.getMessage());
+    } else if (e.getErrorCode() == TICCoreErrorCode.DATA_READ_TIMEOUT.getCode()) {
+      return this.createErrorResponse(
+          request.getName(), TIC2WebSocketEndPointErrorCode.READ_TIMEOUT, e.getMessage());
+    }
+    return this.createErrorResponse(
+        request.getName(), TIC2WebSocketEndPointErrorCode.INTERNAL_ERROR, e.getMessage());
   }
 
   /**
@@ -236,32 +313,27 @@ public class TIC2WebSocketRequestHandlerBase implements TIC2WebSocketRequestHand
     }
 
     List<TICIdentifier> requestedIdentifiers = ((RequestSubscribeTIC) request).getData();
+    client.setDelivery(requestedIdentifiers, ((RequestSubscribeTIC) request).getDelivery());
 
-    Optional<List<TICIdentifier>> ticIdentifiers = Optional.ofNullable(requestedIdentifiers);
-
-    if (ticIdentifiers.isPresent()) {
+    if (requestedIdentifiers != null) {
       List<TICIdentifier> newSubscriptions =
-          this.getNewSubcriptions(this.ticCore.getIndentifiers(client), ticIdentifiers.get());
-      if (!newSubscriptions.isEmpty()) {
-        for (TICIdentifier identifier : ticIdentifiers.get()) {
-          try {
-            this.ticCore.subscribe(identifier, client);
-            try {
-              response =
-                  new ResponseSubscribeTIC(
-                      LocalDateTime.now(), TIC2WebSocketEndPointErrorCode.NO_ERROR.value(), null);
-            } catch (Exception e) {
-              this.logger.error(e.getMessage(), e);
-            }
-          } catch (TICCoreException e) {
-            response =
-                this.createErrorResponse(
-                    request.getName(),
-                    TIC2WebSocketEndPointErrorCode.SUBSCRIPTION_FAIL,
-                    e.getMessage());
-          }
-        }
-      }
+          this.getNewSubcriptions(this.ticCore.getIndentifiers(client), requestedIdentifiers);
+      Map<TICIdentifier, TICCoreException> failures =
+          newSubscriptions.isEmpty()
+              ? Collections.<TICIdentifier, TICCoreException>emptyMap()
+              : this.ticCore.subscribeAll(newSubscriptions, client);
+      List<SubscriptionResult> results =
+          this.createSubscriptionResults(
+              requestedIdentifiers, failures, TIC2WebSocketEndPointErrorCode.SUBSCRIPTION_FAIL);
+      String errorMessage = this.getSubscriptionErrorMessage(results);
+      response =
+          new ResponseSubscribeTIC(
+              LocalDateTime.now(),
+              (errorMessage == null)
+                  ? TIC2WebSocketEndPointErrorCode.NO_ERROR.value()
+                  : TIC2WebSocketEndPointErrorCode.SUBSCRIPTION_FAIL.value(),
+              errorMessage,
+              results);
     } else {
       this.ticCore.subscribe(client);
       try {
@@ -323,28 +395,23 @@ public class TIC2WebSocketRequestHandlerBase implements TIC2WebSocketRequestHand
     }
 
     List<TICIdentifier> requestedIdentifiers = ((RequestUnsubscribeTIC) request).getData();
-
-    Optional<List<TICIdentifier>> ticIdentifiers = Optional.ofNullable(requestedIdentifiers);
-
-    if (ticIdentifiers.isPresent()) {
-      for (TICIdentifier identifier : ticIdentifiers.get()) {
-        try {
-          this.ticCore.unsubscribe(identifier, client);
-          try {
-            response =
-                new ResponseUnsubscribeTIC(
-                    LocalDateTime.now(), TIC2WebSocketEndPointErrorCode.NO_ERROR.value(), null);
-          } catch (Exception e) {
-            this.logger.error(e.getMessage(), e);
-          }
-        } catch (TICCoreException e) {
-          response =
-              this.createErrorResponse(
-                  request.getName(),
-                  TIC2WebSocketEndPointErrorCode.UNSUBSCRIPTION_FAIL,
-                  e.getMessage());
-        }
-      }
+    client.clearDelivery(requestedIdentifiers);
+
+    if (requestedIdentifiers != null) {
+      Map<TICIdentifier, TICCoreException> failures =
+          this.ticCore.unsubscribeAll(requestedIdentifiers, client);
+      List<SubscriptionResult> results =
+          this.createSubscriptionResults(
+              requestedIdentifiers, failures, TIC2WebSocketEndPointErrorCode.UNSUBSCRIPTION_FAIL);
+      String errorMessage = this.getSubscriptionErrorMessage(results);
+      response =
+          new ResponseUnsubscribeTIC(
+              LocalDateTime.now(),
+              (errorMessage == null)
+                  ? TIC2WebSocketEndPointErrorCode.NO_ERROR.value()
+                  : TIC2WebSocketEndPointErrorCode.UNSUBSCRIPTION_FAIL.value(),
+              errorMessage,
+              results);
     } else {
       this.ticCore.unsubscribe(client);
       try {
@@ -359,6 +426,56 @@ public class TIC2WebSocketRequestHandlerBase implements TIC2WebSocketRequestHand
     return response;
   }
 
+  /**
+   * Creates the outcome of each requested identifier of a subscription or unsubscription request.
+   *
+   * @param identifiers the requested TIC identifiers
+   * @param failures the failure of each identifier not processed
+   * @param failureCode the error code of a failed identifier
+   * @return the identifier outcomes, in the order of the requested identifiers
+   */
+  private List<SubscriptionResult> createSubscriptionResults(
+      List<TICIdentifier> identifiers,
+      Map<TICIdentifier, TICCoreException> failures,
+      TIC2WebSocketEndPointErrorCode failureCode) {
+    List<SubscriptionResult> results = new ArrayList<SubscriptionResult>(identifiers.size());
+
+    for (TICIdentifier identifier : identifiers) {
+      TICCoreException failure = failures.get(identifier);
+      results.add(
+          (failure == null)
+              ? new SubscriptionResult(
+                  identifier, TIC2WebSocketEndPointErrorCode.NO_ERROR.value(), null)
+              : new SubscriptionResult(identifier, failureCode.value(), failure.getMessage()));
+    }
+
+    return results;
+  }
+
+  /**
+   * Gets the error message of a subscription or unsubscription response.
+   *
+   * @param results the outcome of each requested identifier
+   * @return the message of the only failure, a failure count if several identifiers failed, or
+   *     null if none failed
+   */
+  private String getSubscriptionErrorMessage(List<SubscriptionResult> results) {
+    String errorMessage = null;
+    int failureCount = 0;
+
+    for (SubscriptionResult result : results) {
+      if (result.getErrorCode().intValue() != TIC2WebSocketEndPointErrorCode.NO_ERROR.value()) {
+        errorMessage = result.getErrorMessage();
+        failureCount++;
+      }
+    }
+
+    if (failureCount == 0 || (failureCount == 1 && errorMessage != null)) {
+      return errorMessage;
+    }
+    return failureCount + " of " + results.size() + " TIC identifiers failed";
+  }
+
   /**
    * Creates a generic error response for a given request name and error code.
    *
@@ -0,0 +1,137 @@
+// Copyright (C) 2025 Enedis Smarties team <dt-dsi-nexus-lab-smarties@enedis.fr>
+//
+// SPDX-FileContributor: Jehan BOUSCH
+// SPDX-FileContributor: Mathieu SABARTHES
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package tic.stream;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import tic.frame.delimiter.TICFrameDelimiter;
+
+/**
+ * Stateful splitter extracting complete TIC frames from a continuous serial byte stream.
+ *
+ * <p>Bytes are pulled from a {@link TICStreamRingBuffer} by chunks. The partial frame and the
+ * bytes following the last extracted frame are kept between calls, so that no frame is lost at
+ * the boundary of two reads. Extracted frames are written to a reused buffer which only grows when
+ * a larger frame is received.
+ *
+ * <p>This class is not thread-safe.
+ *
+ * @author Enedis Smarties team
+ */
+public class TICFrameSplitter {
+  /** Initial capacity of the frame buffer (larger than a standard TIC frame) */
+  public static final int DEFAULT_FRAME_CAPACITY = 1024;
+
+  /** Maximum frame length, larger frames are dropped (missing end delimiter) */
+  public static final int MAX_FRAME_LENGTH = 16384;
+
+  private static final int CHUNK_SIZE = 512;
+
+  private final byte[] chunk;
+  private int chunkPosition;
+  private int chunkLimit;
+  private byte[] frame;
+  private int frameLength;
+  private boolean startFrameFound;
+
+  /** Constructs an empty splitter */
+  public TICFrameSplitter() {
+    this.chunk = new byte[CHUNK_SIZE];
+    this.frame = new byte[DEFAULT_FRAME_CAPACITY];
+    this.reset();
+  }
+
+  /**
+   * Extracts the next complete frame from the given source.
+   *
+   * <p>The returned buffer wraps the internal frame buffer: its content is only valid until the
+   * next call to this splitter.
+   *
+   * @param source the received bytes
+   * @return the frame bytes from the start delimiter to the end delimiter included, or null if no
+   *     complete frame is available yet
+   */
+  public ByteBuffer nextFrame(TICStreamRingBuffer source) {
+    while (true) {
+      if (this.chunkPosition >= this.chunkLimit) {
+        this.chunkPosition = 0;
+        this.chunkLimit = source.read(this.chunk, 0, this.chunk.length);
+        if (this.chunkLimit == 0) {
+          return null;
+        }
+      }
+      if (this.split()) {
+        return ByteBuffer.wrap(this.frame, 0, this.frameLength).asReadOnlyBuffer();
+      }
+    }
+  }
+
+  /**
+   * Extracts the next complete frame from the given source as a new byte array.
+   *
+   * @param source the received bytes
+   * @return a copy of the frame bytes, or null if no complete frame is available yet
+   */
+  public byte[] nextFrameBytes(TICStreamRingBuffer source) {
+    ByteBuffer frameBuffer = this.nextFrame(source);
+    if (frameBuffer == null) {
+      return null;
+    }
+    return Arrays.copyOf(this.frame, this.frameLength);
+  }
+
+  /** Drops the partial frame and the pending bytes */
+  public void reset() {
+    this.chunkPosition = 0;
+    this.chunkLimit = 0;
+    this.frameLength = 0;
+    this.startFrameFound = false;
+  }
+
+  /**
+   * Scans the pending chunk bytes until the end of a frame is found.
+   *
+   * @return true if a complete frame has been written in the frame buffer
+   */
+  private boolean split() {
+    if (!this.startFrameFound) {
+      this.frameLength = 0;
+      while (this.chunkPosition < this.chunkLimit) {
+        if (this.chunk[this.chunkPosition++] == TICFrameDelimiter.BEGIN.getValue()) {
+          this.startFrameFound = true;
+          this.append(TICFrameDelimiter.BEGIN.getValue());
+          break;
+        }
+      }
+    }
+    while (this.startFrameFound && this.chunkPosition < this.chunkLimit) {
+      byte value = this.chunk[this.chunkPosition++];
+      if (value == TICFrameDelimiter.BEGIN.getValue()) {
+        // Truncated frame: restart from the new start delimiter
+        this.frameLength = 0;
+      } else if (this.frameLength >= MAX_FRAME_LENGTH) {
+        this.startFrameFound = false;
+        this.frameLength = 0;
+        return false;
+      }
+      this.append(value);
+      if (value == TICFrameDelimiter.END.getValue()) {
+        this.startFrameFound = false;
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private void append(byte value) {
+    if (this.frameLength == this.frame.length) {
+      this.frame = Arrays.copyOf(this.frame, Math.min(this.frame.length * 2, MAX_FRAME_LENGTH));
+    }
+    this.frame[this.frameLength++] = value;
+  }
+}
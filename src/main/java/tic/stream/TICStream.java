@@ -23,8 +23,7 @@ import tic.stream.configuration.TICStreamConfiguration;
 import tic.stream.configuration.TICStreamConfigurationLoader;
 import tic.stream.identifier.TICStreamIdentifier;
 import tic.stream.identifier.TICStreamIdentifierType;
-import tic.util.task.Task;
-import tic.util.task.TaskBase;
+import tic.util.task.NotificationDispatcher;
 import tic.util.task.TaskPeriodicWithSubscribers;
 
 public class TICStream extends TaskPeriodicWithSubscribers<TICStreamListener> {
@@ -114,7 +113,9 @@ public class TICStream extends TaskPeriodicWithSubscribers<TICStreamListener> {
         logger.warn("Failed to close existing TIC stream reader: {}", e.getMessage());
       }
     }
-    this.streamReader = new TICStreamReader(portName, baudrate, timeoutMillis);
+    this.streamReader =
+        new TICStreamReader(
+            portName, baudrate, this.timeoutMillis, this.configuration.getReadMode());
 
     if (this.streamModeDetector == null) {
       this.initializeStreamModeDetector();
@@ -181,28 +182,14 @@ public class TICStream extends TaskPeriodicWithSubscribers<TICStreamListener> {
   private void notifyOnDataRead(TICFrame ticFrame) {
     Collection<TICStreamListener> subscribers = this.getSubscribers();
     for (TICStreamListener subscriber : subscribers) {
-      Task task =
-          new TaskBase() {
-            @Override
-            public void process() {
-              subscriber.onFrame(ticFrame);
-            }
-          };
-      task.start();
+      NotificationDispatcher.getInstance().dispatch(this, () -> subscriber.onFrame(ticFrame));
     }
   }
 
   private void notifyOnErrorDetected(String message) {
     Collection<TICStreamListener> subscribers = this.getSubscribers();
     for (TICStreamListener subscriber : subscribers) {
-      Task task =
-          new TaskBase() {
-            @Override
-            public void process() {
-              subscriber.onError(message);
-            }
-          };
-      task.start();
+      NotificationDispatcher.getInstance().dispatch(this, () -> subscriber.onError(message));
     }
   }
 
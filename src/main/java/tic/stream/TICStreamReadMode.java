@@ -0,0 +1,26 @@
+// Copyright (C) 2025 Enedis Smarties team <dt-dsi-nexus-lab-smarties@enedis.fr>
+//
+// SPDX-FileContributor: Jehan BOUSCH
+// SPDX-FileContributor: Mathieu SABARTHES
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package tic.stream;
+
+/**
+ * Enumeration of the strategies used by {@link TICStreamReader} to receive serial data.
+ *
+ * @author Enedis Smarties team
+ */
+public enum TICStreamReadMode {
+  /**
+   * Event mode: received bytes are pushed by the serial port RXCHAR events and drained in one bulk
+   * read per event.
+   */
+  EVENT,
+  /**
+   * Polling mode: the serial port input buffer is checked periodically and drained in one bulk read
+   * when data is available. Used as fallback when events are not supported.
+   */
+  POLLING;
+}
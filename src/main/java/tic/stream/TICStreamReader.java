@@ -8,13 +8,14 @@
 package tic.stream;
 
 import jssc.SerialPort;
+import jssc.SerialPortEvent;
+import jssc.SerialPortEventListener;
 import jssc.SerialPortException;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import tic.frame.TICFrame;
 import tic.frame.codec.TICFrameCodec;
 import tic.frame.codec.TICFrameSummarizedCodec;
-import tic.frame.delimiter.TICFrameDelimiter;
 import tic.util.time.Time;
 
 public class TICStreamReader {
@@ -25,19 +26,44 @@ public class TICStreamReader {
   private int timeoutMillis;
   private int baudrate;
   private int pollingPeriod;
+  private TICStreamReadMode readMode;
+  private final TICStreamRingBuffer receiveBuffer;
+  private final TICFrameSplitter frameSplitter;
+  private boolean eventListenerAdded;
 
   /** Polling period in milliseconds for data reception */
   private static final int RECEIVE_DATA_POLLING_PERIOD = 100;
 
+  /** Read mode used when none is specified */
+  public static final TICStreamReadMode DEFAULT_READ_MODE = TICStreamReadMode.EVENT;
+
   private static final int DATA_BITS = 7;
   private static final int STOP_BITS = SerialPort.STOPBITS_1;
   private static final int PARITY = SerialPort.PARITY_EVEN;
 
   public TICStreamReader(String portName, int baudrate, int timeoutMillis) {
+    this(portName, baudrate, timeoutMillis, DEFAULT_READ_MODE);
+  }
+
+  public TICStreamReader(
+      String portName, int baudrate, int timeoutMillis, TICStreamReadMode readMode) {
     this.portName = portName;
     this.baudrate = baudrate;
     this.pollingPeriod = RECEIVE_DATA_POLLING_PERIOD;
     this.timeoutMillis = timeoutMillis;
+    this.readMode = (readMode != null) ? readMode : DEFAULT_READ_MODE;
+    this.receiveBuffer = new TICStreamRingBuffer();
+    this.frameSplitter = new TICFrameSplitter();
+  }
+
+  /**
+   * Gets the read mode currently used. May differ from the configured one when the serial port
+   * doesn't support events (fallback to {@link TICStreamReadMode#POLLING}).
+   *
+   * @return the read mode
+   */
+  public TICStreamReadMode getReadMode() {
+    return this.readMode;
   }
 
   /**
@@ -92,27 +118,25 @@ public class TICStreamReader {
     }
   }
 
+  /**
+   * Reads the next complete TIC frame.
+   *
+   * <p>Bytes received after the returned frame are kept for the next call, so that no frame is
+   * lost between two consecutive reads.
+   *
+   * @return the frame bytes from the start delimiter to the end delimiter included, or null if no
+   *     frame has been received within the timeout
+   */
   public byte[] read() {
     long beginTime = System.currentTimeMillis();
     long elapsedTime = 0;
-    boolean startFrameFound = false;
-    StringBuffer buffer = new StringBuffer();
 
     while (hasRemainingTime(elapsedTime)) {
-      Character nextByte = readNextByteIfAvailable();
-      if (nextByte != null) {
-        if (!startFrameFound) {
-          if (isStartDelimiter(nextByte)) {
-            startFrameFound = true;
-            buffer.append(nextByte);
-          }
-        } else {
-          buffer.append(nextByte);
-          if (isEndDelimiter(nextByte)) {
-            return buffer.toString().getBytes();
-          }
-        }
+      byte[] frame = this.frameSplitter.nextFrameBytes(this.receiveBuffer);
+      if (frame != null) {
+        return frame;
       }
+      this.receiveNextData(elapsedTime);
       elapsedTime = System.currentTimeMillis() - beginTime;
     }
 
@@ -123,30 +147,45 @@ public class TICStreamReader {
     return this.timeoutMillis == 0 || elapsedTime < this.timeoutMillis;
   }
 
-  private Character readNextByteIfAvailable() {
+  private void receiveNextData(long elapsedTime) {
     try {
-      if (this.available() <= 0) {
-        Time.sleep(this.pollingPeriod);
-        return null;
-      }
+      this.receiveData(this.getWaitingTime(elapsedTime));
     } catch (Exception e) {
-      return null;
+      logger.debug("Cannot receive data from {}: {}", this.portName, e.getMessage());
+      Time.sleep(this.pollingPeriod);
     }
+  }
 
-    byte[] chunk = this.read(1);
-    if (chunk.length == 0) {
-      return null;
+  private long getWaitingTime(long elapsedTime) {
+    if (this.timeoutMillis == 0) {
+      return this.pollingPeriod;
     }
-
-    return (char) chunk[0];
+    return Math.max(1, this.timeoutMillis - elapsedTime);
   }
 
-  private boolean isStartDelimiter(char value) {
-    return value == TICFrameDelimiter.BEGIN.getValue();
-  }
+  /**
+   * Fills the receive buffer with all the bytes currently available on the serial port.
+   *
+   * <p>In event mode, waits for the RXCHAR event listener to push data, at most the given time. In
+   * polling mode, drains the serial port input buffer in a single read, or sleeps one polling
+   * period when it is empty.
+   *
+   * @param waitingTime the maximum waiting time in milliseconds
+   */
+  private void receiveData(long waitingTime) {
+    this.open();
+    if (this.readMode == TICStreamReadMode.EVENT) {
+      this.receiveBuffer.awaitData(waitingTime);
+      return;
+    }
 
-  private boolean isEndDelimiter(char value) {
-    return value == TICFrameDelimiter.END.getValue();
+    int byteCount = this.available();
+    if (byteCount <= 0) {
+      Time.sleep(Math.min(this.pollingPeriod, waitingTime));
+      return;
+    }
+    byte[] chunk = this.read(byteCount);
+    this.receiveBuffer.write(chunk, 0, chunk.length);
   }
 
   /** Reads the specified number of bytes from the serial port input buffer. */
@@ -202,6 +241,7 @@ public class TICStreamReader {
       this.serialPort.openPort();
       this.serialPort.setParams(this.baudrate, DATA_BITS, STOP_BITS, PARITY);
       this.serialPort.setFlowControlMode(SerialPort.FLOWCONTROL_NONE);
+      this.addEventListener();
 
       logger.info("Opened TIC serial port {}", this.serialPort.getPortName());
     } catch (SerialPortException exception) {
@@ -210,6 +250,28 @@ public class TICStreamReader {
     }
   }
 
+  /**
+   * Registers the RXCHAR event listener when event mode is selected, falling back to polling mode
+   * if the serial port doesn't support it.
+   */
+  private void addEventListener() {
+    this.eventListenerAdded = false;
+    if (this.readMode != TICStreamReadMode.EVENT) {
+      return;
+    }
+    try {
+      this.serialPort.addEventListener(
+          new ReceiveEventListener(this.serialPort, this.receiveBuffer), SerialPort.MASK_RXCHAR);
+      this.eventListenerAdded = true;
+    } catch (SerialPortException exception) {
+      logger.warn(
+          "Serial port {} events not available, falling back to polling mode: {}",
+          this.portName,
+          exception.getMessage());
+      this.readMode = TICStreamReadMode.POLLING;
+    }
+  }
+
   /** Closes the serial port if opened. */
   public synchronized void close() {
     if (this.serialPort == null) {
@@ -217,6 +279,10 @@ public class TICStreamReader {
     }
     try {
       if (this.serialPort.isOpened()) {
+        if (this.eventListenerAdded) {
+          this.serialPort.removeEventListener();
+          this.eventListenerAdded = false;
+        }
         this.serialPort.closePort();
         logger.debug("Closed serial port {}", this.serialPort.getPortName());
       }
@@ -229,6 +295,8 @@ public class TICStreamReader {
 
   protected void reset() {
     this.close();
+    this.receiveBuffer.clear();
+    this.frameSplitter.reset();
     this.open();
     try {
       this.flush();
@@ -240,4 +308,35 @@ public class TICStreamReader {
   private synchronized boolean isOpened() {
     return this.serialPort != null && this.serialPort.isOpened();
   }
+
+  /**
+   * Serial port listener draining all received bytes in one read on each RXCHAR event.
+   *
+   * <p>The listener works on the serial port it has been registered to, so it never contends with
+   * the reader lock.
+   */
+  private static class ReceiveEventListener implements SerialPortEventListener {
+    private final SerialPort serialPort;
+    private final TICStreamRingBuffer receiveBuffer;
+
+    private ReceiveEventListener(SerialPort serialPort, TICStreamRingBuffer receiveBuffer) {
+      this.serialPort = serialPort;
+      this.receiveBuffer = receiveBuffer;
+    }
+
+    @Override
+    public void serialEvent(SerialPortEvent event) {
+      if (!event.isRXCHAR() || event.getEventValue() <= 0) {
+        return;
+      }
+      try {
+        byte[] chunk = this.serialPort.readBytes(event.getEventValue());
+        if (chunk != null) {
+          this.receiveBuffer.write(chunk, 0, chunk.length);
+        }
+      } catch (SerialPortException exception) {
+        logger.error("Cannot read serial port " + event.getPortName(), exception);
+      }
+    }
+  }
 }
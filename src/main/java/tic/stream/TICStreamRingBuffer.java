@@ -0,0 +1,171 @@
+// Copyright (C) 2025 Enedis Smarties team <dt-dsi-nexus-lab-smarties@enedis.fr>
+//
+// SPDX-FileContributor: Jehan BOUSCH
+// SPDX-FileContributor: Mathieu SABARTHES
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package tic.stream;
+
+/**
+ * Fixed capacity byte ring buffer used to store the bytes received from a serial port.
+ *
+ * <p>The buffer is written by the serial reception side (event listener or polling loop) and read
+ * by the frame extraction side. When the buffer is full, the oldest bytes are overwritten since
+ * they cannot belong to a frame still worth decoding.
+ *
+ * <p>All methods are thread-safe.
+ *
+ * @author Enedis Smarties team
+ */
+public class TICStreamRingBuffer {
+  /** Default capacity in bytes (several standard TIC frames) */
+  public static final int DEFAULT_CAPACITY = 8192;
+
+  private final byte[] buffer;
+  private int head;
+  private int size;
+
+  /** Constructs a ring buffer with {@link #DEFAULT_CAPACITY} */
+  public TICStreamRingBuffer() {
+    this(DEFAULT_CAPACITY);
+  }
+
+  /**
+   * Constructs a ring buffer with the given capacity.
+   *
+   * @param capacity the buffer capacity in bytes
+   * @throws IllegalArgumentException if capacity is not strictly positive
+   */
+  public TICStreamRingBuffer(int capacity) {
+    if (capacity <= 0) {
+      throw new IllegalArgumentException("capacity must be strictly positive");
+    }
+    this.buffer = new byte[capacity];
+    this.head = 0;
+    this.size = 0;
+  }
+
+  /**
+   * Appends bytes to the buffer and wakes up any thread waiting for data.
+   *
+   * @param data the source array
+   * @param offset the offset of the first byte to append
+   * @param length the number of bytes to append
+   */
+  public synchronized void write(byte[] data, int offset, int length) {
+    if (data == null || length <= 0) {
+      return;
+    }
+    if (offset < 0 || offset + length > data.length) {
+      throw new IndexOutOfBoundsException("Invalid offset or length for data");
+    }
+    if (length >= this.buffer.length) {
+      offset += length - this.buffer.length;
+      length = this.buffer.length;
+      this.head = 0;
+      this.size = 0;
+    }
+    int overflow = this.size + length - this.buffer.length;
+    if (overflow > 0) {
+      this.head = (this.head + overflow) % this.buffer.length;
+      this.size -= overflow;
+    }
+    int tail = (this.head + this.size) % this.buffer.length;
+    int firstPart = Math.min(length, this.buffer.length - tail);
+    System.arraycopy(data, offset, this.buffer, tail, firstPart);
+    System.arraycopy(data, offset + firstPart, this.buffer, 0, length - firstPart);
+    this.size += length;
+    this.notifyAll();
+  }
+
+  /**
+   * Removes and returns the oldest byte of the buffer.
+   *
+   * @return the byte value (0 to 255), or -1 if the buffer is empty
+   */
+  public synchronized int read() {
+    if (this.size == 0) {
+      return -1;
+    }
+    int value = this.buffer[this.head] & 0xFF;
+    this.head = (this.head + 1) % this.buffer.length;
+    this.size--;
+    return value;
+  }
+
+  /**
+   * Removes up to length bytes from the buffer and copies them to the destination array.
+   *
+   * @param destination the destination array
+   * @param offset the offset of the first byte written in destination
+   * @param length the maximum number of bytes to read
+   * @return the number of bytes read
+   */
+  public synchronized int read(byte[] destination, int offset, int length) {
+    int count = Math.min(length, this.size);
+    if (count <= 0) {
+      return 0;
+    }
+    int firstPart = Math.min(count, this.buffer.length - this.head);
+    System.arraycopy(this.buffer, this.head, destination, offset, firstPart);
+    System.arraycopy(this.buffer, 0, destination, offset + firstPart, count - firstPart);
+    this.head = (this.head + count) % this.buffer.length;
+    this.size -= count;
+    return count;
+  }
+
+  /**
+   * Waits until the buffer contains data or the timeout elapses.
+   *
+   * @param timeoutMillis the maximum waiting time in milliseconds
+   * @return true if data is available
+   */
+  public synchronized boolean awaitData(long timeoutMillis) {
+    long deadline = System.currentTimeMillis() + timeoutMillis;
+    long remaining = timeoutMillis;
+    while (this.size == 0 && remaining > 0) {
+      try {
+        this.wait(remaining);
+      } catch (InterruptedException exception) {
+        Thread.currentThread().interrupt();
+        break;
+      }
+      remaining = deadline - System.currentTimeMillis();
+    }
+    return this.size > 0;
+  }
+
+  /**
+   * Get the number of bytes available
+   *
+   * @return the number of bytes stored in the buffer
+   */
+  public synchronized int size() {
+    return this.size;
+  }
+
+  /**
+   * Check if the buffer is empty
+   *
+   * @return true if no byte is stored in the buffer
+   */
+  public synchronized boolean isEmpty() {
+    return this.size == 0;
+  }
+
+  /**
+   * Get the buffer capacity
+   *
+   * @return the maximum number of bytes stored in the buffer
+   */
+  public int capacity() {
+    return this.buffer.length;
+  }
+
+  /** Removes all bytes from the buffer */
+  public synchronized void clear() {
+    this.head = 0;
+    this.size = 0;
+  }
+}
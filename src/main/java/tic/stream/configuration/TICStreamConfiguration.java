@@ -8,10 +8,11 @@
 package tic.stream.configuration;
 
 import tic.frame.TICMode;
+import tic.stream.TICStreamReadMode;
 import tic.stream.identifier.TICStreamIdentifier;
 
 /**
- * Configuration class for TIC stream, including TIC mode, identifier, and timeout.
+ * Configuration class for TIC stream, including TIC mode, identifier, timeout and read mode.
  *
  * @author Enedis Smarties team
  */
@@ -19,10 +20,12 @@ public class TICStreamConfiguration {
 
   public static final TICMode DEFAULT_TIC_MODE = TICMode.AUTO;
   public static final int DEFAULT_TIMEOUT = 10;
+  public static final TICStreamReadMode DEFAULT_READ_MODE = TICStreamReadMode.EVENT;
 
   private TICMode ticMode;
   private TICStreamIdentifier identifier;
   private int timeout;
+  private TICStreamReadMode readMode;
 
   /**
    * Constructs a TICStreamConfiguration with the specified parameters.
@@ -30,9 +33,23 @@ public class TICStreamConfiguration {
    * @param ticMode the TIC mode (STANDARD, HISTORIC, or AUTO)
    */
   public TICStreamConfiguration(TICMode ticMode, TICStreamIdentifier identifier, int timeout) {
+    this(ticMode, identifier, timeout, DEFAULT_READ_MODE);
+  }
+
+  /**
+   * Constructs a TICStreamConfiguration with the specified parameters and serial read mode.
+   *
+   * @param ticMode the TIC mode (STANDARD, HISTORIC, or AUTO)
+   * @param identifier the TIC stream identifier
+   * @param timeout the timeout value in seconds
+   * @param readMode the serial read mode (EVENT or POLLING)
+   */
+  public TICStreamConfiguration(
+      TICMode ticMode, TICStreamIdentifier identifier, int timeout, TICStreamReadMode readMode) {
     this.setTicMode(ticMode);
     this.setIdentifier(identifier);
     this.setTimeout(timeout);
+    this.setReadMode(readMode);
   }
 
   /**
@@ -62,6 +79,15 @@ public class TICStreamConfiguration {
     return this.timeout;
   }
 
+  /**
+   * Returns the serial read mode for the TIC stream.
+   *
+   * @return the read mode (EVENT or POLLING)
+   */
+  public TICStreamReadMode getReadMode() {
+    return this.readMode;
+  }
+
   private void setTicMode(TICMode ticMode) {
     checkTicMode(ticMode);
     this.ticMode = ticMode;
@@ -77,6 +103,11 @@ public class TICStreamConfiguration {
     this.timeout = timeout;
   }
 
+  private void setReadMode(TICStreamReadMode readMode) {
+    checkReadMode(readMode);
+    this.readMode = readMode;
+  }
+
   private void checkTicMode(TICMode ticMode) {
     if (ticMode == null) {
       throw new IllegalArgumentException("TIC mode cannot be null");
@@ -89,6 +120,12 @@ public class TICStreamConfiguration {
     }
   }
 
+  private void checkReadMode(TICStreamReadMode readMode) {
+    if (readMode == null) {
+      throw new IllegalArgumentException("Read mode cannot be null");
+    }
+  }
+
   private void checkTimeout(int timeout) {
     if (timeout <= 0) {
       throw new IllegalArgumentException("Timeout must be a positive integer");
@@ -15,6 +15,7 @@ import org.json.JSONException;
 import org.json.JSONObject;
 import org.json.JSONTokener;
 import tic.frame.TICMode;
+import tic.stream.TICStreamReadMode;
 import tic.stream.identifier.SerialPortId;
 import tic.stream.identifier.SerialPortName;
 import tic.stream.identifier.TICStreamIdentifier;
@@ -39,8 +40,9 @@ public final class TICStreamConfigurationLoader {
       TICMode ticMode = parseTicMode(rootObject);
       int timeout = parseTimeout(rootObject);
       TICStreamIdentifier identifier = parseIdentifier(rootObject);
+      TICStreamReadMode readMode = parseReadMode(rootObject);
 
-      return new TICStreamConfiguration(ticMode, identifier, timeout);
+      return new TICStreamConfiguration(ticMode, identifier, timeout, readMode);
     } catch (NullPointerException | IOException | JSONException exception) {
       throw new IllegalStateException("Unable to load TIC stream configuration", exception);
     }
@@ -56,6 +58,12 @@ public final class TICStreamConfigurationLoader {
     return TICMode.valueOf(modeValue.toUpperCase());
   }
 
+  private static TICStreamReadMode parseReadMode(JSONObject root) {
+    String readModeValue =
+        root.optString("readMode", TICStreamConfiguration.DEFAULT_READ_MODE.name());
+    return TICStreamReadMode.valueOf(readModeValue.toUpperCase());
+  }
+
   private static int parseTimeout(JSONObject root) {
     int timeout = root.optInt("timeout", TICStreamConfiguration.DEFAULT_TIMEOUT);
     if (timeout <= 0) {
@@ -9,6 +9,7 @@ package tic.util.codec;
 
 public interface JsonStringCodec<T> {
     int DEFAULT_INDENT = 2;
+    int COMPACT_INDENT = 0;
 
     default String encodeToJsonString(T object) throws Exception {
         return encodeToJsonString(object, DEFAULT_INDENT);
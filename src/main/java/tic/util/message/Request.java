@@ -21,10 +21,14 @@ package tic.util.message;
  *   <li>Extending for custom request types
  * </ul>
  *
+ * <p>A request may carry a correlation id given by the client, echoed on its response so that
+ * several requests can be pending on the same connection.
+ *
  * @author Enedis Smarties team
  * @see Message
  */
 public abstract class Request extends Message {
+  private Object id;
 
   /**
    * Constructor setting parameters to specific values
@@ -34,4 +38,26 @@ public abstract class Request extends Message {
   public Request(String name) {
     super(MessageType.REQUEST, name);
   }
+
+  /**
+   * Get the correlation id given by the client
+   *
+   * @return the id (a string or a number), null if not set
+   */
+  public Object getId() {
+    return this.id;
+  }
+
+  /**
+   * Set the correlation id given by the client
+   *
+   * @param id the id (a string or a number), null if not set
+   * @throws IllegalArgumentException if id is neither a string nor a number
+   */
+  public void setId(Object id) {
+    if (id != null && !(id instanceof String) && !(id instanceof Number)) {
+      throw new IllegalArgumentException("id must be a string or a number");
+    }
+    this.id = id;
+  }
 }
@@ -31,6 +31,7 @@ public abstract class Response extends Message {
   private LocalDateTime dateTime;
   private Number errorCode;
   private String errorMessage;
+  private Object id;
 
   /**
    * Constructor setting parameters to specific values
@@ -102,4 +103,26 @@ public abstract class Response extends Message {
   public void setErrorMessage(String errorMessage) {
     this.errorMessage = errorMessage;
   }
+
+  /**
+   * Get the correlation id of the request answered
+   *
+   * @return the id (a string or a number), null if not set
+   */
+  public Object getId() {
+    return this.id;
+  }
+
+  /**
+   * Set the correlation id of the request answered
+   *
+   * @param id the id (a string or a number), null if not set
+   * @throws IllegalArgumentException if id is neither a string nor a number
+   */
+  public void setId(Object id) {
+    if (id != null && !(id instanceof String) && !(id instanceof Number)) {
+      throw new IllegalArgumentException("id must be a string or a number");
+    }
+    this.id = id;
+  }
 }
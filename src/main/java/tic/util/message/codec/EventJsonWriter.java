@@ -0,0 +1,257 @@
+// Copyright (C) 2025 Enedis Smarties team <dt-dsi-nexus-lab-smarties@enedis.fr>
+//
+// SPDX-FileContributor: Jehan BOUSCH
+// SPDX-FileContributor: Mathieu SABARTHES
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package tic.util.message.codec;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.json.JSONObject;
+import tic.core.TICCoreError;
+import tic.core.TICCoreFrame;
+import tic.core.TICIdentifier;
+import tic.frame.TICFrame;
+import tic.frame.group.TICGroup;
+import tic.service.message.EventOnError;
+import tic.service.message.EventOnTICData;
+import tic.util.message.Event;
+import tic.util.message.Message;
+import tic.util.message.MessageType;
+
+/**
+ * Streaming compact JSON writer of the events broadcast to clients.
+ *
+ * <p>{@link EventOnTICData} and {@link EventOnError} are written straight into a caller provided
+ * {@link StringBuilder}, without building the intermediate {@link JSONObject} trees of {@link
+ * EventJsonEncoder}. The output holds the same fields and values as the {@link JSONObject}
+ * encoding, strings are escaped like {@link JSONObject#quote(String)} does.
+ *
+ * @author Enedis Smarties team
+ * @see MessageJsonCodec
+ */
+public final class EventJsonWriter {
+
+  private EventJsonWriter() {}
+
+  /**
+   * Checks if the given message can be written by this writer.
+   *
+   * @param message the message to write
+   * @return true if the message is an {@link EventOnTICData} or an {@link EventOnError}
+   */
+  public static boolean canWrite(Message message) {
+    return message instanceof EventOnTICData || message instanceof EventOnError;
+  }
+
+  /**
+   * Appends the compact JSON encoding of the given event.
+   *
+   * @param event the event to write, see {@link #canWrite(Message)}
+   * @param builder the builder the JSON is appended to
+   * @return the given builder
+   * @throws IllegalArgumentException if the event is not supported or has no identifier
+   */
+  public static StringBuilder write(Event event, StringBuilder builder) {
+    builder.append('{');
+    writeKey("name", builder);
+    writeString(event.getName(), builder);
+    builder.append(',');
+    writeKey("type", builder);
+    writeString(MessageType.EVENT.toString(), builder);
+    builder.append(',');
+    writeKey("datetime", builder);
+    writeString(event.getDateTime().toString(), builder);
+
+    if (event instanceof EventOnTICData) {
+      writeEventOnTICData((EventOnTICData) event, builder);
+    } else if (event instanceof EventOnError) {
+      writeEventOnError((EventOnError) event, builder);
+    } else {
+      throw new IllegalArgumentException("Unsupported event " + event.getName());
+    }
+    return builder.append('}');
+  }
+
+  private static void writeEventOnTICData(EventOnTICData event, StringBuilder builder) {
+    TICCoreFrame frame = event.getData();
+    builder.append(',');
+    writeKey("identifier", builder);
+    writeIdentifier(frame.getIdentifier(), builder);
+    builder.append(',');
+    writeKey("mode", builder);
+    writeString(frame.getMode().toString(), builder);
+    builder.append(',');
+    writeKey("captureDateTime", builder);
+    writeString(frame.getCaptureDateTime().toString(), builder);
+    builder.append(',');
+    writeKey("frame", builder);
+    writeFrame(frame.getFrame(), builder);
+  }
+
+  private static void writeEventOnError(EventOnError event, StringBuilder builder) {
+    TICCoreError error = event.getData();
+    builder.append(',');
+    writeKey("identifier", builder);
+    writeIdentifier(error.getIdentifier(), builder);
+    if (error.getErrorCode() != null) {
+      builder.append(',');
+      writeKey("errorCode", builder);
+      builder.append(JSONObject.numberToString(error.getErrorCode()));
+    }
+    if (error.getErrorMessage() != null) {
+      builder.append(',');
+      writeKey("errorMessage", builder);
+      writeString(error.getErrorMessage(), builder);
+    }
+    builder.append(',');
+    writeKey("frame", builder);
+    writeFrame(error.getFrame(), builder);
+  }
+
+  private static void writeIdentifier(TICIdentifier identifier, StringBuilder builder) {
+    if (identifier == null) {
+      throw new IllegalArgumentException("identifier cannot be null");
+    }
+    builder.append('{');
+    writeKey("portName", builder);
+    writeNullableString(identifier.getPortName(), builder);
+    builder.append(',');
+    writeKey("portId", builder);
+    writeNullableString(identifier.getPortId(), builder);
+    builder.append(',');
+    writeKey("serialNumber", builder);
+    writeNullableString(identifier.getSerialNumber(), builder);
+    builder.append('}');
+  }
+
+  private static void writeFrame(TICFrame frame, StringBuilder builder) {
+    if (frame == null) {
+      builder.append("null");
+      return;
+    }
+    int start = builder.length();
+    try {
+      if (frame.hasDuplicateLabels()) {
+        writeGroupMap(frame.getGroupList(), builder);
+      } else {
+        writeGroupList(frame.getGroupList(), builder);
+      }
+    } catch (RuntimeException e) {
+      builder.setLength(start);
+      builder.append("null");
+    }
+  }
+
+  private static void writeGroupList(List<TICGroup> groups, StringBuilder builder) {
+    builder.append('{');
+    boolean first = true;
+    for (TICGroup group : groups) {
+      if (group.getValue() == null) {
+        continue;
+      }
+      if (!first) {
+        builder.append(',');
+      }
+      first = false;
+      writeKey(getGroupKey(group), builder);
+      writeString(group.getValue(), builder);
+    }
+    builder.append('}');
+  }
+
+  /** Last group wins when labels are duplicated, as with {@link JSONObject#put} */
+  private static void writeGroupMap(List<TICGroup> groups, StringBuilder builder) {
+    Map<String, String> values = new LinkedHashMap<>();
+    for (TICGroup group : groups) {
+      if (group.getValue() == null) {
+        values.remove(getGroupKey(group));
+      } else {
+        values.put(getGroupKey(group), group.getValue());
+      }
+    }
+    builder.append('{');
+    boolean first = true;
+    for (Map.Entry<String, String> entry : values.entrySet()) {
+      if (!first) {
+        builder.append(',');
+      }
+      first = false;
+      writeKey(entry.getKey(), builder);
+      writeString(entry.getValue(), builder);
+    }
+    builder.append('}');
+  }
+
+  private static String getGroupKey(TICGroup group) {
+    if (group.isValid()) {
+      if (group.getLabel() == null) {
+        throw new NullPointerException("Null key.");
+      }
+      return group.getLabel();
+    }
+    return "!" + group.getLabel();
+  }
+
+  private static void writeKey(String key, StringBuilder builder) {
+    writeString(key, builder);
+    builder.append(':');
+  }
+
+  private static void writeNullableString(String value, StringBuilder builder) {
+    if (value == null) {
+      builder.append("null");
+    } else {
+      writeString(value, builder);
+    }
+  }
+
+  /** Same escaping as {@link JSONObject#quote(String)} */
+  private static void writeString(String value, StringBuilder builder) {
+    builder.append('"');
+    char previous = 0;
+    int length = value.length();
+    for (int i = 0; i < length; i++) {
+      char c = value.charAt(i);
+      switch (c) {
+        case '\\':
+        case '"':
+          builder.append('\\').append(c);
+          break;
+        case '/':
+          if (previous == '<') {
+            builder.append('\\');
+          }
+          builder.append(c);
+          break;
+        case '\b':
+          builder.append("\\b");
+          break;
+        case '\t':
+          builder.append("\\t");
+          break;
+        case '\n':
+          builder.append("\\n");
+          break;
+        case '\f':
+          builder.append("\\f");
+          break;
+        case '\r':
+          builder.append("\\r");
+          break;
+        default:
+          if (c < ' ' || (c >= '\u0080' && c < '\u00a0') || (c >= '\u2000' && c < '\u2100')) {
+            String hex = Integer.toHexString(c);
+            builder.append("\\u0000", 0, 6 - hex.length()).append(hex);
+          } else {
+            builder.append(c);
+          }
+      }
+      previous = c;
+    }
+    builder.append('"');
+  }
+}
@@ -50,10 +50,30 @@ public class MessageJsonCodec implements JsonObjectCodec<Message>, JsonStringCod
 
   @Override
   public String encodeToJsonString(Message object, int indentFactor) throws Exception {
+    if (indentFactor == COMPACT_INDENT && EventJsonWriter.canWrite(object)) {
+      return EventJsonWriter.write((Event) object, new StringBuilder(1024)).toString();
+    }
     JSONObject jsonObject = encodeToJsonObject(object);
     return jsonObject.toString(indentFactor);
   }
 
+  /**
+   * Appends the compact JSON encoding of the given message.
+   *
+   * <p>Broadcast events are streamed by {@link EventJsonWriter} without intermediate JSON objects,
+   * the other messages are encoded with {@link #encodeToJsonObject(Message)}.
+   *
+   * @param message the message to encode
+   * @param builder the builder the JSON is appended to (can be reused between calls)
+   * @return the given builder
+   */
+  public StringBuilder encodeToJsonString(Message message, StringBuilder builder) {
+    if (EventJsonWriter.canWrite(message)) {
+      return EventJsonWriter.write((Event) message, builder);
+    }
+    return builder.append(encodeToJsonObject(message).toString());
+  }
+
   @Override
   public Message decodeFromJsonString(String jsonString, int indentFactor) throws Exception {
     if (jsonString == null || jsonString.isEmpty()) {
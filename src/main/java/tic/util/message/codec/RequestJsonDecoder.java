@@ -18,8 +18,10 @@ import tic.service.message.RequestGetModemsInfo;
 import tic.service.message.RequestReadTIC;
 import tic.service.message.RequestSubscribeTIC;
 import tic.service.message.RequestUnsubscribeTIC;
+import tic.service.message.SubscriptionDelivery;
 import tic.util.message.Message;
 import tic.util.message.MessageType;
+import tic.util.message.Request;
 import tic.util.message.exception.MessageException;
 import tic.util.message.exception.MessageInvalidContentException;
 import tic.util.message.exception.MessageInvalidFormatException;
@@ -69,9 +71,21 @@ public class RequestJsonDecoder {
       default:
         throw new MessageKeyNameDoesntExistException("Unsupported request message name: " + name);
     }
+    ((Request) message).setId(decodeOptionalId(jsonObject));
     return message;
   }
 
+  private static Object decodeOptionalId(JSONObject jsonObject) throws MessageException {
+    if (!jsonObject.has("id") || jsonObject.isNull("id")) {
+      return null;
+    }
+    Object value = jsonObject.opt("id");
+    if (!(value instanceof String) && !(value instanceof Number)) {
+      throw new MessageInvalidContentException("Invalid 'id' value: " + value);
+    }
+    return value;
+  }
+
   private static Message decodeGetAvailableTICs(JSONObject jsonObject) {
     return new RequestGetAvailableTICs();
   }
@@ -86,11 +100,38 @@ public class RequestJsonDecoder {
           "JSON object missing required field 'data' for ReadTIC request");
     }
     JSONObject dataObject = jsonObject.getJSONObject("data");
-    return new RequestReadTIC(TICIdentifierCodec.getInstance().decodeFromJsonObject(dataObject));
+    return new RequestReadTIC(
+        TICIdentifierCodec.getInstance().decodeFromJsonObject(dataObject),
+        decodeOptionalMaxAge(jsonObject));
+  }
+
+  private static Long decodeOptionalMaxAge(JSONObject jsonObject) throws MessageException {
+    if (!jsonObject.has("maxAgeMs") || jsonObject.isNull("maxAgeMs")) {
+      return null;
+    }
+    Object value = jsonObject.opt("maxAgeMs");
+    if (!(value instanceof Number) || ((Number) value).longValue() < 0) {
+      throw new MessageInvalidContentException("Invalid 'maxAgeMs' value: " + value);
+    }
+    return ((Number) value).longValue();
   }
 
   private static Message decodeSubscribeTIC(JSONObject jsonObject) throws MessageException {
-    return new RequestSubscribeTIC(decodeOptionalTICIdentifierList(jsonObject));
+    return new RequestSubscribeTIC(
+        decodeOptionalTICIdentifierList(jsonObject), decodeOptionalDelivery(jsonObject));
+  }
+
+  private static SubscriptionDelivery decodeOptionalDelivery(JSONObject jsonObject)
+      throws MessageException {
+    if (!jsonObject.has("delivery") || jsonObject.isNull("delivery")) {
+      return SubscriptionDelivery.ALL;
+    }
+    try {
+      return SubscriptionDelivery.fromJsonValue(jsonObject.getString("delivery"));
+    } catch (Exception e) {
+      throw new MessageInvalidContentException(
+          "Invalid 'delivery' value: " + jsonObject.opt("delivery"), e);
+    }
   }
 
   private static Message decodeUnsubscribeTIC(JSONObject jsonObject) throws MessageException {
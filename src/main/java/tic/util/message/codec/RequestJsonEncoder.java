@@ -15,6 +15,7 @@ import tic.service.message.RequestGetModemsInfo;
 import tic.service.message.RequestReadTIC;
 import tic.service.message.RequestSubscribeTIC;
 import tic.service.message.RequestUnsubscribeTIC;
+import tic.service.message.SubscriptionDelivery;
 import tic.util.message.Request;
 
 public class RequestJsonEncoder {
@@ -24,6 +25,9 @@ public class RequestJsonEncoder {
   private RequestJsonEncoder() {}
 
   public static JSONObject encode(Request message, JSONObject jsonMessage) {
+    if (message.getId() != null) {
+      jsonMessage.put("id", message.getId());
+    }
     switch (message.getName()) {
       case RequestGetAvailableTICs.NAME:
         return jsonMessage;
@@ -43,12 +47,18 @@ public class RequestJsonEncoder {
   private static JSONObject encodeReadTICRequest(RequestReadTIC message, JSONObject jsonMessage) {
     TICIdentifier identifier = message.getData();
     jsonMessage.put("data", ticIdentifierCodec.encodeToJsonObject(identifier));
+    if (message.getMaxAgeMs() != null) {
+      jsonMessage.put("maxAgeMs", message.getMaxAgeMs());
+    }
     return jsonMessage;
   }
 
   private static JSONObject encodeSubscribeTICRequest(
       RequestSubscribeTIC message, JSONObject jsonMessage) {
     jsonMessage.put("data", ticIdentifierCodec.encodeToJsonArray(message.getData()));
+    if (message.getDelivery() != SubscriptionDelivery.ALL) {
+      jsonMessage.put("delivery", message.getDelivery().toJsonValue());
+    }
     return jsonMessage;
   }
 
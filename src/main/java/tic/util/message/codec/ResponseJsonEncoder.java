@@ -7,6 +7,8 @@
 
 package tic.util.message.codec;
 
+import java.util.List;
+import org.json.JSONArray;
 import org.json.JSONObject;
 import tic.core.codec.TICCoreFrameCodec;
 import tic.core.codec.TICIdentifierCodec;
@@ -16,6 +18,7 @@ import tic.service.message.ResponseGetModemsInfo;
 import tic.service.message.ResponseReadTIC;
 import tic.service.message.ResponseSubscribeTIC;
 import tic.service.message.ResponseUnsubscribeTIC;
+import tic.service.message.SubscriptionResult;
 import tic.util.message.Response;
 
 public class ResponseJsonEncoder {
@@ -28,6 +31,9 @@ public class ResponseJsonEncoder {
     jsonMessage.put("datetime", message.getDateTime().toString());
     jsonMessage.put("errorCode", message.getErrorCode());
     jsonMessage.put("errorMessage", message.getErrorMessage());
+    if (message.getId() != null) {
+      jsonMessage.put("id", message.getId());
+    }
 
     switch (message.getName()) {
       case ResponseGetAvailableTICs.NAME:
@@ -46,8 +52,15 @@ public class ResponseJsonEncoder {
         }
         return jsonMessage;
       case ResponseSubscribeTIC.NAME:
+        if (message instanceof ResponseSubscribeTIC) {
+          return encodeSubscriptionResults(((ResponseSubscribeTIC) message).getData(), jsonMessage);
+        }
         return jsonMessage;
       case ResponseUnsubscribeTIC.NAME:
+        if (message instanceof ResponseUnsubscribeTIC) {
+          return encodeSubscriptionResults(
+              ((ResponseUnsubscribeTIC) message).getData(), jsonMessage);
+        }
         return jsonMessage;
       default:
         return jsonMessage;
@@ -79,4 +92,21 @@ public class ResponseJsonEncoder {
     }
     return jsonMessage;
   }
+
+  private static JSONObject encodeSubscriptionResults(
+      List<SubscriptionResult> results, JSONObject jsonMessage) {
+    if (results == null) {
+      return jsonMessage;
+    }
+    JSONArray jsonResults = new JSONArray();
+    for (SubscriptionResult result : results) {
+      JSONObject jsonResult = new JSONObject();
+      jsonResult.put("identifier", ticIdentifierCodec.encodeToJsonObject(result.getIdentifier()));
+      jsonResult.put("errorCode", result.getErrorCode());
+      jsonResult.put("errorMessage", result.getErrorMessage());
+      jsonResults.put(jsonResult);
+    }
+    jsonMessage.put("data", jsonResults);
+    return jsonMessage;
+  }
 }
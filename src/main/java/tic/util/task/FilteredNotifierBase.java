@@ -7,9 +7,13 @@
 
 package tic.util.task;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArraySet;
 import java.util.concurrent.locks.Lock;
@@ -23,6 +27,15 @@ import java.util.function.Predicate;
  * associated filters. It supports both filtered and unfiltered (global) subscriptions, enabling
  * flexible event delivery and observer patterns.
  *
+ * <p>Subscriptions are changed under a single lock and the subscribers of each filter are kept in
+ * copy-on-write sets, so they can be read without locking. The filters of each subscriber are
+ * indexed. Subclasses maintaining their own lookup structures are told of every change through
+ * {@link #onSubscriptionsChanged()}.
+ *
+ * <p>The collections returned by {@link #getSubscribers()} and {@link #getSubscribers(boolean,
+ * boolean)} are immutable: the full subscriber list is rebuilt on each change and published
+ * through a volatile reference, so reading it takes no lock and allocates nothing.
+ *
  * <p>Common use cases include:
  *
  * <ul>
@@ -36,15 +49,17 @@ import java.util.function.Predicate;
  */
 public class FilteredNotifierBase<F, T extends Subscriber> implements FilteredNotifier<F, T> {
   protected Map<F, Collection<T>> subscribersFiltered;
-  private Lock subscribersFilteredLock = new ReentrantLock();
   protected Collection<T> subscribersUnfiltered;
-  private Lock subscribersUnfilteredLock = new ReentrantLock();
+  private final Map<T, Set<F>> filtersBySubscriber;
+  private final Lock subscriptionsLock = new ReentrantLock();
+  private volatile Collection<T> subscribersSnapshot = Collections.emptyList();
 
   /** Default constructor */
   public FilteredNotifierBase() {
     super();
     this.subscribersFiltered = new ConcurrentHashMap<F, Collection<T>>();
     this.subscribersUnfiltered = new CopyOnWriteArraySet<T>();
+    this.filtersBySubscriber = new ConcurrentHashMap<T, Set<F>>();
   }
 
   @Override
@@ -52,9 +67,14 @@ public class FilteredNotifierBase<F, T extends Subscriber> implements FilteredNo
     if (listener == null) {
       return;
     }
-    this.subscribersUnfilteredLock.lock();
-    this.subscribersUnfiltered.add(listener);
-    this.subscribersUnfilteredLock.unlock();
+    this.subscriptionsLock.lock();
+    try {
+      if (this.subscribersUnfiltered.add(listener)) {
+        this.subscriptionsChanged();
+      }
+    } finally {
+      this.subscriptionsLock.unlock();
+    }
   }
 
   @Override
@@ -62,27 +82,22 @@ public class FilteredNotifierBase<F, T extends Subscriber> implements FilteredNo
     if (listener == null) {
       return;
     }
-    for (F filter : this.getFilters()) {
-      this.unsubscribe(filter, listener);
+    this.subscriptionsLock.lock();
+    try {
+      for (F filter : this.getFilters(listener)) {
+        this.removeFilteredSubscriber(filter, listener);
+      }
+      this.subscribersUnfiltered.remove(listener);
+      this.subscriptionsChanged();
+    } finally {
+      this.subscriptionsLock.unlock();
     }
-    this.subscribersUnfilteredLock.lock();
-    this.subscribersUnfiltered.remove(listener);
-    this.subscribersUnfilteredLock.unlock();
   }
 
   @Override
   public boolean hasSubscriber(T listener) {
-    for (F filter : this.getFilters()) {
-      if (this.hasSubscriber(filter, listener)) {
-        return true;
-      }
-    }
-
-    this.subscribersUnfilteredLock.lock();
-    boolean hasSubscriber = this.subscribersUnfiltered.contains(listener);
-    this.subscribersUnfilteredLock.unlock();
-
-    return hasSubscriber;
+    return this.filtersBySubscriber.containsKey(listener)
+        || this.subscribersUnfiltered.contains(listener);
   }
 
   @Override
@@ -95,19 +110,40 @@ public class FilteredNotifierBase<F, T extends Subscriber> implements FilteredNo
     if (filter == null || listener == null) {
       return;
     }
-    Collection<T> subscribers;
-    if (this.hasFilter(filter)) {
-      subscribers = this.getSubscribers(filter);
-      if (!subscribers.contains(listener)) {
-        subscribers.add(listener);
+    this.subscriptionsLock.lock();
+    try {
+      if (this.addFilteredSubscriber(filter, listener)) {
+        this.subscriptionsChanged();
       }
-    } else {
-      subscribers = new HashSet<T>();
-      subscribers.add(listener);
+    } finally {
+      this.subscriptionsLock.unlock();
+    }
+  }
+
+  /**
+   * Subscribes a listener with several filters, the subscription change being published once.
+   *
+   * @param filters the filters, null filters are ignored
+   * @param listener the listener to subscribe
+   */
+  public void subscribeAll(Collection<F> filters, T listener) {
+    if (filters == null || listener == null) {
+      return;
+    }
+    this.subscriptionsLock.lock();
+    try {
+      boolean changed = false;
+      for (F filter : filters) {
+        if (filter != null && this.addFilteredSubscriber(filter, listener)) {
+          changed = true;
+        }
+      }
+      if (changed) {
+        this.subscriptionsChanged();
+      }
+    } finally {
+      this.subscriptionsLock.unlock();
     }
-    this.subscribersFilteredLock.lock();
-    this.subscribersFiltered.put(filter, subscribers);
-    this.subscribersFilteredLock.unlock();
   }
 
   @Override
@@ -115,14 +151,39 @@ public class FilteredNotifierBase<F, T extends Subscriber> implements FilteredNo
     if (filter == null || listener == null) {
       return;
     }
-    Collection<T> subscribers = this.getSubscribers(filter);
-    if (subscribers.contains(listener)) {
-      subscribers.remove(listener);
-      if (subscribers.size() == 0) {
-        this.subscribersFilteredLock.lock();
-        this.subscribersFiltered.remove(filter);
-        this.subscribersFilteredLock.unlock();
+    this.subscriptionsLock.lock();
+    try {
+      if (this.removeFilteredSubscriber(filter, listener)) {
+        this.subscriptionsChanged();
       }
+    } finally {
+      this.subscriptionsLock.unlock();
+    }
+  }
+
+  /**
+   * Unsubscribes a listener from several filters, the subscription change being published once.
+   *
+   * @param filters the filters, null filters are ignored
+   * @param listener the listener to unsubscribe
+   */
+  public void unsubscribeAll(Collection<F> filters, T listener) {
+    if (filters == null || listener == null) {
+      return;
+    }
+    this.subscriptionsLock.lock();
+    try {
+      boolean changed = false;
+      for (F filter : filters) {
+        if (filter != null && this.removeFilteredSubscriber(filter, listener)) {
+          changed = true;
+        }
+      }
+      if (changed) {
+        this.subscriptionsChanged();
+      }
+    } finally {
+      this.subscriptionsLock.unlock();
     }
   }
 
@@ -135,31 +196,23 @@ public class FilteredNotifierBase<F, T extends Subscriber> implements FilteredNo
 
   @Override
   public Collection<T> getSubscribers(F filter) {
-    this.subscribersFilteredLock.lock();
-    Collection<T> subscribersFiltered =
-        (this.hasFilter(filter)) ? this.subscribersFiltered.get(filter) : new HashSet<T>();
-    this.subscribersFilteredLock.unlock();
+    Collection<T> subscribers = (filter != null) ? this.subscribersFiltered.get(filter) : null;
 
-    return subscribersFiltered;
+    return (subscribers != null)
+        ? Collections.unmodifiableCollection(subscribers)
+        : Collections.<T>emptySet();
   }
 
   @Override
   public Collection<T> getSubscribers(boolean includeGlobal, boolean includeFilter) {
-    Collection<T> subscribers = new HashSet<T>();
-
-    if (includeFilter) {
-      for (F filter : this.getFilters()) {
-        Collection<T> filterSubscribers = this.getSubscribers(filter);
-        subscribers.addAll(filterSubscribers);
-      }
-    }
-    if (includeGlobal) {
-      this.subscribersUnfilteredLock.lock();
-      subscribers.addAll(this.subscribersUnfiltered);
-      this.subscribersUnfilteredLock.unlock();
+    if (includeGlobal && includeFilter) {
+      return this.subscribersSnapshot;
+    } else if (includeGlobal) {
+      return Collections.unmodifiableCollection(this.subscribersUnfiltered);
+    } else if (includeFilter) {
+      return Collections.unmodifiableSet(this.filtersBySubscriber.keySet());
     }
-
-    return subscribers;
+    return Collections.emptySet();
   }
 
   @Override
@@ -167,18 +220,14 @@ public class FilteredNotifierBase<F, T extends Subscriber> implements FilteredNo
     Collection<T> subscribers = new HashSet<T>();
 
     if (predicate != null) {
-      this.subscribersFilteredLock.lock();
-      for (F filter : this.subscribersFiltered.keySet()) {
-        if (predicate.test(filter)) {
-          subscribers.addAll(this.subscribersFiltered.get(filter));
+      for (Map.Entry<F, Collection<T>> entry : this.subscribersFiltered.entrySet()) {
+        if (predicate.test(entry.getKey())) {
+          subscribers.addAll(entry.getValue());
         }
       }
-      this.subscribersFilteredLock.unlock();
     }
     if (includeGlobal) {
-      this.subscribersUnfilteredLock.lock();
       subscribers.addAll(this.subscribersUnfiltered);
-      this.subscribersUnfilteredLock.unlock();
     }
 
     return subscribers;
@@ -186,33 +235,68 @@ public class FilteredNotifierBase<F, T extends Subscriber> implements FilteredNo
 
   @Override
   public boolean hasFilter(F filter) {
-    this.subscribersFilteredLock.lock();
-    boolean hasFilter = (filter != null) ? this.subscribersFiltered.containsKey(filter) : false;
-    this.subscribersFilteredLock.unlock();
-
-    return hasFilter;
+    return (filter != null) ? this.subscribersFiltered.containsKey(filter) : false;
   }
 
   @Override
   public Collection<F> getFilters() {
-    this.subscribersFilteredLock.lock();
-    Collection<F> subscribersFiltered = this.subscribersFiltered.keySet();
-    this.subscribersFilteredLock.unlock();
-
-    return subscribersFiltered;
+    return Collections.unmodifiableSet(this.subscribersFiltered.keySet());
   }
 
   @Override
   public Collection<F> getFilters(T listener) {
-    Collection<F> filters = new HashSet<F>();
+    Set<F> filters = (listener != null) ? this.filtersBySubscriber.get(listener) : null;
 
-    for (F filter : this.getFilters()) {
-      Collection<T> subscribers = this.getSubscribers(filter);
-      if (subscribers.contains(listener)) {
-        filters.add(filter);
-      }
+    return (filters != null) ? new HashSet<F>(filters) : new HashSet<F>();
+  }
+
+  /**
+   * Called with the subscriptions lock held, after each subscription change.
+   *
+   * <p>Subclasses override it to rebuild the lookup structures derived from the subscriptions.
+   */
+  protected void onSubscriptionsChanged() {}
+
+  private void subscriptionsChanged() {
+    Collection<T> subscribers = new LinkedHashSet<T>(this.subscribersUnfiltered);
+    subscribers.addAll(this.filtersBySubscriber.keySet());
+    this.subscribersSnapshot = Collections.unmodifiableList(new ArrayList<T>(subscribers));
+    this.onSubscriptionsChanged();
+  }
+
+  private boolean addFilteredSubscriber(F filter, T listener) {
+    Collection<T> subscribers = this.subscribersFiltered.get(filter);
+    if (subscribers == null) {
+      subscribers = new CopyOnWriteArraySet<T>();
+      this.subscribersFiltered.put(filter, subscribers);
+    }
+    if (!subscribers.add(listener)) {
+      return false;
     }
+    Set<F> filters = this.filtersBySubscriber.get(listener);
+    if (filters == null) {
+      filters = new CopyOnWriteArraySet<F>();
+      this.filtersBySubscriber.put(listener, filters);
+    }
+    filters.add(filter);
+    return true;
+  }
 
-    return filters;
+  private boolean removeFilteredSubscriber(F filter, T listener) {
+    Collection<T> subscribers = this.subscribersFiltered.get(filter);
+    if (subscribers == null || !subscribers.remove(listener)) {
+      return false;
+    }
+    if (subscribers.isEmpty()) {
+      this.subscribersFiltered.remove(filter);
+    }
+    Set<F> filters = this.filtersBySubscriber.get(listener);
+    if (filters != null) {
+      filters.remove(filter);
+      if (filters.isEmpty()) {
+        this.filtersBySubscriber.remove(listener);
+      }
+    }
+    return true;
   }
 }
@@ -0,0 +1,299 @@
+// Copyright (C) 2025 Enedis Smarties team <dt-dsi-nexus-lab-smarties@enedis.fr>
+//
+// SPDX-FileContributor: Jehan BOUSCH
+// SPDX-FileContributor: Mathieu SABARTHES
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package tic.util.task;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Asynchronous dispatcher of subscriber notifications.
+ *
+ * <p>Notifications are run by a shared bounded thread pool (or by virtual threads on runtimes
+ * providing them) instead of a new thread per notification. Each notification is dispatched on a
+ * lane identified by a key (typically the notified stream): the notifications of a lane are run one
+ * after the other in submission order, while distinct lanes run concurrently.
+ *
+ * <p>The dispatcher exposes the number of pending notifications and the dispatch latency (delay
+ * between the submission and the start of a notification).
+ *
+ * @author Enedis Smarties team
+ */
+public class NotificationDispatcher {
+  /** Default number of threads of the shared pool */
+  public static final int DEFAULT_THREAD_COUNT = 4;
+
+  /** Thread count requesting virtual threads when the runtime provides them */
+  public static final int VIRTUAL_THREADS = 0;
+
+  /** Name prefix of the notification threads */
+  public static final String DEFAULT_THREAD_NAME_PREFIX = "tic-notifier-";
+
+  /** Maximum number of notifications run before a lane yields its thread to other lanes */
+  private static final int LANE_BATCH_SIZE = 16;
+
+  private static Logger logger = LogManager.getLogger();
+  private static NotificationDispatcher instance = null;
+
+  private final ExecutorService executor;
+  private final Map<Object, Lane> lanes = new HashMap<>();
+  private final AtomicInteger queueDepth = new AtomicInteger();
+  private final AtomicLong dispatchedCount = new AtomicLong();
+  private final AtomicLong totalDispatchLatency = new AtomicLong();
+  private final AtomicLong maxDispatchLatency = new AtomicLong();
+
+  /**
+   * Gets the dispatcher shared by the notifiers.
+   *
+   * @return the shared dispatcher, created with {@link #DEFAULT_THREAD_COUNT} threads if not set
+   */
+  public static synchronized NotificationDispatcher getInstance() {
+    if (instance == null) {
+      instance = new NotificationDispatcher(DEFAULT_THREAD_COUNT);
+    }
+    return instance;
+  }
+
+  /**
+   * Sets the dispatcher shared by the notifiers, the previous one is shut down once its pending
+   * notifications are run.
+   *
+   * @param dispatcher the new shared dispatcher
+   */
+  public static synchronized void setInstance(NotificationDispatcher dispatcher) {
+    if (dispatcher == null) {
+      throw new IllegalArgumentException("dispatcher cannot be null");
+    }
+    if (instance != null && instance != dispatcher) {
+      instance.shutdown();
+    }
+    instance = dispatcher;
+  }
+
+  /**
+   * Constructs a dispatcher.
+   *
+   * @param threadCount the number of threads of the pool, or {@link #VIRTUAL_THREADS} to use a
+   *     virtual thread per notification lane run (falls back to {@link #DEFAULT_THREAD_COUNT}
+   *     threads when virtual threads are not available)
+   * @throws IllegalArgumentException if threadCount is negative
+   */
+  public NotificationDispatcher(int threadCount) {
+    this(threadCount, DEFAULT_THREAD_NAME_PREFIX);
+  }
+
+  /**
+   * Constructs a dispatcher whose pool threads are named with the given prefix.
+   *
+   * @param threadCount the number of threads of the pool, or {@link #VIRTUAL_THREADS}
+   * @param threadNamePrefix the name prefix of the pool threads, followed by the thread number
+   * @throws IllegalArgumentException if threadCount is negative
+   */
+  public NotificationDispatcher(int threadCount, String threadNamePrefix) {
+    if (threadCount < 0) {
+      throw new IllegalArgumentException("threadCount must be positive");
+    }
+    ExecutorService virtualExecutor =
+        threadCount == VIRTUAL_THREADS ? createVirtualThreadExecutor() : null;
+    if (virtualExecutor != null) {
+      this.executor = virtualExecutor;
+    } else {
+      int poolSize = threadCount == VIRTUAL_THREADS ? DEFAULT_THREAD_COUNT : threadCount;
+      this.executor =
+          new ThreadPoolExecutor(
+              poolSize,
+              poolSize,
+              0L,
+              TimeUnit.MILLISECONDS,
+              new LinkedBlockingQueue<Runnable>(),
+              new NotificationThreadFactory(threadNamePrefix));
+    }
+  }
+
+  /**
+   * Dispatches a notification on the lane of the given key.
+   *
+   * <p>The notification runs after all the notifications previously dispatched on the same lane.
+   * An exception or error thrown by the notification is logged and does not affect the lane.
+   *
+   * @param key the lane key (must implement equals/hashCode)
+   * @param notification the notification to run
+   */
+  public void dispatch(Object key, Runnable notification) {
+    if (key == null || notification == null) {
+      throw new IllegalArgumentException("key and notification cannot be null");
+    }
+    Lane lane;
+    boolean schedule;
+    synchronized (this.lanes) {
+      lane = this.lanes.get(key);
+      if (lane == null) {
+        lane = new Lane(key);
+        this.lanes.put(key, lane);
+      }
+      lane.queue.add(new Notification(notification));
+      schedule = !lane.scheduled;
+      lane.scheduled = true;
+    }
+    this.queueDepth.incrementAndGet();
+    if (schedule) {
+      this.schedule(lane);
+    }
+  }
+
+  /**
+   * Gets the number of dispatched notifications not started yet.
+   *
+   * @return the queue depth
+   */
+  public int getQueueDepth() {
+    return this.queueDepth.get();
+  }
+
+  /**
+   * Gets the number of notifications started since the dispatcher creation.
+   *
+   * @return the dispatched notification count
+   */
+  public long getDispatchedCount() {
+    return this.dispatchedCount.get();
+  }
+
+  /**
+   * Gets the average delay between the submission and the start of a notification.
+   *
+   * @return the average dispatch latency in nanoseconds, 0 if no notification has been started
+   */
+  public long getAverageDispatchLatency() {
+    long count = this.dispatchedCount.get();
+    return count == 0 ? 0 : this.totalDispatchLatency.get() / count;
+  }
+
+  /**
+   * Gets the longest delay between the submission and the start of a notification.
+   *
+   * @return the maximum dispatch latency in nanoseconds
+   */
+  public long getMaxDispatchLatency() {
+    return this.maxDispatchLatency.get();
+  }
+
+  /** Stops accepting notifications, the pending ones are still run */
+  public void shutdown() {
+    this.executor.shutdown();
+  }
+
+  private void schedule(Lane lane) {
+    try {
+      this.executor.execute(lane);
+    } catch (RejectedExecutionException exception) {
+      logger.error("Notification dispatcher shut down, lane " + lane.key + " dropped", exception);
+      synchronized (this.lanes) {
+        this.queueDepth.addAndGet(-lane.queue.size());
+        lane.queue.clear();
+        lane.scheduled = false;
+        this.lanes.remove(lane.key);
+      }
+    }
+  }
+
+  private Notification poll(Lane lane) {
+    synchronized (this.lanes) {
+      Notification notification = lane.queue.poll();
+      if (notification == null) {
+        lane.scheduled = false;
+        this.lanes.remove(lane.key);
+      }
+      return notification;
+    }
+  }
+
+  private void run(Notification notification) {
+    long latency = System.nanoTime() - notification.submitTime;
+    this.queueDepth.decrementAndGet();
+    this.dispatchedCount.incrementAndGet();
+    this.totalDispatchLatency.addAndGet(latency);
+    this.maxDispatchLatency.accumulateAndGet(latency, Math::max);
+    try {
+      notification.runnable.run();
+    } catch (Throwable exception) {
+      // Errors are caught too: a lane whose run ended abruptly would stay scheduled and never run
+      // its next notifications
+      logger.error("Notification aborted", exception);
+    }
+  }
+
+  private static ExecutorService createVirtualThreadExecutor() {
+    try {
+      return (ExecutorService)
+          Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+    } catch (ReflectiveOperationException exception) {
+      logger.warn("Virtual threads not available, using a thread pool for notifications");
+      return null;
+    }
+  }
+
+  private static class Notification {
+    private final Runnable runnable;
+    private final long submitTime = System.nanoTime();
+
+    private Notification(Runnable runnable) {
+      this.runnable = runnable;
+    }
+  }
+
+  private class Lane implements Runnable {
+    private final Object key;
+    private final Queue<Notification> queue = new ArrayDeque<>();
+    private boolean scheduled;
+
+    private Lane(Object key) {
+      this.key = key;
+    }
+
+    @Override
+    public void run() {
+      for (int i = 0; i < LANE_BATCH_SIZE; i++) {
+        Notification notification = NotificationDispatcher.this.poll(this);
+        if (notification == null) {
+          return;
+        }
+        NotificationDispatcher.this.run(notification);
+      }
+      NotificationDispatcher.this.schedule(this);
+    }
+  }
+
+  private static class NotificationThreadFactory implements ThreadFactory {
+    private final String namePrefix;
+    private final AtomicInteger threadCount = new AtomicInteger();
+
+    private NotificationThreadFactory(String namePrefix) {
+      this.namePrefix = namePrefix;
+    }
+
+    @Override
+    public Thread newThread(Runnable runnable) {
+      Thread thread = new Thread(runnable, this.namePrefix + this.threadCount.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    }
+  }
+}
@@ -42,6 +42,7 @@ public abstract class TaskBase implements Task, Runnable {
     try {
       if (this.task != null && this.task.isAlive()) {
         this.stopRequired.set(true);
+        this.onStopRequired();
         if (this.task != Thread.currentThread()) {
           this.task.join();
         }
@@ -109,5 +110,8 @@ public abstract class TaskBase implements Task, Runnable {
 
   protected void onTerminate() {}
 
+  /** Called by {@link #stop()} once the stop is required, to wake up a blocked process or wait */
+  protected void onStopRequired() {}
+
   protected void onError(Exception exception) {}
 }
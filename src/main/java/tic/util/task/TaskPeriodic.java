@@ -77,7 +77,8 @@ public abstract class TaskPeriodic extends TaskBase {
     this.period.set(period);
   }
 
-  private void waitPeriod() {
+  /** Waits between two process executions, for the polling period unless overridden */
+  protected void waitPeriod() {
     Time.sleep(this.getPeriod());
   }
 }
@@ -8,7 +8,15 @@
 package tic.core;
 
 import java.time.LocalDateTime;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
 import org.junit.After;
 import org.junit.Assert;
 import org.junit.Before;
@@ -40,7 +48,13 @@ public class TICCoreBaseTest {
             this.ticPortFinder,
             this.plugNotifierPeriod,
             TICMode.AUTO,
-            null);
+            null) {
+          @Override
+          protected TICCoreStream createStream(ModemDescriptor descriptor) {
+            return new TICCoreStreamMock(
+                descriptor.portId(), descriptor.portName(), TICMode.AUTO, ticPortFinder);
+          }
+        };
 
     this.ticCore.start();
     this.waitTaskRunning(this.ticCore);
@@ -306,6 +320,161 @@ public class TICCoreBaseTest {
     Assert.assertEquals(TICCoreErrorCode.DATA_READ_TIMEOUT.getCode(), exception.getErrorCode());
   }
 
+  @Test
+  public void test_readNextFrameAsync_error_STREAM_IDENTIFIER_NOT_FOUND() throws Exception {
+    // Given
+    TICIdentifier identifier = new TICIdentifier.Builder().portId("2").portName("COM9").build();
+
+    // When
+    CompletableFuture<TICCoreFrame> future = this.ticCore.readNextFrameAsync(identifier, 1000);
+
+    // Then
+    Assert.assertTrue(future.isCompletedExceptionally());
+    try {
+      future.get();
+      Assert.fail("ExecutionException expected");
+    } catch (ExecutionException e) {
+      Assert.assertTrue(e.getCause() instanceof TICCoreException);
+      Assert.assertEquals(
+          TICCoreErrorCode.STREAM_IDENTIFIER_NOT_FOUND.getCode(),
+          ((TICCoreException) e.getCause()).getErrorCode());
+    }
+  }
+
+  @Test
+  public void test_readNextFrameAsync_concurrentReaders_shareOneRead() throws Exception {
+    // Given
+    TICIdentifier identifier = this.addNativeModem("COM5");
+    int readerCount = 8;
+    List<CompletableFuture<TICCoreFrame>> futures = this.readConcurrently(identifier, readerCount);
+    TICCoreStreamMock stream = TICCoreStreamMock.streams.get(0);
+    TICCoreFrame frame = this.createFrame(stream.getIdentifier(), 1);
+
+    // When
+    stream.notifyOnData(frame);
+
+    // Then
+    Assert.assertEquals(1, TICCoreStreamMock.streams.size());
+    for (CompletableFuture<TICCoreFrame> future : futures) {
+      Assert.assertSame(frame, future.get(NOTIFICATION_TIMEOUT, TimeUnit.MILLISECONDS));
+    }
+    Assert.assertEquals(0, countReadSubscribers(stream));
+    Assert.assertFalse(stream.isRunning());
+    Assert.assertEquals(1, stream.stopCount);
+  }
+
+  @Test
+  public void test_readNextFrameAsync_concurrentReaders_oneReadSubscriber() throws Exception {
+    // Given
+    TICIdentifier identifier = this.addNativeModem("COM5");
+
+    // When
+    List<CompletableFuture<TICCoreFrame>> futures = this.readConcurrently(identifier, 8);
+
+    // Then
+    Assert.assertEquals(1, TICCoreStreamMock.streams.size());
+    TICCoreStreamMock stream = TICCoreStreamMock.streams.get(0);
+    Assert.assertEquals(1, countReadSubscribers(stream));
+    Assert.assertTrue(stream.isRunning());
+    for (CompletableFuture<TICCoreFrame> future : futures) {
+      Assert.assertFalse(future.isDone());
+    }
+  }
+
+  @Test
+  public void test_readNextFrameAsync_streamClosedAfterLastWaiter() throws Exception {
+    // Given
+    TICIdentifier identifier = this.addNativeModem("COM5");
+    CompletableFuture<TICCoreFrame> shortRead = this.ticCore.readNextFrameAsync(identifier, 50);
+    CompletableFuture<TICCoreFrame> longRead = this.ticCore.readNextFrameAsync(identifier, 5000);
+    TICCoreStreamMock stream = TICCoreStreamMock.streams.get(0);
+
+    // When
+    try {
+      shortRead.get(NOTIFICATION_TIMEOUT, TimeUnit.MILLISECONDS);
+      Assert.fail("ExecutionException expected");
+    } catch (ExecutionException e) {
+      Assert.assertEquals(
+          TICCoreErrorCode.DATA_READ_TIMEOUT.getCode(),
+          ((TICCoreException) e.getCause()).getErrorCode());
+    }
+
+    // Then
+    Assert.assertTrue(stream.isRunning());
+    Assert.assertEquals(1, countReadSubscribers(stream));
+
+    // When
+    TICCoreFrame frame = this.createFrame(stream.getIdentifier(), 1);
+    stream.notifyOnData(frame);
+
+    // Then
+    Assert.assertSame(frame, longRead.get(NOTIFICATION_TIMEOUT, TimeUnit.MILLISECONDS));
+    Assert.assertEquals(0, countReadSubscribers(stream));
+    Assert.assertFalse(stream.isRunning());
+    Assert.assertEquals(1, stream.stopCount);
+  }
+
+  @Test
+  public void test_readFrameAsync_freshLastFrame() throws Exception {
+    // Given
+    TICIdentifier identifier =
+        new TICIdentifier.Builder()
+            .portId("1")
+            .portName("COM3")
+            .serialNumber("021976551632")
+            .build();
+    TICCoreFrame frame = this.createFrame(identifier, 1);
+    this.ticCore.onData(frame);
+
+    // When
+    CompletableFuture<TICCoreFrame> future =
+        this.ticCore.readFrameAsync(new TICIdentifier.Builder().portName("COM3").build(), 60000);
+
+    // Then
+    Assert.assertTrue(future.isDone());
+    Assert.assertSame(frame, future.get());
+  }
+
+  @Test
+  public void test_readFrameAsync_freshLastFrame_bySerialNumber() throws Exception {
+    // Given
+    TICIdentifier identifier =
+        new TICIdentifier.Builder().portName("COM3").serialNumber("021976551632").build();
+    TICCoreFrame frame = this.createFrame(identifier, 1);
+    this.ticCore.onData(frame);
+    this.ticCore.onData(
+        this.createFrame(
+            new TICIdentifier.Builder().portName("COM4").serialNumber("021976551699").build(), 1));
+
+    // When
+    CompletableFuture<TICCoreFrame> future =
+        this.ticCore.readFrameAsync(
+            new TICIdentifier.Builder().serialNumber("021976551632").build(), 60000);
+
+    // Then
+    Assert.assertTrue(future.isDone());
+    Assert.assertSame(frame, future.get());
+  }
+
+  @Test
+  public void test_readFrameAsync_staleLastFrame() throws Exception {
+    // Given
+    TICIdentifier identifier = this.addNativeModem("COM5");
+    this.ticCore.onData(this.createFrame(identifier, 1));
+    Time.sleep(20);
+
+    // When
+    CompletableFuture<TICCoreFrame> future = this.ticCore.readFrameAsync(identifier, 10);
+
+    // Then
+    Assert.assertFalse(future.isDone());
+    TICCoreStreamMock stream = TICCoreStreamMock.streams.get(0);
+    Assert.assertTrue(stream.isRunning());
+    TICCoreFrame nextFrame = this.createFrame(stream.getIdentifier(), 2);
+    stream.notifyOnData(nextFrame);
+    Assert.assertSame(nextFrame, future.get(NOTIFICATION_TIMEOUT, TimeUnit.MILLISECONDS));
+  }
+
   @Test
   public void test_subscribe_any() {
     // Given
@@ -341,6 +510,28 @@ public class TICCoreBaseTest {
     Assert.assertNull(exception);
   }
 
+  @Test
+  public void test_subscribeAll_error_STREAM_IDENTIFIER_NOT_FOUND() {
+    // Given
+    TICCoreSubscriberMock subscriber = new TICCoreSubscriberMock();
+    TICIdentifier identifier1 = new TICIdentifier.Builder().portName("COM8").build();
+    TICIdentifier identifier2 = new TICIdentifier.Builder().portName("COM9").build();
+
+    // When
+    Map<TICIdentifier, TICCoreException> failures =
+        this.ticCore.subscribeAll(Arrays.asList(identifier1, identifier2), subscriber);
+
+    // Then
+    Assert.assertEquals(2, failures.size());
+    Assert.assertEquals(
+        TICCoreErrorCode.STREAM_IDENTIFIER_NOT_FOUND.getCode(),
+        failures.get(identifier1).getErrorCode());
+    Assert.assertEquals(
+        TICCoreErrorCode.STREAM_IDENTIFIER_NOT_FOUND.getCode(),
+        failures.get(identifier2).getErrorCode());
+    Assert.assertTrue(this.ticCore.getIndentifiers(subscriber).isEmpty());
+  }
+
   // @Test
   public void test_subscribe_withIdentifier_ok() {
     // Given
@@ -519,6 +710,48 @@ public class TICCoreBaseTest {
     Assert.assertTrue(frame1 == subscriber.onDataCalls.get(0).frame);
   }
 
+  @Test
+  public void test_onData_slowSubscriber_keepsFrameOrder() {
+    // Given
+    Random random = new Random(0);
+    TICCoreSubscriberMock subscriber =
+        new TICCoreSubscriberMock() {
+          @Override
+          public void onData(TICCoreFrame frame) {
+            Time.sleep(random.nextInt(3));
+            synchronized (this) {
+              super.onData(frame);
+            }
+          }
+        };
+    this.ticCore.subscribe(subscriber);
+    TICIdentifier identifier1 = new TICIdentifier.Builder().portId("1").portName("COM3").build();
+    TICIdentifier identifier2 = new TICIdentifier.Builder().portId("2").portName("COM4").build();
+
+    // When
+    for (int sequenceNumber = 1; sequenceNumber <= 100; sequenceNumber++) {
+      this.ticCore.onData(this.createFrame(identifier1, sequenceNumber));
+      this.ticCore.onData(this.createFrame(identifier2, sequenceNumber));
+    }
+    this.waitSubscriberNotification(subscriber.onDataCalls, 200, 5000);
+
+    // Then
+    synchronized (subscriber) {
+      Assert.assertEquals(200, subscriber.onDataCalls.size());
+      long lastSequenceNumber1 = 0;
+      long lastSequenceNumber2 = 0;
+      for (TICCoreSubscriberOnDataCall call : subscriber.onDataCalls) {
+        if (call.frame.getIdentifier().equals(identifier1)) {
+          Assert.assertEquals(lastSequenceNumber1 + 1, call.frame.getSequenceNumber());
+          lastSequenceNumber1 = call.frame.getSequenceNumber();
+        } else {
+          Assert.assertEquals(lastSequenceNumber2 + 1, call.frame.getSequenceNumber());
+          lastSequenceNumber2 = call.frame.getSequenceNumber();
+        }
+      }
+    }
+  }
+
   // @Test
   public void test_onData_any_twoModems() throws TICCoreException {
     // Given
@@ -741,6 +974,49 @@ public class TICCoreBaseTest {
     return new TICIdentifier.Builder().portId(descriptor.portId()).portName(descriptor.portName()).build();
   }
 
+  private TICIdentifier addNativeModem(String portName) {
+    this.ticPortFinder.addNativeDescriptor(
+        new ModemDescriptor.Builder<>().portName(portName).modemType(ModemType.MICHAUD).build());
+
+    return new TICIdentifier.Builder().portName(portName).build();
+  }
+
+  private List<CompletableFuture<TICCoreFrame>> readConcurrently(
+      TICIdentifier identifier, int readerCount) throws Exception {
+    List<CompletableFuture<TICCoreFrame>> futures =
+        new CopyOnWriteArrayList<CompletableFuture<TICCoreFrame>>();
+    CountDownLatch startSignal = new CountDownLatch(1);
+    Thread[] readers = new Thread[readerCount];
+    for (int i = 0; i < readerCount; i++) {
+      readers[i] =
+          new Thread(
+              () -> {
+                try {
+                  startSignal.await();
+                } catch (InterruptedException e) {
+                  Thread.currentThread().interrupt();
+                }
+                futures.add(this.ticCore.readNextFrameAsync(identifier, 5000));
+              });
+      readers[i].start();
+    }
+    startSignal.countDown();
+    for (Thread reader : readers) {
+      reader.join();
+    }
+    return futures;
+  }
+
+  private static int countReadSubscribers(TICCoreStreamMock stream) {
+    int count = 0;
+    for (TICCoreSubscriber subscriber : stream.getSubscribers()) {
+      if (subscriber instanceof ReadNextFrameSubscriber) {
+        count++;
+      }
+    }
+    return count;
+  }
+
   private void unplugModem(ModemDescriptor descriptor) {
     this.ticPortFinder.removeDescriptor(descriptor);
     this.waitPlugNotifierUpdate();
@@ -757,6 +1033,13 @@ public class TICCoreBaseTest {
     return new TICCoreFrame(identifier, mode, localDateTime, content);
   }
 
+  private TICCoreFrame createFrame(TICIdentifier identifier, long sequenceNumber) {
+    TICFrame content = new TICFrame(TICMode.STANDARD);
+    content.addGroup(new TICGroup("ADSC", "031664001115"));
+    return new TICCoreFrame(
+        identifier, TICMode.STANDARD, LocalDateTime.now(), content, sequenceNumber);
+  }
+
   private void waitPlugNotifierUpdate() {
     Time.sleep(2 * this.plugNotifierPeriod);
   }
@@ -778,9 +1061,14 @@ public class TICCoreBaseTest {
   }
 
   private void waitSubscriberNotification(List<? extends FunctionCall> onCalls, int expectedSize) {
+    this.waitSubscriberNotification(onCalls, expectedSize, NOTIFICATION_TIMEOUT);
+  }
+
+  private void waitSubscriberNotification(
+      List<? extends FunctionCall> onCalls, int expectedSize, long timeout) {
     long begin = System.nanoTime();
     long elapsed = 0;
-    while (onCalls.size() < expectedSize && elapsed < NOTIFICATION_TIMEOUT) {
+    while (onCalls.size() < expectedSize && elapsed < timeout) {
       Time.sleep(50);
       elapsed = (System.nanoTime() - begin) / 1000000;
     }
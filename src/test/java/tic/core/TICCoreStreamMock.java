@@ -9,8 +9,8 @@ package tic.core;
 
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.HashSet;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArraySet;
 import tic.frame.TICMode;
 import tic.io.modem.ModemFinder;
 
@@ -18,11 +18,12 @@ public class TICCoreStreamMock implements TICCoreStream {
   public static List<TICCoreStreamMock> streams = new ArrayList<TICCoreStreamMock>();
   public Collection<TICCoreSubscriber> subscribers;
   public boolean running;
+  public int stopCount;
   public TICIdentifier identifier;
 
   public TICCoreStreamMock(String portId, String portName, TICMode mode, ModemFinder finder) {
     super();
-    this.subscribers = new HashSet<TICCoreSubscriber>();
+    this.subscribers = new CopyOnWriteArraySet<TICCoreSubscriber>();
     this.running = false;
     this.identifier = new TICIdentifier.Builder().portId(portId).portName(portName).build();
     streams.add(this);
@@ -46,6 +47,7 @@ public class TICCoreStreamMock implements TICCoreStream {
   @Override
   public void stop() {
     this.running = false;
+    this.stopCount++;
   }
 
   @Override
@@ -0,0 +1,112 @@
+// Copyright (C) 2025 Enedis Smarties team <dt-dsi-nexus-lab-smarties@enedis.fr>
+//
+// SPDX-FileContributor: Jehan BOUSCH
+// SPDX-FileContributor: Mathieu SABARTHES
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package tic.core;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import tic.frame.TICFrame;
+import tic.frame.TICMode;
+import tic.util.task.FilteredNotifier;
+import tic.util.task.FilteredNotifierBase;
+
+/**
+ * Compares the frame dispatch through the subscriber arrays of {@link TICCoreSubscriberNotifier}
+ * with the previous lookup, testing every filter of a {@link FilteredNotifierBase} and collecting
+ * the matching subscribers into a new set.
+ *
+ * <p>Run with: {@code mvn test-compile exec:exec -Pbenchmark
+ * -Djmh.benchmarks=TICCoreSubscriberNotifier}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TICCoreSubscriberNotifierBenchmark {
+
+  @Param({"1", "10", "1000"})
+  public int subscriberCount;
+
+  private TICCoreSubscriberNotifier notifier;
+  private FilteredNotifier<TICIdentifier, TICCoreSubscriber> scanNotifier;
+  private TICCoreFrame frame;
+
+  @Setup
+  public void setup() throws Exception {
+    this.notifier = new TICCoreSubscriberNotifier();
+    this.scanNotifier = new FilteredNotifierBase<TICIdentifier, TICCoreSubscriber>();
+    TICIdentifier source =
+        new TICIdentifier.Builder().portName("COM3").serialNumber("021976551632").build();
+    this.frame =
+        new TICCoreFrame(
+            source, TICMode.STANDARD, LocalDateTime.now(), new TICFrame(TICMode.STANDARD));
+
+    for (int i = 0; i < this.subscriberCount; i++) {
+      TICIdentifier filter =
+          (i % 2 == 0)
+              ? new TICIdentifier.Builder().portName("COM3").build()
+              : new TICIdentifier.Builder().serialNumber("021976551632").build();
+      TICCoreSubscriber subscriber = new CountingSubscriber();
+      this.notifier.subscribe(filter, subscriber);
+      this.scanNotifier.subscribe(filter, subscriber);
+      // Subscriptions of other meters, never matching the dispatched frame
+      TICIdentifier otherFilter = new TICIdentifier.Builder().portName("COM" + (100 + i)).build();
+      this.notifier.subscribe(otherFilter, subscriber);
+      this.scanNotifier.subscribe(otherFilter, subscriber);
+    }
+  }
+
+  @Benchmark
+  public void dispatchSubscriberArray(Blackhole blackhole) {
+    TICCoreSubscriber[] subscribers =
+        this.notifier.getMatchingSubscriberArray(this.frame.getIdentifier(), true);
+    for (TICCoreSubscriber subscriber : subscribers) {
+      subscriber.onData(this.frame);
+    }
+    blackhole.consume(subscribers);
+  }
+
+  @Benchmark
+  public void dispatchFilterScan(Blackhole blackhole) {
+    TICIdentifier source = this.frame.getIdentifier();
+    Collection<TICCoreSubscriber> subscribers =
+        this.scanNotifier.getSubscribers(filter -> source.matches(filter), true);
+    for (TICCoreSubscriber subscriber : subscribers) {
+      subscriber.onData(this.frame);
+    }
+    blackhole.consume(subscribers);
+  }
+
+  private static class CountingSubscriber implements TICCoreSubscriber {
+    private long count;
+
+    @Override
+    public void onData(TICCoreFrame frame) {
+      this.count++;
+    }
+
+    @Override
+    public void onError(TICCoreError error) {
+      this.count++;
+    }
+  }
+}
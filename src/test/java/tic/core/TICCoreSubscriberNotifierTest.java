@@ -0,0 +1,169 @@
+// Copyright (C) 2025 Enedis Smarties team <dt-dsi-nexus-lab-smarties@enedis.fr>
+//
+// SPDX-FileContributor: Jehan BOUSCH
+// SPDX-FileContributor: Mathieu SABARTHES
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package tic.core;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class TICCoreSubscriberNotifierTest {
+
+  @Test
+  public void test_getMatchingSubscribers_sameAsMatches() {
+    // Given
+    TICCoreSubscriberNotifier notifier = new TICCoreSubscriberNotifier();
+    TICCoreSubscriberMock serialSubscriber = new TICCoreSubscriberMock();
+    TICCoreSubscriberMock portIdSubscriber = new TICCoreSubscriberMock();
+    TICCoreSubscriberMock portNameSubscriber = new TICCoreSubscriberMock();
+    TICCoreSubscriberMock otherSerialSubscriber = new TICCoreSubscriberMock();
+    TICCoreSubscriberMock globalSubscriber = new TICCoreSubscriberMock();
+    notifier.subscribe(
+        new TICIdentifier.Builder().serialNumber("021976551632").build(), serialSubscriber);
+    notifier.subscribe(new TICIdentifier.Builder().portId("{1-1}").build(), portIdSubscriber);
+    notifier.subscribe(new TICIdentifier.Builder().portName("COM3").build(), portNameSubscriber);
+    notifier.subscribe(
+        new TICIdentifier.Builder().portName("COM3").serialNumber("021976551699").build(),
+        otherSerialSubscriber);
+    notifier.subscribe(globalSubscriber);
+    TICIdentifier source =
+        new TICIdentifier.Builder()
+            .portId("{1-1}")
+            .portName("COM3")
+            .serialNumber("021976551632")
+            .build();
+
+    // When
+    List<TICCoreSubscriber> filtered = notifier.getMatchingSubscribers(source, false);
+    List<TICCoreSubscriber> all = notifier.getMatchingSubscribers(source, true);
+
+    // Then
+    Assert.assertEquals(
+        new HashSet<TICCoreSubscriber>(
+            Arrays.asList(serialSubscriber, portIdSubscriber, portNameSubscriber)),
+        new HashSet<TICCoreSubscriber>(filtered));
+    Assert.assertEquals(4, all.size());
+    Assert.assertTrue(all.contains(globalSubscriber));
+    Assert.assertEquals(
+        new HashSet<TICCoreSubscriber>(notifier.getSubscribers(source::matches, false)),
+        new HashSet<TICCoreSubscriber>(filtered));
+  }
+
+  @Test
+  public void test_getMatchingSubscribers_updatedOnUnsubscribe() {
+    // Given
+    TICCoreSubscriberNotifier notifier = new TICCoreSubscriberNotifier();
+    TICCoreSubscriberMock subscriber = new TICCoreSubscriberMock();
+    TICIdentifier filter = new TICIdentifier.Builder().portName("COM3").build();
+    notifier.subscribe(filter, subscriber);
+    Assert.assertEquals(1, notifier.getMatchingSubscribers(filter, false).size());
+
+    // When
+    notifier.unsubscribe(filter, subscriber);
+
+    // Then
+    Assert.assertTrue(notifier.getMatchingSubscribers(filter, false).isEmpty());
+    Assert.assertFalse(notifier.hasSubscriber(subscriber));
+    Assert.assertFalse(notifier.hasFilter(filter));
+  }
+
+  @Test
+  public void test_getMatchingSubscriberArray_sharedUntilChange() {
+    // Given
+    TICCoreSubscriberNotifier notifier = new TICCoreSubscriberNotifier();
+    TICIdentifier source = new TICIdentifier.Builder().portName("COM3").build();
+    notifier.subscribe(source, new TICCoreSubscriberMock());
+    TICCoreSubscriber[] subscribers = notifier.getMatchingSubscriberArray(source, true);
+    Collection<TICCoreSubscriber> allSubscribers = notifier.getSubscribers();
+    Assert.assertSame(subscribers, notifier.getMatchingSubscriberArray(source, true));
+
+    // When
+    notifier.subscribe(new TICCoreSubscriberMock());
+
+    // Then
+    Assert.assertEquals(1, subscribers.length);
+    Assert.assertEquals(2, notifier.getMatchingSubscriberArray(source, true).length);
+    Assert.assertEquals(1, allSubscribers.size());
+    Assert.assertEquals(2, notifier.getSubscribers().size());
+  }
+
+  @Test
+  public void test_subscribeAll_indexUpdated() {
+    // Given
+    TICCoreSubscriberNotifier notifier = new TICCoreSubscriberNotifier();
+    TICCoreSubscriberMock subscriber = new TICCoreSubscriberMock();
+    TICIdentifier filter1 = new TICIdentifier.Builder().portName("COM3").build();
+    TICIdentifier filter2 = new TICIdentifier.Builder().serialNumber("021976551632").build();
+
+    // When
+    notifier.subscribeAll(Arrays.asList(filter1, filter2, null), subscriber);
+
+    // Then
+    Assert.assertEquals(2, notifier.getFilters(subscriber).size());
+    Assert.assertEquals(1, notifier.getMatchingSubscriberArray(filter1, false).length);
+    Assert.assertEquals(1, notifier.getMatchingSubscriberArray(filter2, false).length);
+
+    // When
+    notifier.unsubscribeAll(Arrays.asList(filter1, filter2), subscriber);
+
+    // Then
+    Assert.assertFalse(notifier.hasSubscriber(subscriber));
+    Assert.assertEquals(0, notifier.getMatchingSubscriberArray(filter1, false).length);
+  }
+
+  @Test
+  public void test_getFilters_subscriber() {
+    // Given
+    TICCoreSubscriberNotifier notifier = new TICCoreSubscriberNotifier();
+    TICCoreSubscriberMock subscriber = new TICCoreSubscriberMock();
+    TICIdentifier filter1 = new TICIdentifier.Builder().portName("COM3").build();
+    TICIdentifier filter2 = new TICIdentifier.Builder().portName("COM4").build();
+    notifier.subscribe(filter1, subscriber);
+    notifier.subscribe(filter2, subscriber);
+
+    // When
+    notifier.unsubscribe(filter1, subscriber);
+    Collection<TICIdentifier> filters = notifier.getFilters(subscriber);
+
+    // Then
+    Assert.assertEquals(1, filters.size());
+    Assert.assertTrue(filters.contains(filter2));
+    Assert.assertTrue(notifier.getSubscribers(false, true).contains(subscriber));
+  }
+
+  @Test
+  public void test_subscribe_concurrent() throws Exception {
+    // Given
+    TICCoreSubscriberNotifier notifier = new TICCoreSubscriberNotifier();
+    TICIdentifier filter = new TICIdentifier.Builder().portName("COM3").build();
+    Thread[] threads = new Thread[8];
+    for (int i = 0; i < threads.length; i++) {
+      threads[i] =
+          new Thread(
+              () -> {
+                for (int j = 0; j < 100; j++) {
+                  notifier.subscribe(filter, new TICCoreSubscriberMock());
+                }
+              });
+    }
+
+    // When
+    for (Thread thread : threads) {
+      thread.start();
+    }
+    for (Thread thread : threads) {
+      thread.join();
+    }
+
+    // Then
+    Assert.assertEquals(800, notifier.getSubscribers(filter).size());
+    Assert.assertEquals(800, notifier.getMatchingSubscribers(filter, false).size());
+  }
+}
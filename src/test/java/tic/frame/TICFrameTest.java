@@ -167,6 +167,37 @@ public class TICFrameTest {
     Assert.assertEquals("TIC frame getGroup should not match", null, retrievedGroup);
   }
 
+  @Test
+  public void test_getGroup_duplicateLabel_returnsFirstGroup() {
+    // Given
+    TICFrame frame = new TICFrame(TICMode.STANDARD);
+    TICGroup firstGroup = new TICGroup("SINSTS", "00100");
+    frame.addGroup(new TICGroup("ADSC", "031664001115"));
+    frame.addGroup(firstGroup);
+    frame.addGroup(new TICGroup("SINSTS", "00200"));
+
+    // When
+    TICGroup retrievedGroup = frame.getGroup("SINSTS");
+
+    // Then
+    Assert.assertSame("TIC frame getGroup mismatch", firstGroup, retrievedGroup);
+    Assert.assertEquals("TIC frame group list size mismatch", 3, frame.getGroupList().size());
+  }
+
+  @Test
+  public void test_getGroupList_unmodifiable() {
+    // Given
+    TICFrame frame = new TICFrame(TICMode.HISTORIC);
+    frame.addGroup(new TICGroup("ADCO", "812164417227"));
+
+    // When
+    List<TICGroup> groups = frame.getGroupList();
+
+    // Then
+    Assert.assertThrows(
+        UnsupportedOperationException.class, () -> groups.add(new TICGroup("PAPP", "00000")));
+  }
+
   @Test
   public void test_hasInvalidGroup_no_invalid_group() {
     // Given
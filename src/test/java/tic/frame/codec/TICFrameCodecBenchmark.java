@@ -0,0 +1,58 @@
+// Copyright (C) 2025 Enedis Smarties team <dt-dsi-nexus-lab-smarties@enedis.fr>
+//
+// SPDX-FileContributor: Jehan BOUSCH
+// SPDX-FileContributor: Mathieu SABARTHES
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package tic.frame.codec;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import tic.ResourceLoader;
+import tic.frame.TICFrame;
+
+/**
+ * Compares the in-place {@link TICFrameCodec#decode(byte[], int, int)} with the previous
+ * StringBuffer based decoder.
+ *
+ * <p>Run with: {@code mvn test-compile exec:exec -Pbenchmark -Djmh.benchmarks=TICFrameCodec}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TICFrameCodecBenchmark {
+
+  @Param({"ticFrameHistoric.txt", "ticFrameStandard.txt"})
+  public String frameFile;
+
+  private byte[] frameBuffer;
+
+  @Setup
+  public void setup() throws Exception {
+    this.frameBuffer = ResourceLoader.readAllBytes("/tic/frame/codec/" + this.frameFile);
+  }
+
+  @Benchmark
+  public TICFrame decodeInPlace() {
+    return TICFrameCodec.decode(this.frameBuffer, 0, this.frameBuffer.length);
+  }
+
+  @Benchmark
+  public TICFrame decodeWithStringBuffer() {
+    return TICFrameStringBufferDecoder.decode(this.frameBuffer);
+  }
+}
@@ -107,6 +107,62 @@ public class TICFrameCodecTest {
             });
   }
 
+  @Test
+  public void test_decode_withOffset() throws IOException, URISyntaxException {
+    // Given
+    byte[] frameBuffer = ResourceLoader.readAllBytes("/tic/frame/codec/ticFrameStandard.txt");
+    byte[] streamBuffer = new byte[frameBuffer.length + 10];
+    Arrays.fill(streamBuffer, (byte) 'X');
+    System.arraycopy(frameBuffer, 0, streamBuffer, 4, frameBuffer.length);
+
+    // When
+    TICFrame frame = TICFrameCodec.decode(streamBuffer, 4, frameBuffer.length);
+
+    // Then
+    Assert.assertEquals(TICMode.STANDARD, frame.getMode());
+    Assert.assertEquals(TICFrameCodec.decode(frameBuffer).getGroupList(), frame.getGroupList());
+  }
+
+  @Test
+  public void test_decode_sameAsStringBufferDecoder() throws IOException, URISyntaxException {
+    Arrays.asList(
+            "/tic/frame/codec/ticFrameHistoric.txt",
+            "/tic/frame/codec/ticFrameStandard.txt",
+            "/tic/frame/codec/ticFrameStandard_PCOUP_Invalid.txt")
+        .forEach(
+            resourcePath -> {
+              // Given
+              byte[] frameBuffer;
+              try {
+                frameBuffer = ResourceLoader.readAllBytes(resourcePath);
+              } catch (IOException | URISyntaxException exception) {
+                throw new IllegalStateException(exception);
+              }
+
+              // When
+              TICFrame frame = TICFrameCodec.decode(frameBuffer);
+
+              // Then
+              TICFrame expectedFrame = TICFrameStringBufferDecoder.decode(frameBuffer);
+              Assert.assertEquals(expectedFrame.getMode(), frame.getMode());
+              Assert.assertEquals(expectedFrame.getGroupList(), frame.getGroupList());
+            });
+  }
+
+  @Test
+  public void test_decode_with_invalidOffset() {
+    // Given
+    byte[] frameBuffer = new byte[] {0x02, 0x0A, 0x0D, 0x03};
+
+    // When
+    IllegalArgumentException exception =
+        Assert.assertThrows(
+            IllegalArgumentException.class, () -> TICFrameCodec.decode(frameBuffer, 2, 4));
+
+    // Then
+    Assert.assertEquals("Invalid offset or length for frameBuffer", exception.getMessage());
+  }
+
   @Test
   public void test_encode_historic() throws IOException, URISyntaxException {
     // Given
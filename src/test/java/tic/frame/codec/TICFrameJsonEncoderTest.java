@@ -7,6 +7,7 @@
 
 package tic.frame.codec;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNull;
 
 import java.io.IOException;
@@ -15,6 +16,7 @@ import java.util.Arrays;
 import java.util.List;
 
 import org.json.JSONException;
+import org.json.JSONObject;
 import org.junit.Test;
 import org.skyscreamer.jsonassert.JSONAssert;
 import tic.ResourceLoader;
@@ -174,4 +176,69 @@ public class TICFrameJsonEncoderTest {
         ResourceLoader.readString("/tic/frame/codec/ticFrameStandard_summarized.json");
     JSONAssert.assertEquals(expectedJsonText, actualJsonText, false);
   }
+
+  @Test
+  public void test_encode_summarized_numericValues() throws JSONException {
+    // Given
+    TICFrame frame = new TICFrame(TICMode.HISTORIC);
+    HISTORIC_GROUPS.forEach(group -> frame.addGroup(group));
+    String actualJsonText = null;
+    Exception exception = null;
+
+    // When
+    try {
+      actualJsonText =
+          TICFrameSummarizedCodec.getInstance().encodeToJsonObject(frame, true).toString();
+    } catch (Exception e) {
+      exception = e;
+    }
+
+    // Then
+    assertNull("Exception should not be thrown during encoding", exception);
+    String expectedJsonText =
+        "{\"ADCO\":\"812164417227\",\"OPTARIF\":\"BASE\",\"ISOUSC\":15,\"BASE\":104,"
+            + "\"PTEC\":\"TH..\",\"IINST\":0,\"IMAX\":0,\"PAPP\":0,\"!MOTDETAT\":\"000000\"}";
+    JSONAssert.assertEquals(expectedJsonText, actualJsonText, true);
+  }
+
+  @Test
+  public void test_encode_summarized_numericValues_identifierKept() throws Exception {
+    // Given
+    TICFrame frame = new TICFrame(TICMode.STANDARD);
+    frame.addGroup(new TICGroup("ADSC", "031664001115"));
+    frame.addGroup(new TICGroup("VTIC", "02"));
+    frame.addGroup(new TICGroup("EAST", "000000104"));
+    frame.addGroup(new TICGroup("PRM", "09876543210123"));
+
+    // When
+    JSONObject jsonFrame =
+        (JSONObject) TICFrameSummarizedCodec.getInstance().encodeToJsonObject(frame, true);
+
+    // Then
+    assertEquals("031664001115", jsonFrame.get("ADSC"));
+    assertEquals("02", jsonFrame.get("VTIC"));
+    assertEquals("09876543210123", jsonFrame.get("PRM"));
+    assertEquals(104L, ((Number) jsonFrame.get("EAST")).longValue());
+  }
+
+  @Test
+  public void test_encode_summarized_numericValues_statusKept() throws Exception {
+    // Given
+    TICFrame standardFrame = new TICFrame(TICMode.STANDARD);
+    standardFrame.addGroup(new TICGroup("STGE", "00010001"));
+    standardFrame.addGroup(new TICGroup("SINSTS", "00340"));
+    TICFrame historicFrame = new TICFrame(TICMode.HISTORIC);
+    historicFrame.addGroup(new TICGroup("PPOT", "00"));
+
+    // When
+    JSONObject jsonStandardFrame =
+        (JSONObject) TICFrameSummarizedCodec.getInstance().encodeToJsonObject(standardFrame, true);
+    JSONObject jsonHistoricFrame =
+        (JSONObject) TICFrameSummarizedCodec.getInstance().encodeToJsonObject(historicFrame, true);
+
+    // Then
+    assertEquals("00010001", jsonStandardFrame.get("STGE"));
+    assertEquals(340L, ((Number) jsonStandardFrame.get("SINSTS")).longValue());
+    assertEquals("00", jsonHistoricFrame.get("PPOT"));
+  }
 }
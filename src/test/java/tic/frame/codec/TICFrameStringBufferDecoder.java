@@ -0,0 +1,75 @@
+// Copyright (C) 2025 Enedis Smarties team <dt-dsi-nexus-lab-smarties@enedis.fr>
+//
+// SPDX-FileContributor: Jehan BOUSCH
+// SPDX-FileContributor: Mathieu SABARTHES
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package tic.frame.codec;
+
+import tic.frame.TICFrame;
+import tic.frame.TICMode;
+import tic.frame.TICModeDetector;
+import tic.frame.checksum.TICChecksum;
+import tic.frame.checksum.TICChecksumOffset;
+import tic.frame.delimiter.TICGroupDelimiter;
+import tic.frame.delimiter.TICSeparator;
+import tic.frame.group.TICGroup;
+
+/**
+ * Previous {@link TICFrameCodec#decode(byte[])} implementation, building groups with StringBuffer.
+ *
+ * <p>Kept as reference for decoding equivalence tests and benchmarks.
+ */
+class TICFrameStringBufferDecoder {
+
+  private TICFrameStringBufferDecoder() {}
+
+  static TICFrame decode(byte[] frameBuffer) {
+    TICMode mode = TICModeDetector.findModeFromFrameBuffer(frameBuffer);
+    TICFrame frame = new TICFrame(mode);
+    StringBuffer groupBuffer = new StringBuffer();
+
+    for (int i = 1; i < frameBuffer.length; i++) {
+      if (groupBuffer.length() == 0) {
+        if (frameBuffer[i] == TICGroupDelimiter.BEGIN.getValue()) {
+          groupBuffer.append((char) frameBuffer[i]);
+        }
+      } else {
+        groupBuffer.append((char) frameBuffer[i]);
+        if (frameBuffer[i] == TICGroupDelimiter.END.getValue()) {
+          TICGroup group = decodeGroup(groupBuffer.toString().getBytes(), mode);
+          frame.addGroup(group);
+          groupBuffer.setLength(0);
+        }
+      }
+    }
+
+    return frame;
+  }
+
+  private static TICGroup decodeGroup(byte[] groupBuffer, TICMode mode) {
+    boolean endLabelFound = false;
+    StringBuffer label = new StringBuffer();
+    StringBuffer value = new StringBuffer();
+    byte separator = TICSeparator.getValueFromMode(mode);
+    int beginChecksumOffset = TICChecksumOffset.getOffsetBegin();
+    int checksumOffset = TICChecksumOffset.getOffsetChecksum(groupBuffer);
+    int endValueOffset = checksumOffset - 1;
+
+    for (int i = beginChecksumOffset; i < endValueOffset; i++) {
+      if (!endLabelFound) {
+        if (groupBuffer[i] == separator) {
+          endLabelFound = true;
+          continue;
+        }
+        label.append((char) groupBuffer[i]);
+      } else {
+        value.append((char) groupBuffer[i]);
+      }
+    }
+    boolean isValid = TICChecksum.verifyChecksum(groupBuffer, mode);
+
+    return new TICGroup(label.toString(), value.toString(), isValid);
+  }
+}
@@ -219,4 +219,61 @@ public class TICGroupTest {
     Assert.assertEquals(
         "TIC group string unexpected", "(label=ADSC, value=156FE, isValid=false)", text);
   }
+
+  @Test
+  public void test_getLong_numericValue() {
+    // Given
+    TICGroup group = new TICGroup("EAST", "000012345");
+
+    // When
+    long value = group.getLong();
+
+    // Then
+    Assert.assertTrue("TIC group should be numeric", group.isNumeric());
+    Assert.assertEquals("TIC group numeric value mismatch", 12345L, value);
+    Assert.assertEquals("TIC group int value mismatch", 12345, group.getInt());
+  }
+
+  @Test
+  public void test_getLong_signedValue() {
+    // Given
+    TICGroup group = new TICGroup("SINSTI", "-00150");
+
+    // When
+    long value = group.getLong();
+
+    // Then
+    Assert.assertEquals("TIC group numeric value mismatch", -150L, value);
+  }
+
+  @Test
+  public void test_isNumeric_nonNumericValues() {
+    for (String value :
+        new String[] {"", "-", "TH..", "E170915101601\t", "156FE", "0000000000000000000"}) {
+      // Given
+      TICGroup group = new TICGroup("LABEL", value);
+
+      // When
+      boolean isNumeric = group.isNumeric();
+
+      // Then
+      Assert.assertFalse("TIC group should not be numeric: " + value, isNumeric);
+      Assert.assertThrows(NumberFormatException.class, () -> group.getLong());
+    }
+  }
+
+  @Test
+  public void test_getInt_outOfRange() {
+    // Given
+    TICGroup group = new TICGroup("PRM", "00012345678901");
+
+    // When
+    NumberFormatException exception =
+        Assert.assertThrows(NumberFormatException.class, () -> group.getInt());
+
+    // Then
+    Assert.assertEquals(
+        "Value of group PRM is out of int range: 00012345678901", exception.getMessage());
+    Assert.assertEquals("TIC group numeric value mismatch", 12345678901L, group.getLong());
+  }
 }
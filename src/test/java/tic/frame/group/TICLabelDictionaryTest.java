@@ -0,0 +1,75 @@
+// Copyright (C) 2025 Enedis Smarties team <dt-dsi-nexus-lab-smarties@enedis.fr>
+//
+// SPDX-FileContributor: Jehan BOUSCH
+// SPDX-FileContributor: Mathieu SABARTHES
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package tic.frame.group;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class TICLabelDictionaryTest {
+
+  @Test
+  public void test_resolve_knownLabel_returnsCanonicalString() {
+    // Given
+    byte[] buffer = "\nSINSTS\t00000\tF\r".getBytes(StandardCharsets.US_ASCII);
+
+    // When
+    String label = TICLabelDictionary.resolve(buffer, 1, 6);
+
+    // Then
+    Assert.assertEquals("SINSTS", label);
+    Assert.assertSame("SINSTS", label);
+  }
+
+  @Test
+  public void test_resolve_allKnownLabels() {
+    for (List<String> labels :
+        Arrays.asList(TICLabelDictionary.HISTORIC_LABELS, TICLabelDictionary.STANDARD_LABELS)) {
+      for (String expectedLabel : labels) {
+        // Given
+        byte[] buffer = expectedLabel.getBytes(StandardCharsets.US_ASCII);
+
+        // When
+        String label = TICLabelDictionary.resolve(buffer, 0, buffer.length);
+
+        // Then
+        Assert.assertSame(expectedLabel, label);
+        Assert.assertTrue(TICLabelDictionary.isKnown(expectedLabel));
+      }
+    }
+  }
+
+  @Test
+  public void test_resolve_unknownLabel_isCached() {
+    // Given
+    byte[] buffer = "XLABEL42".getBytes(StandardCharsets.US_ASCII);
+
+    // When
+    String firstLabel = TICLabelDictionary.resolve(buffer, 0, buffer.length);
+    String secondLabel = TICLabelDictionary.resolve(buffer, 0, buffer.length);
+
+    // Then
+    Assert.assertEquals("XLABEL42", firstLabel);
+    Assert.assertSame(firstLabel, secondLabel);
+    Assert.assertFalse(TICLabelDictionary.isKnown("XLABEL42"));
+  }
+
+  @Test
+  public void test_resolve_prefixOfKnownLabel() {
+    // Given
+    byte[] buffer = "EASF01".getBytes(StandardCharsets.US_ASCII);
+
+    // When
+    String label = TICLabelDictionary.resolve(buffer, 0, 4);
+
+    // Then
+    Assert.assertEquals("EASF", label);
+  }
+}
@@ -0,0 +1,57 @@
+// Copyright (C) 2025 Enedis Smarties team <dt-dsi-nexus-lab-smarties@enedis.fr>
+//
+// SPDX-FileContributor: Jehan BOUSCH
+// SPDX-FileContributor: Mathieu SABARTHES
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package tic.io;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/** Test utility that mimics a {@link PortChangeMonitor}, the changes being signaled by the test. */
+@SuppressWarnings("javadoc")
+public class PortChangeMonitorMock implements PortChangeMonitor {
+  private final boolean available;
+  private final BlockingQueue<Boolean> signals = new LinkedBlockingQueue<Boolean>();
+  public volatile boolean opened = false;
+  public volatile boolean closed = false;
+  public volatile long lastTimeout = -1;
+
+  public PortChangeMonitorMock(boolean available) {
+    this.available = available;
+  }
+
+  @Override
+  public boolean open() {
+    this.opened = this.available;
+    return this.available;
+  }
+
+  @Override
+  public boolean awaitChange(long timeout) {
+    try {
+      this.lastTimeout = timeout;
+      return Boolean.TRUE.equals(this.signals.poll(timeout, TimeUnit.MILLISECONDS));
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return true;
+    }
+  }
+
+  @Override
+  public void wakeUp() {
+    this.signals.offer(Boolean.FALSE);
+  }
+
+  @Override
+  public void close() {
+    this.closed = true;
+  }
+
+  public void signalChange() {
+    this.signals.offer(Boolean.TRUE);
+  }
+}
@@ -0,0 +1,244 @@
+// Copyright (C) 2025 Enedis Smarties team <dt-dsi-nexus-lab-smarties@enedis.fr>
+//
+// SPDX-FileContributor: Jehan BOUSCH
+// SPDX-FileContributor: Mathieu SABARTHES
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package tic.io;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Assert;
+import org.junit.Test;
+import tic.util.time.Time;
+
+public class PortPlugNotifierTest {
+  private static final long PERIOD = 20;
+
+  @Test
+  public void test_monitor_scansOnlyOnChange() throws Exception {
+    // Given
+    PortFinderMock<String> finder = new PortFinderMock<String>();
+    PortChangeMonitorMock monitor = new PortChangeMonitorMock(true);
+    PortPlugNotifier<PortFinderMock<String>, String> notifier =
+        new PortPlugNotifier<PortFinderMock<String>, String>(PERIOD, finder, monitor);
+    CountDownLatch plugged = new CountDownLatch(1);
+    notifier.subscribe(new LatchSubscriber(plugged));
+    notifier.start();
+    Time.sleep(10 * PERIOD);
+    finder.addDescriptor("COM3");
+    Time.sleep(10 * PERIOD);
+    Assert.assertEquals(1, finder.findAllCalls.size());
+    Assert.assertEquals(1, plugged.getCount());
+
+    // When
+    monitor.signalChange();
+
+    // Then
+    Assert.assertTrue(plugged.await(1, TimeUnit.SECONDS));
+    Assert.assertEquals(2, finder.findAllCalls.size());
+    notifier.stop();
+    Assert.assertTrue(monitor.closed);
+  }
+
+  @Test
+  public void test_monitor_waitsUntilRescan_wokenUpOnStop() {
+    // Given
+    PortFinderMock<String> finder = new PortFinderMock<String>();
+    PortChangeMonitorMock monitor = new PortChangeMonitorMock(true);
+    PortPlugNotifier<PortFinderMock<String>, String> notifier =
+        new PortPlugNotifier<PortFinderMock<String>, String>(PERIOD, finder, monitor);
+    notifier.start();
+    Time.sleep(10 * PERIOD);
+
+    // When
+    long stopTime = System.nanoTime();
+    notifier.stop();
+    long stopDuration = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - stopTime);
+
+    // Then
+    Assert.assertTrue(monitor.lastTimeout > PortPlugNotifier.MONITOR_RESCAN_PERIOD / 2);
+    Assert.assertTrue(stopDuration < 1000);
+    Assert.assertFalse(notifier.isRunning());
+    Assert.assertTrue(monitor.closed);
+  }
+
+  @Test
+  public void test_monitorUnavailable_polls() throws Exception {
+    // Given
+    PortFinderMock<String> finder = new PortFinderMock<String>();
+    PortChangeMonitorMock monitor = new PortChangeMonitorMock(false);
+    PortPlugNotifier<PortFinderMock<String>, String> notifier =
+        new PortPlugNotifier<PortFinderMock<String>, String>(PERIOD, finder, monitor);
+    CountDownLatch plugged = new CountDownLatch(1);
+    notifier.subscribe(new LatchSubscriber(plugged));
+    notifier.start();
+
+    // When
+    finder.addDescriptor("COM3");
+
+    // Then
+    Assert.assertTrue(
+        plugged.await(PERIOD * PortPlugNotifier.MAX_POLLING_FACTOR * 5, TimeUnit.MILLISECONDS));
+    notifier.stop();
+    Assert.assertFalse(monitor.closed);
+  }
+
+  @Test
+  public void test_noChange_pollingPeriodGrows() {
+    // Given
+    PortFinderMock<String> finder = new PortFinderMock<String>();
+    PortPlugNotifier<PortFinderMock<String>, String> notifier =
+        new PortPlugNotifier<PortFinderMock<String>, String>(PERIOD, finder);
+
+    // When
+    notifier.start();
+    Time.sleep(PERIOD * PortPlugNotifier.MAX_POLLING_FACTOR * 3);
+    notifier.stop();
+
+    // Then
+    Assert.assertTrue(finder.findAllCalls.size() < PortPlugNotifier.MAX_POLLING_FACTOR * 2);
+  }
+
+  @Test
+  public void test_process_keyedDelta() {
+    // Given
+    PortFinderMock<String> finder = new PortFinderMock<String>();
+    PortPlugNotifier<PortFinderMock<String>, String> notifier =
+        new PortPlugNotifier<PortFinderMock<String>, String>(
+            PERIOD, finder, null, descriptor -> descriptor.split(":")[0]);
+    RecordingSubscriber subscriber = new RecordingSubscriber();
+    notifier.subscribe(subscriber);
+    finder.setDescriptors(Arrays.asList("1-1:COM3", "1-2:COM4", "1-3:COM5"));
+    notifier.process();
+    Collection<String> firstSnapshot = notifier.getDescriptors();
+    subscriber.events.clear();
+
+    // When
+    finder.setDescriptors(Arrays.asList("1-1:COM3", "1-2:COM9", "1-4:COM6"));
+    notifier.process();
+
+    // Then
+    Assert.assertEquals(
+        Arrays.asList(
+            "unplugged 1-2:COM4", "unplugged 1-3:COM5", "plugged 1-2:COM9", "plugged 1-4:COM6"),
+        subscriber.events);
+    Assert.assertEquals(
+        Arrays.asList("1-1:COM3", "1-2:COM4", "1-3:COM5"), new ArrayList<String>(firstSnapshot));
+    Assert.assertEquals(
+        Arrays.asList("1-1:COM3", "1-2:COM9", "1-4:COM6"),
+        new ArrayList<String>(notifier.getDescriptors()));
+  }
+
+  @Test
+  public void test_process_matchedPortsComparedOnce() {
+    // Given
+    PortFinderMock<CountingDescriptor> finder = new PortFinderMock<CountingDescriptor>();
+    PortPlugNotifier<PortFinderMock<CountingDescriptor>, CountingDescriptor> notifier =
+        new PortPlugNotifier<PortFinderMock<CountingDescriptor>, CountingDescriptor>(
+            PERIOD, finder, null, descriptor -> descriptor.portId);
+    AtomicInteger equalsCalls = new AtomicInteger();
+    finder.setDescriptors(
+        Arrays.asList(
+            new CountingDescriptor("1-1", "COM3", equalsCalls),
+            new CountingDescriptor("1-2", "COM4", equalsCalls),
+            new CountingDescriptor("1-3", "COM5", equalsCalls)));
+    notifier.process();
+    equalsCalls.set(0);
+
+    // When
+    finder.setDescriptors(
+        Arrays.asList(
+            new CountingDescriptor("1-1", "COM3", equalsCalls),
+            new CountingDescriptor("1-2", "COM9", equalsCalls),
+            new CountingDescriptor("1-3", "COM5", equalsCalls)));
+    notifier.process();
+
+    // Then
+    Assert.assertEquals(3, equalsCalls.get());
+  }
+
+  @Test
+  public void test_process_noChange_noNotification() {
+    // Given
+    PortFinderMock<String> finder = new PortFinderMock<String>();
+    PortPlugNotifier<PortFinderMock<String>, String> notifier =
+        new PortPlugNotifier<PortFinderMock<String>, String>(PERIOD, finder);
+    RecordingSubscriber subscriber = new RecordingSubscriber();
+    notifier.subscribe(subscriber);
+    finder.setDescriptors(Arrays.asList("COM3", "COM4"));
+    notifier.process();
+    subscriber.events.clear();
+
+    // When
+    finder.setDescriptors(Arrays.asList("COM4", "COM3"));
+    notifier.process();
+
+    // Then
+    Assert.assertTrue(subscriber.events.isEmpty());
+  }
+
+  private static class LatchSubscriber implements PlugSubscriber<String> {
+    private final CountDownLatch plugged;
+
+    private LatchSubscriber(CountDownLatch plugged) {
+      this.plugged = plugged;
+    }
+
+    @Override
+    public void onPlugged(String info) {
+      this.plugged.countDown();
+    }
+
+    @Override
+    public void onUnplugged(String info) {}
+  }
+
+  private static class RecordingSubscriber implements PlugSubscriber<String> {
+    private final List<String> events = new ArrayList<String>();
+
+    @Override
+    public void onPlugged(String info) {
+      this.events.add("plugged " + info);
+    }
+
+    @Override
+    public void onUnplugged(String info) {
+      this.events.add("unplugged " + info);
+    }
+  }
+
+  private static class CountingDescriptor {
+    private final String portId;
+    private final String portName;
+    private final AtomicInteger equalsCalls;
+
+    private CountingDescriptor(String portId, String portName, AtomicInteger equalsCalls) {
+      this.portId = portId;
+      this.portName = portName;
+      this.equalsCalls = equalsCalls;
+    }
+
+    @Override
+    public boolean equals(Object object) {
+      this.equalsCalls.incrementAndGet();
+      if (!(object instanceof CountingDescriptor)) {
+        return false;
+      }
+      CountingDescriptor other = (CountingDescriptor) object;
+      return this.portId.equals(other.portId) && this.portName.equals(other.portName);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(this.portId, this.portName);
+    }
+  }
+}
@@ -0,0 +1,192 @@
+// Copyright (C) 2025 Enedis Smarties team <dt-dsi-nexus-lab-smarties@enedis.fr>
+//
+// SPDX-FileContributor: Jehan BOUSCH
+// SPDX-FileContributor: Mathieu SABARTHES
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package tic.io.serialport;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.Assert;
+import org.junit.Test;
+import tic.io.PlugSubscriber;
+import tic.io.PortChangeMonitorMock;
+import tic.io.PortPlugNotifier;
+
+public class SerialPortFinderCacheTest {
+  private static final long TIME_TO_LIVE = 60000;
+
+  @Test
+  public void test_lookups_servedFromOneEnumeration() {
+    // Given
+    SerialPortFinderMock finder = createFinder();
+    SerialPortFinderCache cache = new SerialPortFinderCache(finder, TIME_TO_LIVE);
+
+    // When
+    SerialPortDescriptor byPortId = cache.findByPortId("1-1");
+    SerialPortDescriptor byPortName = cache.findByPortName("/dev/ttyUSB1");
+    SerialPortDescriptor nativeDescriptor = cache.findNative("/dev/ttyS0");
+    SerialPortDescriptor usbNotNative = cache.findNative("/dev/ttyUSB0");
+    List<SerialPortDescriptor> byProductAndVendor =
+        cache.findByProductIdAndVendorId((short) 0x6001, (short) 0x0403);
+    List<SerialPortDescriptor> all = cache.findAll();
+
+    // Then
+    Assert.assertEquals(1, finder.findAllCalls.size());
+    Assert.assertEquals(finder.findByPortId("1-1"), byPortId);
+    Assert.assertEquals("/dev/ttyUSB0", byPortId.portName());
+    Assert.assertEquals(finder.findByPortName("/dev/ttyUSB1"), byPortName);
+    Assert.assertEquals(finder.findNative("/dev/ttyS0"), nativeDescriptor);
+    Assert.assertNotNull(nativeDescriptor);
+    Assert.assertNull(usbNotNative);
+    Assert.assertEquals(
+        finder.findByProductIdAndVendorId((short) 0x6001, (short) 0x0403), byProductAndVendor);
+    Assert.assertEquals(2, byProductAndVendor.size());
+    Assert.assertEquals(3, all.size());
+    Assert.assertNull(cache.findByPortId("9-9"));
+  }
+
+  @Test
+  public void test_invalidate_enumeratesAgain() {
+    // Given
+    SerialPortFinderMock finder = createFinder();
+    SerialPortFinderCache cache = new SerialPortFinderCache(finder, TIME_TO_LIVE);
+    Assert.assertNull(cache.findByPortName("/dev/ttyUSB2"));
+    finder.addDescriptor(createUsbDescriptor("1-3", "/dev/ttyUSB2"));
+
+    // When
+    SerialPortDescriptor beforeInvalidate = cache.findByPortName("/dev/ttyUSB2");
+    cache.invalidate();
+    SerialPortDescriptor afterInvalidate = cache.findByPortName("/dev/ttyUSB2");
+
+    // Then
+    Assert.assertNull(beforeInvalidate);
+    Assert.assertNotNull(afterInvalidate);
+    Assert.assertEquals(2, finder.findAllCalls.size());
+  }
+
+  @Test
+  public void test_expiredSnapshot_enumeratesAgain() {
+    // Given
+    SerialPortFinderMock finder = createFinder();
+    SerialPortFinderCache cache = new SerialPortFinderCache(finder, 0);
+
+    // When
+    cache.findAll();
+    cache.findByPortName("/dev/ttyUSB0");
+
+    // Then
+    Assert.assertEquals(2, finder.findAllCalls.size());
+  }
+
+  @Test
+  public void test_refreshPeriod_servedUntilNextRefresh() {
+    // Given
+    SerialPortFinderMock finder = createFinder();
+    SerialPortFinderCache cache = new SerialPortFinderCache(finder, 0);
+    cache.setRefreshPeriod(TIME_TO_LIVE);
+    cache.refresh();
+
+    // When
+    cache.findAll();
+    cache.findByPortName("/dev/ttyUSB0");
+    int callsWithRefreshPeriod = finder.findAllCalls.size();
+    cache.setRefreshPeriod(0);
+    cache.findByPortName("/dev/ttyUSB0");
+
+    // Then
+    Assert.assertEquals(1, callsWithRefreshPeriod);
+    Assert.assertEquals(2, finder.findAllCalls.size());
+  }
+
+  @Test
+  public void test_monitoredNotifier_lookupsBetweenScans_notEnumerated() throws Exception {
+    // Given
+    SerialPortFinderMock finder = createFinder();
+    SerialPortFinderCache cache = new SerialPortFinderCache(finder, 0);
+    PortChangeMonitorMock monitor = new PortChangeMonitorMock(true);
+    PortPlugNotifier<SerialPortFinderCache, SerialPortDescriptor> notifier =
+        new PortPlugNotifier<SerialPortFinderCache, SerialPortDescriptor>(10, cache, monitor);
+    CountDownLatch plugged = new CountDownLatch(1);
+    notifier.subscribe(new PluggedSubscriber("/dev/ttyUSB2", plugged));
+    notifier.start();
+
+    // When
+    finder.addDescriptor(createUsbDescriptor("1-3", "/dev/ttyUSB2"));
+    monitor.signalChange();
+    Assert.assertTrue(plugged.await(5000, TimeUnit.MILLISECONDS));
+    int scanCalls = finder.findAllCalls.size();
+    SerialPortDescriptor byPortName = cache.findByPortName("/dev/ttyUSB2");
+    SerialPortDescriptor byPortId = cache.findByPortId("1-3");
+    List<SerialPortDescriptor> all = cache.findAll();
+    int lookupCalls = finder.findAllCalls.size() - scanCalls;
+    notifier.stop();
+
+    // Then
+    Assert.assertNotNull(byPortName);
+    Assert.assertEquals(byPortName, byPortId);
+    Assert.assertEquals(4, all.size());
+    Assert.assertEquals(0, lookupCalls);
+  }
+
+  @Test
+  public void test_findAll_immutable() {
+    // Given
+    SerialPortFinderCache cache = new SerialPortFinderCache(createFinder(), TIME_TO_LIVE);
+    Exception exception = null;
+
+    // When
+    try {
+      cache.findAll().clear();
+    } catch (UnsupportedOperationException e) {
+      exception = e;
+    }
+
+    // Then
+    Assert.assertNotNull(exception);
+    Assert.assertEquals(3, cache.findAll().size());
+  }
+
+  private static SerialPortFinderMock createFinder() {
+    SerialPortFinderMock finder = new SerialPortFinderMock();
+    finder.setDescriptors(
+        Arrays.asList(
+            createUsbDescriptor("1-1", "/dev/ttyUSB0"),
+            createUsbDescriptor("1-2", "/dev/ttyUSB1"),
+            new SerialPortDescriptor.Builder<>().portName("/dev/ttyS0").build()));
+    return finder;
+  }
+
+  private static SerialPortDescriptor createUsbDescriptor(String portId, String portName) {
+    return new SerialPortDescriptor.Builder<>()
+        .portId(portId)
+        .portName(portName)
+        .productId((short) 0x6001)
+        .vendorId((short) 0x0403)
+        .build();
+  }
+
+  private static class PluggedSubscriber implements PlugSubscriber<SerialPortDescriptor> {
+    private final String portName;
+    private final CountDownLatch plugged;
+
+    private PluggedSubscriber(String portName, CountDownLatch plugged) {
+      this.portName = portName;
+      this.plugged = plugged;
+    }
+
+    @Override
+    public void onPlugged(SerialPortDescriptor descriptor) {
+      if (this.portName.equals(descriptor.portName())) {
+        this.plugged.countDown();
+      }
+    }
+
+    @Override
+    public void onUnplugged(SerialPortDescriptor descriptor) {}
+  }
+}
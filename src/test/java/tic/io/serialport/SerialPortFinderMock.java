@@ -0,0 +1,19 @@
+// Copyright (C) 2025 Enedis Smarties team <dt-dsi-nexus-lab-smarties@enedis.fr>
+//
+// SPDX-FileContributor: Jehan BOUSCH
+// SPDX-FileContributor: Mathieu SABARTHES
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package tic.io.serialport;
+
+import tic.io.PortFinderMock;
+
+/** Test utility that mimics a {@link SerialPortFinder} with in-memory descriptors. */
+public class SerialPortFinderMock extends PortFinderMock<SerialPortDescriptor>
+    implements SerialPortFinder {
+
+  public SerialPortFinderMock() {
+    super();
+  }
+}
@@ -0,0 +1,76 @@
+// Copyright (C) 2025 Enedis Smarties team <dt-dsi-nexus-lab-smarties@enedis.fr>
+//
+// SPDX-FileContributor: Jehan BOUSCH
+// SPDX-FileContributor: Mathieu SABARTHES
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package tic.io.serialport;
+
+import java.util.concurrent.TimeUnit;
+import org.apache.commons.lang3.SystemUtils;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Assume;
+import org.junit.Before;
+import org.junit.Test;
+
+public class UdevPortChangeMonitorTest {
+  private UdevPortChangeMonitor monitor;
+
+  @Before
+  public void openMonitor() {
+    Assume.assumeTrue(SystemUtils.IS_OS_LINUX);
+    this.monitor = new UdevPortChangeMonitor();
+    Assume.assumeTrue("udev monitor not available", this.monitor.open());
+  }
+
+  @After
+  public void closeMonitor() {
+    if (this.monitor != null) {
+      this.monitor.close();
+    }
+  }
+
+  @Test
+  public void test_awaitChange_wokenUp() throws Exception {
+    // Given
+    Thread waker =
+        new Thread(
+            () -> {
+              try {
+                Thread.sleep(100);
+              } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+              }
+              this.monitor.wakeUp();
+            });
+
+    // When
+    long startTime = System.nanoTime();
+    waker.start();
+    boolean changed = this.monitor.awaitChange(30000);
+    long waitDuration = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+    waker.join();
+
+    // Then
+    Assert.assertFalse(changed);
+    Assert.assertTrue(waitDuration < 5000);
+  }
+
+  @Test
+  public void test_awaitChange_wakeUpBeforeWait() {
+    // Given
+    this.monitor.wakeUp();
+
+    // When
+    long startTime = System.nanoTime();
+    boolean changed = this.monitor.awaitChange(30000);
+    long waitDuration = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+
+    // Then
+    Assert.assertFalse(changed);
+    Assert.assertTrue(waitDuration < 5000);
+    Assert.assertFalse(this.monitor.awaitChange(10));
+  }
+}
@@ -0,0 +1,77 @@
+// Copyright (C) 2025 Enedis Smarties team <dt-dsi-nexus-lab-smarties@enedis.fr>
+//
+// SPDX-FileContributor: Jehan BOUSCH
+// SPDX-FileContributor: Mathieu SABARTHES
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package tic.service.client;
+
+import io.netty.channel.Channel;
+import io.netty.channel.DefaultChannelId;
+import io.netty.channel.embedded.EmbeddedChannel;
+import org.junit.Assert;
+import org.junit.Test;
+import tic.service.endpoint.EventSender;
+
+public class TIC2WebSocketClientPoolBaseTest {
+  private static final EventSender SENDER = (channel, event) -> {};
+
+  @Test
+  public void test_createClient_sameChannel_sameClient() {
+    // Given
+    TIC2WebSocketClientPoolBase pool = new TIC2WebSocketClientPoolBase();
+    Channel channel = new EmbeddedChannel(DefaultChannelId.newInstance());
+    String channelId = channel.id().asLongText();
+
+    // When
+    TIC2WebSocketClient client = pool.createClient(channel, SENDER);
+
+    // Then
+    Assert.assertSame(client, pool.createClient(channel, SENDER));
+    Assert.assertTrue(pool.exists(channelId));
+    Assert.assertSame(client, pool.getClient(channelId).get());
+    Assert.assertSame(channel, client.getChannel());
+  }
+
+  @Test
+  public void test_remove_otherClientsKept() {
+    // Given
+    TIC2WebSocketClientPoolBase pool = new TIC2WebSocketClientPoolBase();
+    Channel channel1 = new EmbeddedChannel(DefaultChannelId.newInstance());
+    Channel channel2 = new EmbeddedChannel(DefaultChannelId.newInstance());
+    pool.createClient(channel1, SENDER);
+    TIC2WebSocketClient client2 = pool.createClient(channel2, SENDER);
+
+    // When
+    pool.remove(channel1.id().asLongText());
+
+    // Then
+    Assert.assertFalse(pool.exists(channel1.id().asLongText()));
+    Assert.assertFalse(pool.getClient(channel1.id().asLongText()).isPresent());
+    Assert.assertSame(client2, pool.getClient(channel2.id().asLongText()).get());
+  }
+
+  @Test
+  public void test_getClient_nullOrUnknownChannelId() {
+    // Given
+    TIC2WebSocketClientPoolBase pool = new TIC2WebSocketClientPoolBase();
+
+    // When
+    pool.remove(null);
+
+    // Then
+    Assert.assertFalse(pool.getClient(null).isPresent());
+    Assert.assertFalse(pool.exists(null));
+    Assert.assertFalse(pool.exists("unknown"));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void test_createClient_nullSender() {
+    // Given
+    TIC2WebSocketClientPoolBase pool = new TIC2WebSocketClientPoolBase();
+
+    // When
+    pool.createClient(new EmbeddedChannel(DefaultChannelId.newInstance()), null);
+  }
+}
@@ -0,0 +1,140 @@
+// Copyright (C) 2025 Enedis Smarties team <dt-dsi-nexus-lab-smarties@enedis.fr>
+//
+// SPDX-FileContributor: Jehan BOUSCH
+// SPDX-FileContributor: Mathieu SABARTHES
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package tic.service.client;
+
+import io.netty.channel.Channel;
+import io.netty.channel.DefaultChannelId;
+import io.netty.channel.embedded.EmbeddedChannel;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import tic.service.endpoint.EventSender;
+
+/**
+ * Compares the connection churn of {@link TIC2WebSocketClientPoolBase}, keyed by channel ID, with
+ * the previous pool, scanning a {@link CopyOnWriteArraySet} of clients on each lookup.
+ *
+ * <p>Each operation replays the pool calls of a connection made while the other clients stay
+ * connected: registration on channel activation, a lookup per inbound message, then removal on
+ * channel deactivation.
+ *
+ * <p>Run with: {@code mvn test-compile exec:exec -Pbenchmark
+ * -Djmh.benchmarks=TIC2WebSocketClientPool}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TIC2WebSocketClientPoolBenchmark {
+  private static final int CHURN_CHANNEL_COUNT = 64;
+  private static final int MESSAGES_PER_CONNECTION = 4;
+  private static final EventSender SENDER = (channel, event) -> {};
+
+  @Param({"100", "1000", "10000"})
+  public int clientCount;
+
+  private TIC2WebSocketClientPool pool;
+  private TIC2WebSocketClientPool scanPool;
+  private Channel[] churnChannels;
+  private int nextChannel;
+
+  @Setup
+  public void setup() {
+    this.pool = new TIC2WebSocketClientPoolBase();
+    this.scanPool = new ScanClientPool();
+
+    for (int i = 0; i < this.clientCount; i++) {
+      Channel channel = new EmbeddedChannel(DefaultChannelId.newInstance());
+      this.pool.createClient(channel, SENDER);
+      this.scanPool.createClient(channel, SENDER);
+    }
+    this.churnChannels = new Channel[CHURN_CHANNEL_COUNT];
+    for (int i = 0; i < CHURN_CHANNEL_COUNT; i++) {
+      this.churnChannels[i] = new EmbeddedChannel(DefaultChannelId.newInstance());
+    }
+  }
+
+  @Benchmark
+  public void churnKeyedPool(Blackhole blackhole) {
+    this.churn(this.pool, blackhole);
+  }
+
+  @Benchmark
+  public void churnScanPool(Blackhole blackhole) {
+    this.churn(this.scanPool, blackhole);
+  }
+
+  private void churn(TIC2WebSocketClientPool clientPool, Blackhole blackhole) {
+    Channel channel = this.churnChannels[this.nextChannel];
+    String channelId = channel.id().asLongText();
+    this.nextChannel = (this.nextChannel + 1) % CHURN_CHANNEL_COUNT;
+
+    if (!clientPool.exists(channelId)) {
+      clientPool.createClient(channel, SENDER);
+    }
+    for (int i = 0; i < MESSAGES_PER_CONNECTION; i++) {
+      blackhole.consume(clientPool.getClient(channelId));
+    }
+    Optional<TIC2WebSocketClient> client = clientPool.getClient(channelId);
+    if (client.isPresent()) {
+      clientPool.remove(channelId);
+    }
+    blackhole.consume(client);
+  }
+
+  /** Client pool as implemented before the channel ID keyed map */
+  private static class ScanClientPool implements TIC2WebSocketClientPool {
+    private final Set<TIC2WebSocketClient> clients = new CopyOnWriteArraySet<>();
+
+    @Override
+    public Optional<TIC2WebSocketClient> getClient(String channelId) {
+      return this.clients.stream()
+          .filter(c -> c.getChannel().id().asLongText().equals(channelId))
+          .findAny();
+    }
+
+    @Override
+    public boolean exists(String channelId) {
+      return this.getClient(channelId).isPresent();
+    }
+
+    @Override
+    public TIC2WebSocketClient createClient(Channel channel, EventSender sender) {
+      Optional<TIC2WebSocketClient> client = this.getClient(channel.id().asLongText());
+      if (client.isPresent()) {
+        return client.get();
+      }
+      TIC2WebSocketClient newClient = new TIC2WebSocketClient(channel, sender);
+      this.clients.add(newClient);
+      return newClient;
+    }
+
+    @Override
+    public void remove(String channelId) {
+      Optional<TIC2WebSocketClient> client = this.getClient(channelId);
+      if (client.isPresent()) {
+        this.clients.remove(client.get());
+      }
+    }
+  }
+}
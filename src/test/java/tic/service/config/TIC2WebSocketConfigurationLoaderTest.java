@@ -8,6 +8,7 @@
 package tic.service.config;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
@@ -17,6 +18,7 @@ import org.json.JSONException;
 import org.junit.Test;
 import tic.ResourceLoader;
 import tic.frame.TICMode;
+import tic.service.netty.TIC2WebSocketOutboundPolicy;
 
 public class TIC2WebSocketConfigurationLoaderTest {
 
@@ -32,6 +34,48 @@ public class TIC2WebSocketConfigurationLoaderTest {
     assertEquals(1234, cfg.getServerPort());
     assertEquals(TICMode.AUTO, cfg.getTicMode());
     assertNull(cfg.getTicPortNames());
+    assertFalse(cfg.isPrettyJson());
+    assertEquals(TIC2WebSocketConfiguration.DEFAULT_NOTIFIER_THREADS, cfg.getNotifierThreads());
+  }
+
+  @Test
+  public void load_prettyJson_ok() throws Exception {
+    // Given
+    String path = ResourceLoader.getFilePath("/tic/service/config_pretty_json.json");
+
+    // When
+    TIC2WebSocketConfiguration cfg = TIC2WebSocketConfigurationLoader.load(path);
+
+    // Then
+    assertEquals(1234, cfg.getServerPort());
+    assertTrue(cfg.isPrettyJson());
+  }
+
+  @Test
+  public void load_notifierThreads_ok() throws Exception {
+    // Given
+    String path = ResourceLoader.getFilePath("/tic/service/config_notifier_threads.json");
+
+    // When
+    TIC2WebSocketConfiguration cfg = TIC2WebSocketConfigurationLoader.load(path);
+
+    // Then
+    assertEquals(1234, cfg.getServerPort());
+    assertEquals(8, cfg.getNotifierThreads());
+  }
+
+  @Test
+  public void load_outbound_ok() throws Exception {
+    // Given
+    String path = ResourceLoader.getFilePath("/tic/service/config_outbound.json");
+
+    // When
+    TIC2WebSocketConfiguration cfg = TIC2WebSocketConfigurationLoader.load(path);
+
+    // Then
+    assertEquals(TIC2WebSocketOutboundPolicy.LATEST, cfg.getOutbound().getPolicy());
+    assertEquals(16384, cfg.getOutbound().getHighWaterMark());
+    assertEquals(32, cfg.getOutbound().getQueueSize());
   }
 
   @Test
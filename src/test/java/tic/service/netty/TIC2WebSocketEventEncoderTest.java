@@ -0,0 +1,121 @@
+// Copyright (C) 2025 Enedis Smarties team <dt-dsi-nexus-lab-smarties@enedis.fr>
+//
+// SPDX-FileContributor: Jehan BOUSCH
+// SPDX-FileContributor: Mathieu SABARTHES
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package tic.service.netty;
+
+import io.netty.buffer.ByteBuf;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import org.json.JSONObject;
+import org.junit.Assert;
+import org.junit.Test;
+import tic.core.TICCoreError;
+import tic.core.TICCoreFrame;
+import tic.core.TICIdentifier;
+import tic.frame.TICFrame;
+import tic.frame.TICMode;
+import tic.frame.group.TICGroup;
+
+public class TIC2WebSocketEventEncoderTest {
+
+  @Test
+  public void test_encodeOnData_sameFrame_sharesEncodedBytes() throws Exception {
+    // Given
+    TIC2WebSocketEventEncoder encoder = new TIC2WebSocketEventEncoder();
+    TICCoreFrame frame = createFrame();
+
+    // When
+    ByteBuf firstBuffer = encoder.encodeOnData(frame);
+    ByteBuf secondBuffer = encoder.encodeOnData(frame);
+
+    // Then
+    Assert.assertSame(firstBuffer.unwrap(), secondBuffer.unwrap());
+    Assert.assertEquals(3, firstBuffer.refCnt());
+    JSONObject json = new JSONObject(firstBuffer.toString(StandardCharsets.UTF_8));
+    Assert.assertEquals("OnTICData", json.getString("name"));
+    Assert.assertEquals("031664001115", json.getJSONObject("frame").getString("ADSC"));
+    firstBuffer.release();
+    secondBuffer.release();
+    Assert.assertEquals(1, firstBuffer.unwrap().refCnt());
+  }
+
+  @Test
+  public void test_encodeOnData_otherFrame_encodesAgain() throws Exception {
+    // Given
+    TIC2WebSocketEventEncoder encoder = new TIC2WebSocketEventEncoder();
+
+    // When
+    ByteBuf firstBuffer = encoder.encodeOnData(createFrame());
+    ByteBuf secondBuffer = encoder.encodeOnData(createFrame());
+
+    // Then
+    Assert.assertNotSame(firstBuffer.unwrap(), secondBuffer.unwrap());
+    firstBuffer.release();
+    secondBuffer.release();
+  }
+
+  @Test
+  public void test_encodeOnError_sameError_sharesEncodedBytes() throws Exception {
+    // Given
+    TIC2WebSocketEventEncoder encoder = new TIC2WebSocketEventEncoder();
+    TICCoreError error =
+        new TICCoreError(new TICIdentifier.Builder().portName("COM7").build(), -1, "Unplugged");
+
+    // When
+    ByteBuf firstBuffer = encoder.encodeOnError(error);
+    ByteBuf secondBuffer = encoder.encodeOnError(error);
+
+    // Then
+    Assert.assertSame(firstBuffer.unwrap(), secondBuffer.unwrap());
+    JSONObject json = new JSONObject(firstBuffer.toString(StandardCharsets.UTF_8));
+    Assert.assertEquals("OnError", json.getString("name"));
+    firstBuffer.release();
+    secondBuffer.release();
+  }
+
+  @Test
+  public void test_encodeOnData_evictedEntry_released() throws Exception {
+    // Given
+    TIC2WebSocketEventEncoder encoder = new TIC2WebSocketEventEncoder(1);
+    ByteBuf firstBuffer = encoder.encodeOnData(createFrame());
+    ByteBuf sharedBuffer = firstBuffer.unwrap();
+
+    // When
+    encoder.encodeOnData(createFrame()).release();
+
+    // Then
+    Assert.assertEquals(1, sharedBuffer.refCnt());
+    firstBuffer.release();
+    Assert.assertEquals(0, sharedBuffer.refCnt());
+  }
+
+  @Test
+  public void test_clear_releasesCachedEvents() throws Exception {
+    // Given
+    TIC2WebSocketEventEncoder encoder = new TIC2WebSocketEventEncoder();
+    ByteBuf buffer = encoder.encodeOnData(createFrame());
+    ByteBuf sharedBuffer = buffer.unwrap();
+    buffer.release();
+
+    // When
+    encoder.clear();
+
+    // Then
+    Assert.assertEquals(0, sharedBuffer.refCnt());
+  }
+
+  private static TICCoreFrame createFrame() {
+    TICFrame frame = new TICFrame(TICMode.STANDARD);
+    frame.addGroup(new TICGroup("ADSC", "031664001115"));
+    frame.addGroup(new TICGroup("SINSTS", "00150"));
+    return new TICCoreFrame(
+        new TICIdentifier.Builder().portName("COM7").build(),
+        TICMode.STANDARD,
+        LocalDateTime.now(),
+        frame);
+  }
+}
@@ -0,0 +1,130 @@
+// Copyright (C) 2025 Enedis Smarties team <dt-dsi-nexus-lab-smarties@enedis.fr>
+//
+// SPDX-FileContributor: Jehan BOUSCH
+// SPDX-FileContributor: Mathieu SABARTHES
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package tic.service.netty;
+
+import io.netty.channel.DefaultChannelId;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.http.websocketx.TextWebSocketFrame;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.json.JSONObject;
+import org.junit.Assert;
+import org.junit.Test;
+import tic.service.client.TIC2WebSocketClientPoolBase;
+import tic.service.message.RequestUnsubscribeTIC;
+import tic.service.message.ResponseUnsubscribeTIC;
+import tic.util.message.Request;
+import tic.util.message.Response;
+
+public class TIC2WebSocketHandlerTest {
+  private final TIC2WebSocketClientPoolBase clientPool = new TIC2WebSocketClientPoolBase();
+  private final List<Request> requests = new CopyOnWriteArrayList<Request>();
+  private final CompletableFuture<Response> response = new CompletableFuture<Response>();
+  private final TIC2WebSocketHandler handler =
+      new TIC2WebSocketHandler(
+          this.clientPool,
+          (request, client) -> {
+            this.requests.add(request);
+            return this.response;
+          });
+
+  @Test
+  public void test_channelInactive_clientRemovedOnceUnsubscribed() {
+    // Given
+    EmbeddedChannel channel = new EmbeddedChannel(DefaultChannelId.newInstance(), this.handler);
+    String channelId = channel.id().asLongText();
+
+    // When
+    channel.close();
+    boolean existsWhileUnsubscribing = this.clientPool.exists(channelId);
+    this.response.complete(new ResponseUnsubscribeTIC(LocalDateTime.now(), 0, null));
+
+    // Then
+    Assert.assertEquals(1, this.requests.size());
+    Assert.assertEquals(RequestUnsubscribeTIC.NAME, this.requests.get(0).getName());
+    Assert.assertTrue(existsWhileUnsubscribing);
+    Assert.assertFalse(this.clientPool.exists(channelId));
+  }
+
+  @Test
+  public void test_channelInactive_unsubscribeFailed_clientRemoved() {
+    // Given
+    EmbeddedChannel channel = new EmbeddedChannel(DefaultChannelId.newInstance(), this.handler);
+    String channelId = channel.id().asLongText();
+
+    // When
+    channel.close();
+    this.response.completeExceptionally(new IllegalStateException("Unsubscribe failed"));
+
+    // Then
+    Assert.assertFalse(this.clientPool.exists(channelId));
+  }
+
+  @Test
+  public void test_channelRead_invalidContent_errorResponseWithId() {
+    // Given
+    EmbeddedChannel channel = new EmbeddedChannel(DefaultChannelId.newInstance(), this.handler);
+    String text =
+        "{\"type\":\"REQUEST\",\"name\":\"ReadTIC\",\"id\":\"r1\",\"maxAgeMs\":-1,"
+            + "\"data\":{\"portName\":\"/dev/ttyUSB0\"}}";
+
+    // When
+    channel.writeInbound(new TextWebSocketFrame(text));
+    JSONObject response = readResponse(channel);
+
+    // Then
+    Assert.assertTrue(this.requests.isEmpty());
+    Assert.assertNotEquals(0, response.getInt("errorCode"));
+    Assert.assertEquals("r1", response.get("id"));
+  }
+
+  @Test
+  public void test_channelRead_unsupportedName_errorResponseWithNumberId() {
+    // Given
+    EmbeddedChannel channel = new EmbeddedChannel(DefaultChannelId.newInstance(), this.handler);
+    String text = "{\"type\":\"REQUEST\",\"name\":\"Nope\",\"id\":7}";
+
+    // When
+    channel.writeInbound(new TextWebSocketFrame(text));
+    JSONObject response = readResponse(channel);
+
+    // Then
+    Assert.assertNotEquals(0, response.getInt("errorCode"));
+    Assert.assertEquals(7, response.getInt("id"));
+  }
+
+  @Test
+  public void test_channelRead_invalidJsonOrId_errorResponseWithoutId() {
+    // Given
+    EmbeddedChannel channel = new EmbeddedChannel(DefaultChannelId.newInstance(), this.handler);
+
+    // When
+    channel.writeInbound(new TextWebSocketFrame("{\"id\":\"r1\""));
+    JSONObject invalidJsonResponse = readResponse(channel);
+    channel.writeInbound(new TextWebSocketFrame("{\"type\":\"REQUEST\",\"id\":{}}"));
+    JSONObject invalidIdResponse = readResponse(channel);
+
+    // Then
+    Assert.assertNotEquals(0, invalidJsonResponse.getInt("errorCode"));
+    Assert.assertFalse(invalidJsonResponse.has("id"));
+    Assert.assertNotEquals(0, invalidIdResponse.getInt("errorCode"));
+    Assert.assertFalse(invalidIdResponse.has("id"));
+  }
+
+  private static JSONObject readResponse(EmbeddedChannel channel) {
+    TextWebSocketFrame frame = channel.readOutbound();
+    Assert.assertNotNull(frame);
+    try {
+      return new JSONObject(frame.text());
+    } finally {
+      frame.release();
+    }
+  }
+}
@@ -0,0 +1,87 @@
+// Copyright (C) 2025 Enedis Smarties team <dt-dsi-nexus-lab-smarties@enedis.fr>
+//
+// SPDX-FileContributor: Jehan BOUSCH
+// SPDX-FileContributor: Mathieu SABARTHES
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package tic.service.netty;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import java.nio.charset.StandardCharsets;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class TIC2WebSocketOutboundQueueTest {
+
+  @Test
+  public void test_offer_full_dropsOldest() {
+    // Given
+    TIC2WebSocketOutboundQueue queue = new TIC2WebSocketOutboundQueue(2);
+    ByteBuf first = createEvent("1");
+    queue.offer(first, null);
+    queue.offer(createEvent("2"), null);
+
+    // When
+    queue.offer(createEvent("3"), null);
+
+    // Then
+    Assert.assertEquals(0, first.refCnt());
+    Assert.assertEquals(2, queue.getDepth());
+    Assert.assertEquals(1, queue.getDroppedEvents());
+    assertPolled(queue, "2");
+    assertPolled(queue, "3");
+    Assert.assertNull(queue.poll());
+    Assert.assertEquals(0, queue.getDepth());
+  }
+
+  @Test
+  public void test_offer_sameConflationKey_keepsLatest() {
+    // Given
+    TIC2WebSocketOutboundQueue queue = new TIC2WebSocketOutboundQueue(8);
+    ByteBuf olderFrame = createEvent("COM3-1");
+    queue.offer(olderFrame, "COM3");
+    queue.offer(createEvent("error"), null);
+    queue.offer(createEvent("COM4-1"), "COM4");
+
+    // When
+    queue.offer(createEvent("COM3-2"), "COM3");
+
+    // Then
+    Assert.assertEquals(0, olderFrame.refCnt());
+    Assert.assertEquals(3, queue.getDepth());
+    Assert.assertEquals(1, queue.getConflatedEvents());
+    Assert.assertEquals(0, queue.getDroppedEvents());
+    assertPolled(queue, "error");
+    assertPolled(queue, "COM4-1");
+    assertPolled(queue, "COM3-2");
+  }
+
+  @Test
+  public void test_clear_releasesEvents() {
+    // Given
+    TIC2WebSocketOutboundQueue queue = new TIC2WebSocketOutboundQueue(8);
+    ByteBuf event = createEvent("1");
+    queue.offer(event, null);
+
+    // When
+    queue.clear();
+
+    // Then
+    Assert.assertEquals(0, event.refCnt());
+    Assert.assertTrue(queue.isEmpty());
+    Assert.assertEquals(0, queue.getDepth());
+  }
+
+  private static ByteBuf createEvent(String content) {
+    return Unpooled.copiedBuffer(content, StandardCharsets.UTF_8);
+  }
+
+  private static void assertPolled(TIC2WebSocketOutboundQueue queue, String expected) {
+    ByteBuf event = queue.poll();
+    Assert.assertNotNull(event);
+    Assert.assertEquals(expected, event.toString(StandardCharsets.UTF_8));
+    event.release();
+  }
+}
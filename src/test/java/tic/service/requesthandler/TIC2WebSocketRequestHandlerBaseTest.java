@@ -0,0 +1,171 @@
+// Copyright (C) 2025 Enedis Smarties team <dt-dsi-nexus-lab-smarties@enedis.fr>
+//
+// SPDX-FileContributor: Jehan BOUSCH
+// SPDX-FileContributor: Mathieu SABARTHES
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package tic.service.requesthandler;
+
+import io.netty.channel.DefaultChannelId;
+import io.netty.channel.embedded.EmbeddedChannel;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+import tic.core.TICCoreBase;
+import tic.core.TICCoreFrame;
+import tic.core.TICIdentifier;
+import tic.frame.TICFrame;
+import tic.frame.TICMode;
+import tic.io.modem.ModemDescriptor;
+import tic.io.modem.ModemFinderMock;
+import tic.service.client.TIC2WebSocketClient;
+import tic.service.message.RequestGetAvailableTICs;
+import tic.service.message.RequestGetModemsInfo;
+import tic.service.message.RequestReadTIC;
+import tic.service.message.ResponseGetAvailableTICs;
+import tic.service.message.ResponseGetModemsInfo;
+import tic.service.message.ResponseReadTIC;
+import tic.util.message.Response;
+import tic.util.task.NotificationDispatcher;
+
+public class TIC2WebSocketRequestHandlerBaseTest {
+  private static final int RESPONSE_TIMEOUT = 5000;
+
+  private final TICCoreStub ticCore = new TICCoreStub();
+  private final NotificationDispatcher requestDispatcher =
+      new NotificationDispatcher(1, "tic-request-");
+  private final TIC2WebSocketRequestHandlerBase handler =
+      new TIC2WebSocketRequestHandlerBase(this.ticCore, this.requestDispatcher);
+
+  @After
+  public void shutdownDispatcher() {
+    this.ticCore.release.countDown();
+    this.requestDispatcher.shutdown();
+  }
+
+  @Test
+  public void test_handle_doesNotBlockCaller() throws Exception {
+    // Given
+    TIC2WebSocketClient client = createClient();
+
+    // When
+    CompletableFuture<Response> response =
+        this.handler.handle(new RequestGetAvailableTICs(), client).toCompletableFuture();
+
+    // Then
+    Assert.assertFalse(response.isDone());
+    this.ticCore.release.countDown();
+    Response result = response.get(RESPONSE_TIMEOUT, TimeUnit.MILLISECONDS);
+    Assert.assertTrue(result instanceof ResponseGetAvailableTICs);
+    Assert.assertTrue(this.ticCore.threadNames.get(0).startsWith("tic-request-"));
+  }
+
+  @Test
+  public void test_handle_sameClient_keepsRequestOrder() throws Exception {
+    // Given
+    TIC2WebSocketClient client = createClient();
+    CompletableFuture<Response> first =
+        this.handler.handle(new RequestGetAvailableTICs(), client).toCompletableFuture();
+
+    // When
+    CompletableFuture<Response> second =
+        this.handler.handle(new RequestGetModemsInfo(), client).toCompletableFuture();
+
+    // Then
+    Assert.assertFalse(second.isDone());
+    this.ticCore.release.countDown();
+    Assert.assertTrue(
+        first.get(RESPONSE_TIMEOUT, TimeUnit.MILLISECONDS) instanceof ResponseGetAvailableTICs);
+    Assert.assertTrue(
+        second.get(RESPONSE_TIMEOUT, TimeUnit.MILLISECONDS) instanceof ResponseGetModemsInfo);
+    Assert.assertEquals(
+        Arrays.asList("getAvailableTICs", "getModemsInfo"), this.ticCore.calls);
+  }
+
+  @Test
+  public void test_handle_pendingReadTIC_doesNotHoldRequestThread() throws Exception {
+    // Given
+    this.ticCore.release.countDown();
+    TIC2WebSocketClient client1 = createClient();
+    TIC2WebSocketClient client2 = createClient();
+    TICIdentifier identifier = new TICIdentifier.Builder().portName("COM3").build();
+    CompletableFuture<Response> readResponse =
+        this.handler.handle(new RequestReadTIC(identifier), client1).toCompletableFuture();
+
+    // When
+    CompletableFuture<Response> otherResponse =
+        this.handler.handle(new RequestGetAvailableTICs(), client2).toCompletableFuture();
+
+    // Then
+    Assert.assertTrue(
+        otherResponse.get(RESPONSE_TIMEOUT, TimeUnit.MILLISECONDS)
+            instanceof ResponseGetAvailableTICs);
+    Assert.assertFalse(readResponse.isDone());
+
+    // When
+    TICCoreFrame frame =
+        new TICCoreFrame(
+            identifier, TICMode.STANDARD, LocalDateTime.now(), new TICFrame(TICMode.STANDARD));
+    this.ticCore.nextFrame.complete(frame);
+
+    // Then
+    Response response = readResponse.get(RESPONSE_TIMEOUT, TimeUnit.MILLISECONDS);
+    Assert.assertTrue(response instanceof ResponseReadTIC);
+    Assert.assertSame(frame, ((ResponseReadTIC) response).getData());
+  }
+
+  private static TIC2WebSocketClient createClient() {
+    return new TIC2WebSocketClient(
+        new EmbeddedChannel(DefaultChannelId.newInstance()), (channel, event) -> {});
+  }
+
+  /** TICCore whose lookups wait for the release latch and whose reads wait for nextFrame */
+  private static class TICCoreStub extends TICCoreBase {
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final CompletableFuture<TICCoreFrame> nextFrame =
+        new CompletableFuture<TICCoreFrame>();
+    private final List<String> calls = new CopyOnWriteArrayList<String>();
+    private final List<String> threadNames = new CopyOnWriteArrayList<String>();
+
+    private TICCoreStub() {
+      super(new ModemFinderMock(), 100, TICMode.AUTO, null);
+    }
+
+    @Override
+    public List<TICIdentifier> getAvailableTICs() {
+      this.record("getAvailableTICs");
+      return Collections.emptyList();
+    }
+
+    @Override
+    public List<ModemDescriptor> getModemsInfo() {
+      this.record("getModemsInfo");
+      return Collections.emptyList();
+    }
+
+    @Override
+    public CompletableFuture<TICCoreFrame> readNextFrameAsync(TICIdentifier identifier) {
+      this.record("readNextFrameAsync");
+      return this.nextFrame;
+    }
+
+    private void record(String call) {
+      this.calls.add(call);
+      this.threadNames.add(Thread.currentThread().getName());
+      try {
+        this.release.await(RESPONSE_TIMEOUT, TimeUnit.MILLISECONDS);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+  }
+}
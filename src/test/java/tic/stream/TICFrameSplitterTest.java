@@ -0,0 +1,140 @@
+// Copyright (C) 2025 Enedis Smarties team <dt-dsi-nexus-lab-smarties@enedis.fr>
+//
+// SPDX-FileContributor: Jehan BOUSCH
+// SPDX-FileContributor: Mathieu SABARTHES
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package tic.stream;
+
+import java.nio.ByteBuffer;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class TICFrameSplitterTest {
+
+  private static final byte[] FRAME_1 = new byte[] {0x02, 0x0A, 'A', ' ', '1', 0x0D, 0x03};
+  private static final byte[] FRAME_2 = new byte[] {0x02, 0x0A, 'B', ' ', '2', 0x0D, 0x03};
+
+  @Test
+  public void test_nextFrame_empty() {
+    // Given
+    TICFrameSplitter splitter = new TICFrameSplitter();
+    TICStreamRingBuffer source = new TICStreamRingBuffer();
+
+    // When
+    ByteBuffer frame = splitter.nextFrame(source);
+
+    // Then
+    Assert.assertNull(frame);
+  }
+
+  @Test
+  public void test_nextFrame_skipsBytesBeforeStartDelimiter() {
+    // Given
+    TICFrameSplitter splitter = new TICFrameSplitter();
+    TICStreamRingBuffer source = new TICStreamRingBuffer();
+    write(source, new byte[] {'X', 0x0D, 0x03});
+    write(source, FRAME_1);
+
+    // When
+    byte[] frame = splitter.nextFrameBytes(source);
+
+    // Then
+    Assert.assertArrayEquals(FRAME_1, frame);
+    Assert.assertNull(splitter.nextFrameBytes(source));
+  }
+
+  @Test
+  public void test_nextFrame_keepsPartialFrameBetweenCalls() {
+    // Given
+    TICFrameSplitter splitter = new TICFrameSplitter();
+    TICStreamRingBuffer source = new TICStreamRingBuffer();
+    write(source, new byte[] {0x02, 0x0A, 'A'});
+
+    // When
+    byte[] firstFrame = splitter.nextFrameBytes(source);
+    write(source, new byte[] {' ', '1', 0x0D, 0x03});
+    byte[] secondFrame = splitter.nextFrameBytes(source);
+
+    // Then
+    Assert.assertNull(firstFrame);
+    Assert.assertArrayEquals(FRAME_1, secondFrame);
+  }
+
+  @Test
+  public void test_nextFrame_keepsFollowingFramesInSameChunk() {
+    // Given
+    TICFrameSplitter splitter = new TICFrameSplitter();
+    TICStreamRingBuffer source = new TICStreamRingBuffer();
+    write(source, FRAME_1);
+    write(source, FRAME_2);
+
+    // When
+    byte[] firstFrame = splitter.nextFrameBytes(source);
+    byte[] secondFrame = splitter.nextFrameBytes(source);
+
+    // Then
+    Assert.assertArrayEquals(FRAME_1, firstFrame);
+    Assert.assertArrayEquals(FRAME_2, secondFrame);
+    Assert.assertNull(splitter.nextFrameBytes(source));
+  }
+
+  @Test
+  public void test_nextFrame_restartsOnStartDelimiterInsideFrame() {
+    // Given
+    TICFrameSplitter splitter = new TICFrameSplitter();
+    TICStreamRingBuffer source = new TICStreamRingBuffer();
+    write(source, new byte[] {0x02, 0x0A, 'Z'});
+    write(source, FRAME_2);
+
+    // When
+    ByteBuffer frame = splitter.nextFrame(source);
+
+    // Then
+    byte[] frameBytes = new byte[frame.remaining()];
+    frame.get(frameBytes);
+    Assert.assertArrayEquals(FRAME_2, frameBytes);
+  }
+
+  @Test
+  public void test_nextFrame_growsFrameBuffer() {
+    // Given
+    TICFrameSplitter splitter = new TICFrameSplitter();
+    TICStreamRingBuffer source = new TICStreamRingBuffer();
+    byte[] largeFrame = new byte[TICFrameSplitter.DEFAULT_FRAME_CAPACITY * 3];
+    largeFrame[0] = 0x02;
+    for (int i = 1; i < largeFrame.length - 1; i++) {
+      largeFrame[i] = 'A';
+    }
+    largeFrame[largeFrame.length - 1] = 0x03;
+    write(source, largeFrame);
+
+    // When
+    byte[] frame = splitter.nextFrameBytes(source);
+
+    // Then
+    Assert.assertArrayEquals(largeFrame, frame);
+  }
+
+  @Test
+  public void test_reset_dropsPartialFrame() {
+    // Given
+    TICFrameSplitter splitter = new TICFrameSplitter();
+    TICStreamRingBuffer source = new TICStreamRingBuffer();
+    write(source, new byte[] {0x02, 0x0A, 'A'});
+    splitter.nextFrameBytes(source);
+
+    // When
+    splitter.reset();
+    write(source, new byte[] {' ', '1', 0x0D, 0x03});
+    write(source, FRAME_2);
+
+    // Then
+    Assert.assertArrayEquals(FRAME_2, splitter.nextFrameBytes(source));
+  }
+
+  private static void write(TICStreamRingBuffer source, byte[] data) {
+    source.write(data, 0, data.length);
+  }
+}
@@ -0,0 +1,117 @@
+// Copyright (C) 2025 Enedis Smarties team <dt-dsi-nexus-lab-smarties@enedis.fr>
+//
+// SPDX-FileContributor: Jehan BOUSCH
+// SPDX-FileContributor: Mathieu SABARTHES
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package tic.stream;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class TICStreamRingBufferTest {
+
+  @Test
+  public void test_read_empty() {
+    // Given
+    TICStreamRingBuffer buffer = new TICStreamRingBuffer(4);
+
+    // When
+    int value = buffer.read();
+
+    // Then
+    Assert.assertEquals(-1, value);
+    Assert.assertTrue(buffer.isEmpty());
+  }
+
+  @Test
+  public void test_write_read_fifo() {
+    // Given
+    TICStreamRingBuffer buffer = new TICStreamRingBuffer(8);
+    byte[] data = new byte[] {0x02, 0x0A, 'A', 'D', (byte) 0xFF};
+
+    // When
+    buffer.write(data, 0, data.length);
+
+    // Then
+    Assert.assertEquals(5, buffer.size());
+    Assert.assertEquals(0x02, buffer.read());
+    Assert.assertEquals(0x0A, buffer.read());
+    Assert.assertEquals('A', buffer.read());
+    Assert.assertEquals('D', buffer.read());
+    Assert.assertEquals(0xFF, buffer.read());
+    Assert.assertEquals(-1, buffer.read());
+  }
+
+  @Test
+  public void test_write_wrapAround() {
+    // Given
+    TICStreamRingBuffer buffer = new TICStreamRingBuffer(4);
+    byte[] destination = new byte[4];
+    buffer.write(new byte[] {1, 2, 3}, 0, 3);
+    buffer.read();
+    buffer.read();
+
+    // When
+    buffer.write(new byte[] {4, 5, 6}, 0, 3);
+    int count = buffer.read(destination, 0, destination.length);
+
+    // Then
+    Assert.assertEquals(4, count);
+    Assert.assertArrayEquals(new byte[] {3, 4, 5, 6}, destination);
+  }
+
+  @Test
+  public void test_write_overflow_dropsOldestBytes() {
+    // Given
+    TICStreamRingBuffer buffer = new TICStreamRingBuffer(4);
+    byte[] destination = new byte[4];
+    buffer.write(new byte[] {1, 2, 3}, 0, 3);
+
+    // When
+    buffer.write(new byte[] {4, 5, 6, 7, 8, 9}, 1, 4);
+    int count = buffer.read(destination, 0, destination.length);
+
+    // Then
+    Assert.assertEquals(4, count);
+    Assert.assertArrayEquals(new byte[] {5, 6, 7, 8}, destination);
+  }
+
+  @Test
+  public void test_awaitData_timeout() {
+    // Given
+    TICStreamRingBuffer buffer = new TICStreamRingBuffer(4);
+
+    // When
+    boolean hasData = buffer.awaitData(20);
+
+    // Then
+    Assert.assertFalse(hasData);
+  }
+
+  @Test
+  public void test_awaitData_wokenUpByWrite() throws InterruptedException {
+    // Given
+    TICStreamRingBuffer buffer = new TICStreamRingBuffer(4);
+    Thread writer =
+        new Thread(
+            () -> {
+              try {
+                Thread.sleep(20);
+              } catch (InterruptedException exception) {
+                return;
+              }
+              buffer.write(new byte[] {1}, 0, 1);
+            });
+
+    // When
+    writer.start();
+    boolean hasData = buffer.awaitData(5000);
+    writer.join();
+
+    // Then
+    Assert.assertTrue(hasData);
+    Assert.assertEquals(1, buffer.size());
+  }
+}
@@ -16,6 +16,7 @@ import org.junit.Assert;
 import org.junit.Test;
 import tic.ResourceLoader;
 import tic.frame.TICMode;
+import tic.stream.TICStreamReadMode;
 import tic.stream.identifier.TICStreamIdentifierType;
 
 public class TICStreamConfigurationLoaderTest {
@@ -49,9 +50,27 @@ public class TICStreamConfigurationLoaderTest {
     // Then
     Assert.assertEquals(TICMode.AUTO, configuration.getTicMode());
     Assert.assertEquals(10, configuration.getTimeout());
+    Assert.assertEquals(TICStreamReadMode.EVENT, configuration.getReadMode());
     Assert.assertEquals("12345", configuration.getIdentifier().getPortId());
   }
 
+  @Test
+  public void test_load_withPollingReadMode_returnsConfiguration()
+      throws IOException, URISyntaxException {
+    // Given
+    String configPath =
+        ResourceLoader.getFilePath("/tic/stream/configuration/withPollingReadMode.json");
+
+    // When
+    TICStreamConfiguration configuration = TICStreamConfigurationLoader.load(configPath);
+
+    // Then
+    Assert.assertEquals(TICMode.STANDARD, configuration.getTicMode());
+    Assert.assertEquals(12, configuration.getTimeout());
+    Assert.assertEquals(TICStreamReadMode.POLLING, configuration.getReadMode());
+    Assert.assertEquals("COM5", configuration.getIdentifier().getPortName());
+  }
+
   @Test
   public void test_load_withMissingFile_throwsIllegalStateException() {
     // Given
@@ -0,0 +1,100 @@
+// Copyright (C) 2025 Enedis Smarties team <dt-dsi-nexus-lab-smarties@enedis.fr>
+//
+// SPDX-FileContributor: Jehan BOUSCH
+// SPDX-FileContributor: Mathieu SABARTHES
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package tic.util.message.codec;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import tic.ResourceLoader;
+import tic.core.TICCoreFrame;
+import tic.core.TICIdentifier;
+import tic.frame.TICFrame;
+import tic.frame.codec.TICFrameCodec;
+import tic.service.message.EventOnTICData;
+import tic.util.message.Event;
+
+/**
+ * Compares the wire size and the encoding throughput of compact and indented JSON events.
+ *
+ * <p>The size of an encoded event is reported by the {@code bytesPerEvent} secondary result. The
+ * {@code encodeEventTree} benchmark encodes through the JSON object tree, for comparison with the
+ * streaming writer used by {@code encodeEvent} for compact JSON.
+ *
+ * <p>Run with: {@code mvn test-compile exec:exec -Pbenchmark -Djmh.benchmarks=MessageJsonCodec}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MessageJsonCodecBenchmark {
+
+  @Param({"0", "2"})
+  public int indentFactor;
+
+  private Event event;
+
+  @State(Scope.Thread)
+  @AuxCounters(AuxCounters.Type.EVENTS)
+  public static class EventSize {
+    public long bytesPerEvent;
+
+    @Setup(Level.Iteration)
+    public void reset() {
+      this.bytesPerEvent = 0;
+    }
+  }
+
+  @Setup
+  public void setup() throws Exception {
+    byte[] frameBuffer = ResourceLoader.readAllBytes("/tic/frame/codec/ticFrameStandard.txt");
+    TICFrame frame = TICFrameCodec.decode(frameBuffer);
+    TICCoreFrame coreFrame =
+        new TICCoreFrame(
+            new TICIdentifier.Builder().portName("COM7").serialNumber("031664001115").build(),
+            frame.getMode(),
+            LocalDateTime.now(),
+            frame);
+    this.event = new EventOnTICData(LocalDateTime.now(), coreFrame);
+  }
+
+  @Benchmark
+  public byte[] encodeEvent(EventSize eventSize) throws Exception {
+    byte[] bytes =
+        MessageJsonCodec.getInstance()
+            .encodeToJsonString(this.event, this.indentFactor)
+            .getBytes(StandardCharsets.UTF_8);
+    eventSize.bytesPerEvent = bytes.length;
+    return bytes;
+  }
+
+  @Benchmark
+  public byte[] encodeEventTree(EventSize eventSize) throws Exception {
+    byte[] bytes =
+        MessageJsonCodec.getInstance()
+            .encodeToJsonObject(this.event)
+            .toString(this.indentFactor)
+            .getBytes(StandardCharsets.UTF_8);
+    eventSize.bytesPerEvent = bytes.length;
+    return bytes;
+  }
+}
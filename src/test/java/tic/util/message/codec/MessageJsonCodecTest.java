@@ -9,19 +9,35 @@ package tic.util.message.codec;
 
 import java.io.IOException;
 import java.net.URISyntaxException;
+import java.time.LocalDateTime;
+import java.util.Arrays;
 import java.util.List;
+import org.json.JSONArray;
 import org.json.JSONObject;
 import org.junit.Assert;
 import org.junit.Test;
 import tic.ResourceLoader;
+import tic.core.TICCoreError;
+import tic.core.TICCoreFrame;
 import tic.core.TICIdentifier;
+import tic.frame.TICFrame;
+import tic.frame.TICMode;
+import tic.frame.group.TICGroup;
+import tic.service.message.EventOnError;
+import tic.service.message.EventOnTICData;
 import tic.service.message.RequestGetAvailableTICs;
 import tic.service.message.RequestGetModemsInfo;
 import tic.service.message.RequestReadTIC;
 import tic.service.message.RequestSubscribeTIC;
 import tic.service.message.RequestUnsubscribeTIC;
+import tic.service.message.ResponseSubscribeTIC;
+import tic.service.message.SubscriptionDelivery;
+import tic.service.message.SubscriptionResult;
+import tic.util.codec.JsonStringCodec;
 import tic.util.message.Message;
 import tic.util.message.MessageType;
+import tic.util.message.Request;
+import tic.util.message.Response;
 import tic.util.message.exception.MessageException;
 import tic.util.message.exception.UnsupportedMessageException;
 
@@ -82,6 +98,35 @@ public class MessageJsonCodecTest {
     Assert.assertEquals("010203040506", identifier.getSerialNumber());
   }
 
+  @Test
+  public void decodeFromJsonObject_withReadTIC_maxAge() throws Exception {
+    // Given
+    JSONObject jsonObject =
+        readJsonObject("/tic/util/message/codec/RequestReadTIC_WithMaxAge.json");
+
+    // When
+    Message message = MessageJsonCodec.getInstance().decodeFromJsonObject(jsonObject);
+
+    // Then
+    Assert.assertTrue(message instanceof RequestReadTIC);
+    RequestReadTIC request = (RequestReadTIC) message;
+    Assert.assertEquals(Long.valueOf(2000), request.getMaxAgeMs());
+    Assert.assertEquals("/dev/ttyUSB0", request.getData().getPortName());
+  }
+
+  @Test
+  public void decodeFromJsonObject_withReadTIC_noMaxAge() throws Exception {
+    // Given
+    JSONObject jsonObject =
+        readJsonObject("/tic/util/message/codec/RequestReadTIC_WithPortName.json");
+
+    // When
+    Message message = MessageJsonCodec.getInstance().decodeFromJsonObject(jsonObject);
+
+    // Then
+    Assert.assertNull(((RequestReadTIC) message).getMaxAgeMs());
+  }
+
   @Test
   public void decodeFromJsonObject_withReadTIC_withPortId() throws Exception {
     // Given
@@ -196,6 +241,52 @@ public class MessageJsonCodecTest {
     Assert.assertNull(identifiers.get(0).getSerialNumber());
   }
 
+  @Test
+  public void decodeFromJsonObject_withSubscribeTIC_latestDelivery() throws Exception {
+    // Given
+    JSONObject jsonObject =
+        readJsonObject("/tic/util/message/codec/RequestSubscribeTIC_WithLatestDelivery.json");
+    // When
+    Message message = MessageJsonCodec.getInstance().decodeFromJsonObject(jsonObject);
+
+    // Then
+    Assert.assertTrue(message instanceof RequestSubscribeTIC);
+    RequestSubscribeTIC request = (RequestSubscribeTIC) message;
+    Assert.assertEquals(SubscriptionDelivery.LATEST, request.getDelivery());
+    Assert.assertEquals(1, request.getData().size());
+  }
+
+  @Test
+  public void decodeFromJsonObject_withSubscribeTIC_defaultDelivery() throws Exception {
+    // Given
+    JSONObject jsonObject =
+        readJsonObject("/tic/util/message/codec/RequestSubscribeTIC_WithOneIdentifierList.json");
+    // When
+    Message message = MessageJsonCodec.getInstance().decodeFromJsonObject(jsonObject);
+
+    // Then
+    Assert.assertEquals(SubscriptionDelivery.ALL, ((RequestSubscribeTIC) message).getDelivery());
+  }
+
+  @Test
+  public void decodeFromJsonObject_withSubscribeTICInvalidDelivery() throws Exception {
+    // Given
+    JSONObject jsonObject =
+        readJsonObject("/tic/util/message/codec/Invalid_SubscribeTIC_Delivery.json");
+    Exception exception = null;
+
+    // When
+    try {
+      MessageJsonCodec.getInstance().decodeFromJsonObject(jsonObject);
+      Assert.fail("Expected MessageException to be thrown");
+    } catch (Exception ex) {
+      exception = ex;
+    }
+    // Then
+    Assert.assertNotNull(exception);
+    Assert.assertTrue(exception instanceof MessageException);
+  }
+
   @Test
   public void decodeFromJsonObject_withSubscribeTIC_oneIdentifier() throws Exception {
     // Given
@@ -402,6 +493,124 @@ public class MessageJsonCodecTest {
     Assert.assertTrue(exception instanceof MessageException);
   }
 
+  @Test
+  public void decodeFromJsonObject_withReadTicInvalidMaxAge() throws Exception {
+    // Given
+    JSONObject jsonObject = readJsonObject("/tic/util/message/codec/Invalid_ReadTIC_MaxAge.json");
+    Exception exception = null;
+
+    // When
+    try {
+      MessageJsonCodec.getInstance().decodeFromJsonObject(jsonObject);
+      Assert.fail("Expected MessageException to be thrown");
+    } catch (Exception ex) {
+      exception = ex;
+    }
+    // Then
+    Assert.assertNotNull(exception);
+    Assert.assertTrue(exception instanceof MessageException);
+  }
+
+  @Test
+  public void decodeFromJsonObject_withRequestId() throws Exception {
+    // Given
+    JSONObject stringIdObject =
+        readJsonObject("/tic/util/message/codec/RequestReadTIC_WithId.json");
+    JSONObject numberIdObject =
+        readJsonObject("/tic/util/message/codec/RequestGetAvailableTICs_WithNumberId.json");
+    JSONObject noIdObject = readJsonObject("/tic/util/message/codec/RequestGetAvailableTICs.json");
+
+    // When
+    Message stringIdMessage = MessageJsonCodec.getInstance().decodeFromJsonObject(stringIdObject);
+    Message numberIdMessage = MessageJsonCodec.getInstance().decodeFromJsonObject(numberIdObject);
+    Message noIdMessage = MessageJsonCodec.getInstance().decodeFromJsonObject(noIdObject);
+
+    // Then
+    Assert.assertEquals("read-42", ((Request) stringIdMessage).getId());
+    Assert.assertEquals(7, ((Number) ((Request) numberIdMessage).getId()).intValue());
+    Assert.assertNull(((Request) noIdMessage).getId());
+  }
+
+  @Test
+  public void decodeFromJsonObject_withInvalidRequestId() throws Exception {
+    // Given
+    JSONObject jsonObject = readJsonObject("/tic/util/message/codec/Invalid_Request_Id.json");
+    Exception exception = null;
+
+    // When
+    try {
+      MessageJsonCodec.getInstance().decodeFromJsonObject(jsonObject);
+      Assert.fail("Expected MessageException to be thrown");
+    } catch (Exception ex) {
+      exception = ex;
+    }
+    // Then
+    Assert.assertNotNull(exception);
+    Assert.assertTrue(exception instanceof MessageException);
+  }
+
+  @Test
+  public void encodeToJsonObject_withResponseId() {
+    // Given
+    Response response =
+        new ResponseSubscribeTIC(LocalDateTime.of(2025, 1, 2, 3, 4, 5), 0, null);
+    response.setId(7);
+    Response noIdResponse =
+        new ResponseSubscribeTIC(LocalDateTime.of(2025, 1, 2, 3, 4, 5), 0, null);
+
+    // When
+    JSONObject json = MessageJsonCodec.getInstance().encodeToJsonObject(response);
+    JSONObject noIdJson = MessageJsonCodec.getInstance().encodeToJsonObject(noIdResponse);
+
+    // Then
+    Assert.assertEquals(7, json.getInt("id"));
+    Assert.assertFalse(noIdJson.has("id"));
+  }
+
+  @Test
+  public void encodeToJsonObject_withSubscribeTICDelivery() {
+    // Given
+    List<TICIdentifier> identifiers =
+        Arrays.asList(new TICIdentifier.Builder().portName("COM7").build());
+    Message defaultRequest = new RequestSubscribeTIC(identifiers);
+    Message latestRequest = new RequestSubscribeTIC(identifiers, SubscriptionDelivery.LATEST);
+
+    // When
+    JSONObject defaultJson = MessageJsonCodec.getInstance().encodeToJsonObject(defaultRequest);
+    JSONObject latestJson = MessageJsonCodec.getInstance().encodeToJsonObject(latestRequest);
+
+    // Then
+    Assert.assertFalse(defaultJson.has("delivery"));
+    Assert.assertEquals("latest", latestJson.get("delivery"));
+  }
+
+  @Test
+  public void encodeToJsonObject_withSubscribeTICResults() {
+    // Given
+    TICIdentifier identifier1 = new TICIdentifier.Builder().portName("COM7").build();
+    TICIdentifier identifier2 = new TICIdentifier.Builder().portName("COM8").build();
+    Response response =
+        new ResponseSubscribeTIC(
+            LocalDateTime.of(2025, 1, 2, 3, 4, 5),
+            4,
+            "Stream COM8 not found!",
+            Arrays.asList(
+                new SubscriptionResult(identifier1, 0, null),
+                new SubscriptionResult(identifier2, 4, "Stream COM8 not found!")));
+
+    // When
+    JSONObject json = MessageJsonCodec.getInstance().encodeToJsonObject(response);
+
+    // Then
+    JSONArray data = json.getJSONArray("data");
+    Assert.assertEquals(2, data.length());
+    Assert.assertEquals("COM7", data.getJSONObject(0).getJSONObject("identifier").get("portName"));
+    Assert.assertEquals(0, data.getJSONObject(0).getInt("errorCode"));
+    Assert.assertFalse(data.getJSONObject(0).has("errorMessage"));
+    Assert.assertEquals(4, data.getJSONObject(1).getInt("errorCode"));
+    Assert.assertEquals("Stream COM8 not found!", data.getJSONObject(1).get("errorMessage"));
+  }
+
   @Test
   public void encodeToJsonObject_withGetAvailableTICs() {
     // Given
@@ -464,4 +673,73 @@ public class MessageJsonCodecTest {
     Assert.assertTrue(json.has("data"));
     Assert.assertEquals(0, json.getJSONArray("data").length());
   }
+
+  @Test
+  public void encodeToJsonString_withOnTICDataCompact() throws Exception {
+    // Given
+    TICFrame frame = new TICFrame(TICMode.STANDARD);
+    frame.addGroup(new TICGroup("ADSC", "031664001115"));
+    frame.addGroup(new TICGroup("PRM", "</\"quoted\"\\\t\u0001\u00e9\u2028"));
+    frame.addGroup(new TICGroup("SINSTS", "00150", false));
+    TICCoreFrame coreFrame =
+        new TICCoreFrame(
+            new TICIdentifier.Builder().portName("COM7").build(),
+            TICMode.STANDARD,
+            LocalDateTime.now(),
+            frame);
+    Message message = new EventOnTICData(LocalDateTime.now(), coreFrame);
+
+    // When
+    String jsonString =
+        MessageJsonCodec.getInstance().encodeToJsonString(message, JsonStringCodec.COMPACT_INDENT);
+
+    // Then
+    JSONObject expected = MessageJsonCodec.getInstance().encodeToJsonObject(message);
+    Assert.assertTrue(expected.similar(new JSONObject(jsonString)));
+    Assert.assertTrue(jsonString.contains(JSONObject.quote(frame.getGroup("PRM").getValue())));
+    Assert.assertFalse(jsonString.contains("\n"));
+  }
+
+  @Test
+  public void encodeToJsonString_withOnTICDataDuplicateLabels() throws Exception {
+    // Given
+    TICFrame frame = new TICFrame(TICMode.HISTORIC);
+    frame.addGroup(new TICGroup("ADCO", "031664001115"));
+    frame.addGroup(new TICGroup("PAPP", "00150"));
+    frame.addGroup(new TICGroup("PAPP", "00160"));
+    TICCoreFrame coreFrame =
+        new TICCoreFrame(
+            new TICIdentifier.Builder().portId("1-1").serialNumber("ABC").build(),
+            TICMode.HISTORIC,
+            LocalDateTime.now(),
+            frame);
+    Message message = new EventOnTICData(LocalDateTime.now(), coreFrame);
+
+    // When
+    String jsonString =
+        MessageJsonCodec.getInstance().encodeToJsonString(message, new StringBuilder()).toString();
+
+    // Then
+    JSONObject json = new JSONObject(jsonString);
+    Assert.assertTrue(MessageJsonCodec.getInstance().encodeToJsonObject(message).similar(json));
+    Assert.assertEquals("00160", json.getJSONObject("frame").getString("PAPP"));
+  }
+
+  @Test
+  public void encodeToJsonString_withOnErrorCompact() throws Exception {
+    // Given
+    TICCoreError error =
+        new TICCoreError(new TICIdentifier.Builder().portName("COM7").build(), -1, "Unplugged");
+    Message message = new EventOnError(LocalDateTime.now(), error);
+
+    // When
+    String jsonString =
+        MessageJsonCodec.getInstance().encodeToJsonString(message, JsonStringCodec.COMPACT_INDENT);
+
+    // Then
+    JSONObject json = new JSONObject(jsonString);
+    Assert.assertTrue(MessageJsonCodec.getInstance().encodeToJsonObject(message).similar(json));
+    Assert.assertEquals(-1, json.getInt("errorCode"));
+    Assert.assertTrue(json.isNull("frame"));
+  }
 }
@@ -0,0 +1,145 @@
+// Copyright (C) 2025 Enedis Smarties team <dt-dsi-nexus-lab-smarties@enedis.fr>
+//
+// SPDX-FileContributor: Jehan BOUSCH
+// SPDX-FileContributor: Mathieu SABARTHES
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package tic.util.task;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class NotificationDispatcherTest {
+
+  @Test
+  public void test_dispatch_sameLane_keepsSubmissionOrder() throws Exception {
+    // Given
+    NotificationDispatcher dispatcher = new NotificationDispatcher(4);
+    List<Integer> received = Collections.synchronizedList(new ArrayList<>());
+    CountDownLatch done = new CountDownLatch(100);
+
+    // When
+    for (int i = 0; i < 100; i++) {
+      int value = i;
+      dispatcher.dispatch(
+          "COM7",
+          () -> {
+            if (value % 10 == 0) {
+              sleep(2);
+            }
+            received.add(value);
+            done.countDown();
+          });
+    }
+
+    // Then
+    Assert.assertTrue(done.await(5, TimeUnit.SECONDS));
+    for (int i = 0; i < 100; i++) {
+      Assert.assertEquals(Integer.valueOf(i), received.get(i));
+    }
+    Assert.assertEquals(100, dispatcher.getDispatchedCount());
+    Assert.assertEquals(0, dispatcher.getQueueDepth());
+    dispatcher.shutdown();
+  }
+
+  @Test
+  public void test_dispatch_slowLane_doesNotBlockOtherLane() throws Exception {
+    // Given
+    NotificationDispatcher dispatcher = new NotificationDispatcher(2);
+    CountDownLatch slowStarted = new CountDownLatch(1);
+    CountDownLatch releaseSlow = new CountDownLatch(1);
+    CountDownLatch fastDone = new CountDownLatch(1);
+    dispatcher.dispatch(
+        "COM7",
+        () -> {
+          slowStarted.countDown();
+          await(releaseSlow);
+        });
+    Assert.assertTrue(slowStarted.await(5, TimeUnit.SECONDS));
+
+    // When
+    dispatcher.dispatch("COM8", fastDone::countDown);
+
+    // Then
+    Assert.assertTrue(fastDone.await(5, TimeUnit.SECONDS));
+    releaseSlow.countDown();
+    dispatcher.shutdown();
+  }
+
+  @Test
+  public void test_dispatch_failingNotification_nextOneRun() throws Exception {
+    // Given
+    NotificationDispatcher dispatcher = new NotificationDispatcher(1);
+    CountDownLatch done = new CountDownLatch(1);
+
+    // When
+    dispatcher.dispatch(
+        "COM7",
+        () -> {
+          throw new IllegalStateException("Subscriber failure");
+        });
+    dispatcher.dispatch("COM7", done::countDown);
+
+    // Then
+    Assert.assertTrue(done.await(5, TimeUnit.SECONDS));
+    Assert.assertTrue(dispatcher.getMaxDispatchLatency() >= dispatcher.getAverageDispatchLatency());
+    dispatcher.shutdown();
+  }
+
+  @Test
+  public void test_dispatch_errorInNotification_nextOneRun() throws Exception {
+    // Given
+    NotificationDispatcher dispatcher = new NotificationDispatcher(1);
+    CountDownLatch done = new CountDownLatch(1);
+
+    // When
+    dispatcher.dispatch(
+        "COM7",
+        () -> {
+          throw new AssertionError("Subscriber error");
+        });
+    dispatcher.dispatch("COM7", done::countDown);
+
+    // Then
+    Assert.assertTrue(done.await(5, TimeUnit.SECONDS));
+    Assert.assertEquals(0, dispatcher.getQueueDepth());
+    dispatcher.shutdown();
+  }
+
+  @Test
+  public void test_constructor_virtualThreads_dispatches() throws Exception {
+    // Given
+    NotificationDispatcher dispatcher =
+        new NotificationDispatcher(NotificationDispatcher.VIRTUAL_THREADS);
+    CountDownLatch done = new CountDownLatch(1);
+
+    // When
+    dispatcher.dispatch("COM7", done::countDown);
+
+    // Then
+    Assert.assertTrue(done.await(5, TimeUnit.SECONDS));
+    dispatcher.shutdown();
+  }
+
+  private static void sleep(long millis) {
+    try {
+      Thread.sleep(millis);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private static void await(CountDownLatch latch) {
+    try {
+      latch.await(5, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}